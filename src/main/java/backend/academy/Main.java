@@ -2,15 +2,28 @@ package backend.academy;
 
 import backend.academy.maze.Choice;
 import backend.academy.maze.Maze;
+import backend.academy.maze.ProceduralMaze;
 import backend.academy.maze.User;
 import backend.academy.maze.field.Coordinate;
+import backend.academy.maze.generators.BacktrackerGenerator;
+import backend.academy.maze.generators.BoruvkaGenerator;
+import backend.academy.maze.generators.CellularAutomatonGenerator;
+import backend.academy.maze.generators.EllerGenerator;
 import backend.academy.maze.generators.Generator;
+import backend.academy.maze.generators.GrowingTreeGenerator;
 import backend.academy.maze.generators.KruskalGenerator;
 import backend.academy.maze.generators.PrimGenerator;
+import backend.academy.maze.generators.RecursiveDivisionGenerator;
 import backend.academy.maze.renderers.ConsoleRenderer;
+import backend.academy.maze.sinks.ProgressCellSink;
 import backend.academy.maze.solvers.AStarSolver;
+import backend.academy.maze.solvers.BidirectionalSolver;
+import backend.academy.maze.solvers.BreadthFirstSearchSolver;
+import backend.academy.maze.solvers.CachingSolver;
 import backend.academy.maze.solvers.DepthFirstSearchSolver;
 import backend.academy.maze.solvers.Solver;
+import backend.academy.maze.solvers.TreeIndexSolver;
+import backend.academy.util.RandomSource;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
@@ -33,17 +46,29 @@ public class Main {
         User user = new User(ps, sc);
 
         ConsoleRenderer cr = new ConsoleRenderer(ps);
-        Generator[] generators = new Generator[] {new PrimGenerator(), new KruskalGenerator()};
-        Solver[] solvers = new Solver[] {new AStarSolver(), new DepthFirstSearchSolver()};
+        Generator[] generators = new Generator[] {
+            new PrimGenerator(), new KruskalGenerator(), new EllerGenerator(), new BoruvkaGenerator(),
+            new RecursiveDivisionGenerator(), new BacktrackerGenerator(), new GrowingTreeGenerator(),
+            new CellularAutomatonGenerator()
+        };
+        // Повторные запросы с теми же точками в том же лабиринте отвечаются из кэша. Поиск в глубину
+        // случайный и при повторе может найти другой путь, поэтому его результат не кэшируется
+        Solver[] solvers = new Solver[] {
+            new CachingSolver(new AStarSolver()), new DepthFirstSearchSolver(),
+            new CachingSolver(new BreadthFirstSearchSolver()), new CachingSolver(new BidirectionalSolver()),
+            new TreeIndexSolver()
+        };
         Generator generator = generators[0];
         Solver solver = solvers[0];
         Maze maze = null;
+        ProceduralMaze infiniteMaze = new ProceduralMaze(RandomSource.defaultSource().create().nextLong());
 
         Choice action = user.pollForMenuChoice();
         while (action != Choice.QUIT) {
             if (action == Choice.GENERATE_MAZE) {
                 List<Integer> mazeSize = user.pollForMazeGeneration();
-                maze = generator.generate(mazeSize.getFirst(), mazeSize.getLast());
+                maze = generator.generate(new Maze(mazeSize.getFirst(), mazeSize.getLast()),
+                    generator.randomSource().create(), new ProgressCellSink(ps));
                 cr.render(maze);
             } else if (action == Choice.SOLVE_MAZE) {
                 if (maze != null) {
@@ -65,6 +90,8 @@ public class Main {
             } else if (action == Choice.CHANGE_SOLVE_MAZE_ALGORITHM) {
                 int choice = user.pollForSolveMazeAlgorithmChange();
                 solver = solvers[choice];
+            } else if (action == Choice.EXPLORE_INFINITE_MAZE) {
+                cr.render(infiniteMaze);
             }
 
             action = user.pollForMenuChoice();
@@ -7,5 +7,6 @@ public enum Choice {
     PRINT_MAZE,
     CHANGE_GENERATE_MAZE_ALGORITHM,
     CHANGE_SOLVE_MAZE_ALGORITHM,
+    EXPLORE_INFINITE_MAZE,
     QUIT
 }
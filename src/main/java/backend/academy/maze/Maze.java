@@ -2,18 +2,29 @@ package backend.academy.maze;
 
 import backend.academy.maze.field.Cell;
 import backend.academy.maze.field.Coordinate;
-import lombok.AllArgsConstructor;
+import backend.academy.maze.field.PackedCoordinate;
+import backend.academy.maze.grid.ConcurrentPackedGrid;
+import backend.academy.maze.grid.Grid;
+import backend.academy.maze.grid.PackedGrid;
+import backend.academy.maze.grid.TiledGrid;
+import backend.academy.util.Hashing;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 
 /**
  * Класс представляет собой хранилище для лабиринта и его параметров.
+ * Сами клетки лежат в примитивном хранилище {@link Grid} по индексу {@code row * width + col}.
  */
 @Getter
-@AllArgsConstructor
-public class Maze {
+@RequiredArgsConstructor
+public class Maze implements MazeView {
     private final int height;
     private final int width;
-    private final Cell[][] grid;
+    private final Grid grid;
+    /** Вычисленный отпечаток или null, если клетки менялись после его вычисления */
+    @Getter(AccessLevel.NONE)
+    private volatile Long fingerprint;
 
     /**
      * Конструктор инициализирует поля и заполняет изначально все клетки стенами.
@@ -22,14 +33,39 @@ public class Maze {
      * @param width  ширина лабиринта
      */
     public Maze(int height, int width) {
-        this.height = height;
-        this.width = width;
-        grid = new Cell[height][width];
-        for (int row = 0; row < height; row++) {
-            for (int col = 0; col < width; col++) {
-                grid[row][col] = new Cell(new Coordinate(row, col), Cell.Type.WALL);
-            }
-        }
+        this(height, width, new PackedGrid(Math.multiplyExact(height, width)));
+    }
+
+    /**
+     * Создает лабиринт, заполненный стенами, в который можно писать из нескольких потоков
+     *
+     * @param height высота лабиринта
+     * @param width  ширина лабиринта
+     * @return лабиринт поверх {@link ConcurrentPackedGrid}
+     */
+    public static Maze concurrent(int height, int width) {
+        return new Maze(height, width, new ConcurrentPackedGrid(Math.multiplyExact(height, width)));
+    }
+
+    /**
+     * Создает лабиринт, заполненный стенами, память под который выделяется фрагментами 64x64
+     * только при первой записи прохода в фрагмент. Пока лабиринт строится или остаётся разреженным,
+     * он занимает память пропорционально затронутой площади, а не height * width. Каждое обращение
+     * к клетке стоит дороже, чем в {@link PackedGrid}: деление на ширину, чтение каталога и вызов
+     * фрагмента. Поэтому такой лабиринт нужен только там, где он действительно остаётся разреженным;
+     * генераторы идеальных лабиринтов затрагивают все фрагменты, и для них подходит обычный конструктор.
+     *
+     * @param height высота лабиринта
+     * @param width  ширина лабиринта
+     * @return лабиринт поверх {@link TiledGrid}
+     */
+    public static Maze tiled(int height, int width) {
+        return new Maze(height, width, new TiledGrid(height, width));
+    }
+
+    @Override
+    public Cell.Type getCellType(int row, int col) {
+        return Cell.Type.of(grid.get(row * width + col));
     }
 
     /**
@@ -37,8 +73,19 @@ public class Maze {
      *
      * @param c клетка
      */
+    @Override
     public Cell.Type getCellType(Coordinate c) {
-        return grid[c.row()][c.col()].type();
+        return getCellType(c.row(), c.col());
+    }
+
+    /**
+     * Получает тип клетки по её индексу
+     *
+     * @param index индекс клетки ({@code row * width + col})
+     * @return тип клетки
+     */
+    public Cell.Type getCellType(int index) {
+        return Cell.Type.of(grid.get(index));
     }
 
     /**
@@ -47,7 +94,79 @@ public class Maze {
      * @param c клетка
      */
     public void setCellType(Coordinate c, Cell.Type newType) {
-        grid[c.row()][c.col()].type(newType);
+        grid.set(c.row() * width + c.col(), newType.code());
+        invalidateFingerprint();
+    }
+
+    /**
+     * Обновляет тип клетки по её индексу
+     *
+     * @param index   индекс клетки ({@code row * width + col})
+     * @param newType новый тип клетки
+     */
+    public void setCellType(int index, Cell.Type newType) {
+        grid.set(index, newType.code());
+        invalidateFingerprint();
+    }
+
+    /**
+     * Захватывает клетку для генерации: превращает стену в проход, если это ещё никто не сделал.
+     * В потокобезопасном хранилище захват атомарен, поэтому клетку получает ровно один поток.
+     *
+     * @param index индекс клетки
+     * @return true, если клетка была стеной и захвачена этим вызовом, иначе false
+     */
+    public boolean claimCell(int index) {
+        boolean claimed = grid.compareAndSet(index, Cell.Type.WALL.code(), Cell.Type.PASSAGE.code());
+        if (claimed) {
+            invalidateFingerprint();
+        }
+        return claimed;
+    }
+
+    /**
+     * Рушит стену между двумя клетками, лежащими через одну друг от друга в строке или столбце
+     *
+     * @param from индекс первой клетки
+     * @param to   индекс второй клетки
+     * @return true, если стена была и разрушена этим вызовом, иначе false
+     */
+    public boolean openWall(int from, int to) {
+        boolean opened = grid.compareAndSet((from + to) / 2, Cell.Type.WALL.code(), Cell.Type.PASSAGE.code());
+        if (opened) {
+            invalidateFingerprint();
+        }
+        return opened;
+    }
+
+    /**
+     * Завершает запись клеток напрямую в {@link #grid()}: публикует их для других потоков
+     * ({@link Grid#publish()}) и сбрасывает запомненный отпечаток. Генераторы и приёмники клеток,
+     * которые пишут в хранилище в обход методов лабиринта, вызывают его после записи.
+     */
+    public void publish() {
+        grid.publish();
+        invalidateFingerprint();
+    }
+
+    /**
+     * Преобразует координату в индекс клетки этого лабиринта
+     *
+     * @param c координата
+     * @return индекс клетки
+     */
+    public int indexOf(Coordinate c) {
+        return PackedCoordinate.fromCoordinate(c, width);
+    }
+
+    /**
+     * Преобразует индекс клетки этого лабиринта в координату
+     *
+     * @param index индекс клетки
+     * @return координата
+     */
+    public Coordinate coordinateOf(int index) {
+        return PackedCoordinate.toCoordinate(index, width);
     }
 
     /**
@@ -56,12 +175,41 @@ public class Maze {
      * @return копия текущего лабиринта
      */
     public Maze getCopy() {
-        Cell[][] newGrid = new Cell[height][width];
-        for (int row = 0; row < height; row++) {
-            for (int col = 0; col < width; col++) {
-                newGrid[row][col] = new Cell(new Coordinate(row, col), grid[row][col].type());
-            }
+        return new Maze(height, width, grid.copy());
+    }
+
+    /**
+     * Вычисляет структурный отпечаток лабиринта: хеш размеров и всех клеток. Лабиринты с одинаковыми
+     * клетками получают одинаковый отпечаток, а любое изменение клетки его меняет (с точностью
+     * до коллизий 64-битного хеша). Первый вызов стоит один проход по хранилищу, для упакованного -
+     * по словам, а дальше отпечаток запоминается до первой записи через методы лабиринта
+     * или {@link #publish()}. Как и поиск пути, вычисление отпечатка не должно идти одновременно
+     * с записью клеток.
+     *
+     * @return отпечаток лабиринта
+     */
+    public long fingerprint() {
+        Long cached = fingerprint;
+        if (cached == null) {
+            cached = Hashing.hash(grid.fingerprint(), height, width);
+            fingerprint = cached;
         }
-        return new Maze(height, width, newGrid);
+        return cached;
+    }
+
+    /** Сбрасывает запомненный отпечаток; пока его нет, запись обходится одним чтением поля */
+    private void invalidateFingerprint() {
+        if (fingerprint != null) {
+            fingerprint = null;
+        }
+    }
+
+    /**
+     * Оценивает объём памяти, занимаемый клетками лабиринта
+     *
+     * @return количество байт
+     */
+    public long memoryFootprint() {
+        return grid.footprint();
     }
 }
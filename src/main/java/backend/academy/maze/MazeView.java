@@ -0,0 +1,40 @@
+package backend.academy.maze;
+
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.field.Coordinate;
+
+/** Интерфейс для чтения клеток лабиринта без возможности их изменить */
+public interface MazeView {
+    /**
+     * Получает высоту лабиринта
+     *
+     * @return количество строк
+     */
+    int height();
+
+    /**
+     * Получает ширину лабиринта
+     *
+     * @return количество столбцов
+     */
+    int width();
+
+    /**
+     * Получает тип указанной клетки
+     *
+     * @param row номер строки
+     * @param col номер столбца
+     * @return тип клетки
+     */
+    Cell.Type getCellType(int row, int col);
+
+    /**
+     * Получает тип указанной клетки
+     *
+     * @param c клетка
+     * @return тип клетки
+     */
+    default Cell.Type getCellType(Coordinate c) {
+        return getCellType(c.row(), c.col());
+    }
+}
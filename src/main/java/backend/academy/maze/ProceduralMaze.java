@@ -0,0 +1,151 @@
+package backend.academy.maze;
+
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.field.PackedCoordinate;
+import backend.academy.maze.generators.PrimGenerator;
+import backend.academy.maze.generators.RegionGenerator;
+import backend.academy.maze.grid.Grid;
+import backend.academy.util.Hashing;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Класс ProceduralMaze - бесконечный (в пределах int) лабиринт, который нигде не хранится целиком.
+ * Плоскость разбита на квадратные тайлы, и любой тайл строится по требованию из (seed, tileRow, tileCol):
+ * внутри него обычный генератор строит идеальный лабиринт с генератором случайных чисел от хеша этой
+ * тройки. Последние строка и столбец тайла - стены на границе с соседями снизу и справа, тайл владеет
+ * проходами в них. Каждый тайл, кроме самого первого, соединён одним проходом ровно с одним соседом:
+ * сверху или слева (в первой строке - всегда слева, в первом столбце - всегда сверху). Выбор и место
+ * прохода тоже берутся из хеша, поэтому соседние тайлы согласованы без всякой общей памяти, а тайлы
+ * с такими связями образуют дерево - весь лабиринт остаётся идеальным.
+ * Готовые тайлы лежат в ограниченном LRU-кэше, так что отрисовка окна стоит O(площади окна).
+ */
+@Getter
+public class ProceduralMaze implements MazeView {
+    /** Сторона тайла по-умолчанию */
+    public static final int DEFAULT_TILE_SIZE = 64;
+    /** Количество тайлов в кэше по-умолчанию */
+    public static final long DEFAULT_CACHE_SIZE = 1024;
+
+    /** Соль хеша для выбора соседа, с которым связан тайл */
+    private static final int PARENT_SALT = 1;
+    /** Соль хеша для места прохода между тайлами */
+    private static final int GATE_SALT = 2;
+
+    /** Зерно лабиринта */
+    private final long seed;
+    /** Генератор, которым строятся тайлы */
+    private final RegionGenerator generator;
+    /** Сторона тайла, четное число */
+    private final int tileSize;
+    @Getter(AccessLevel.NONE)
+    private final Cache<Long, Grid> tiles;
+
+    /**
+     * Конструктор с настройками по-умолчанию: тайлы строятся алгоритмом Прима
+     *
+     * @param seed зерно лабиринта
+     */
+    public ProceduralMaze(long seed) {
+        this(seed, new PrimGenerator(), DEFAULT_TILE_SIZE, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Конструктор
+     *
+     * @param seed      зерно лабиринта
+     * @param generator генератор тайлов
+     * @param tileSize  сторона тайла, четное число
+     * @param cacheSize сколько тайлов держать в памяти
+     */
+    public ProceduralMaze(long seed, RegionGenerator generator, int tileSize, long cacheSize) {
+        if (tileSize < 2 || tileSize % 2 != 0) {
+            throw new IllegalArgumentException("Сторона тайла должна быть четным числом, а не " + tileSize);
+        }
+        this.seed = seed;
+        this.generator = generator;
+        this.tileSize = tileSize;
+        this.tiles = Caffeine.newBuilder().maximumSize(cacheSize).build();
+    }
+
+    @Override
+    public int height() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int width() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public Cell.Type getCellType(int row, int col) {
+        int tileRow = row / tileSize;
+        int tileCol = col / tileSize;
+        Grid tile = tiles.get(PackedCoordinate.pack(tileRow, tileCol), key -> buildTile(tileRow, tileCol));
+        return Cell.Type.of(tile.get(PackedCoordinate.index(row - tileRow * tileSize, col - tileCol * tileSize,
+            tileSize)));
+    }
+
+    /**
+     * Получает количество тайлов, которые сейчас лежат в кэше
+     *
+     * @return приблизительное количество тайлов в памяти
+     */
+    public long cachedTiles() {
+        return tiles.estimatedSize();
+    }
+
+    /**
+     * Строит тайл: генерирует лабиринт внутри него и открывает проходы в его нижней и правой стенах
+     * к тем соседям, которые выбрали этот тайл своим родителем.
+     *
+     * @param tileRow номер строки тайла
+     * @param tileCol номер столбца тайла
+     * @return клетки тайла
+     */
+    private Grid buildTile(int tileRow, int tileCol) {
+        Maze tile = new Maze(tileSize, tileSize);
+        generator.generateRegion(tile, 0, 0, tileSize, tileSize,
+            generator.randomSource().create(Hashing.hash(seed, tileRow, tileCol)));
+
+        int border = tileSize - 1;
+        if (parentIsAbove(tileRow + 1, tileCol)) {
+            tile.setCellType(PackedCoordinate.index(border, gate(tileRow + 1, tileCol), tileSize), Cell.Type.PASSAGE);
+        }
+        if (!parentIsAbove(tileRow, tileCol + 1)) {
+            tile.setCellType(PackedCoordinate.index(gate(tileRow, tileCol + 1), border, tileSize), Cell.Type.PASSAGE);
+        }
+        return tile.grid();
+    }
+
+    /**
+     * Определяет, с каким соседом связан тайл. Вызывается только для тайлов, у которых родитель есть.
+     *
+     * @param tileRow номер строки тайла
+     * @param tileCol номер столбца тайла
+     * @return true, если тайл связан с тайлом сверху, false - если с тайлом слева
+     */
+    private boolean parentIsAbove(int tileRow, int tileCol) {
+        if (tileRow == 0) {
+            return false;
+        }
+        if (tileCol == 0) {
+            return true;
+        }
+        return (Hashing.hash(seed + PARENT_SALT, tileRow, tileCol) & 1) == 0;
+    }
+
+    /**
+     * Выбирает место прохода от тайла к родителю вдоль общей стены
+     *
+     * @param tileRow номер строки тайла
+     * @param tileCol номер столбца тайла
+     * @return четное смещение прохода вдоль стены
+     */
+    private int gate(int tileRow, int tileCol) {
+        return 2 * (int) Long.remainderUnsigned(Hashing.hash(seed + GATE_SALT, tileRow, tileCol), tileSize / 2);
+    }
+}
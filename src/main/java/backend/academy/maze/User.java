@@ -117,9 +117,10 @@ public class User {
                 3) Напечатать текущий лабиринт
                 4) Сменить алгоритм генерации лабиринта
                 5) Сменить алгоритм решения лабиринта
-                6) Выйти"""
+                6) Исследовать бесконечный лабиринт
+                7) Выйти"""
         );
-        final int choicesNumber = 6;
+        final int choicesNumber = 7;
         return Choice.values()[getNumberChoice(choicesNumber)];
     }
 
@@ -133,9 +134,15 @@ public class User {
             """
                 Выберите алгоритм из доступных ниже (одно число):
                 1) алгоритм Прима
-                2) алгоритм Краскала"""
+                2) алгоритм Краскала
+                3) алгоритм Эллера
+                4) параллельный алгоритм Борувки
+                5) параллельное рекурсивное деление
+                6) поиск в глубину с возвратом (длинные коридоры)
+                7) растущее дерево (поровну коридоров и развилок)
+                8) клеточный автомат Maze (пещеры, путь может не найтись)"""
         );
-        final int generateMazeAlgorithmNumber = 2;
+        final int generateMazeAlgorithmNumber = 8;
         int choice = getNumberChoice(generateMazeAlgorithmNumber);
         ps.printf("Выбрана опция %d, алгоритм генерации лабиринта изменён.%n", choice + 1);
         return choice;
@@ -151,9 +158,12 @@ public class User {
             """
                 Выберите алгоритм из доступных ниже (одно число):
                 1) алгоритм A* (A star)
-                2) алгоритм поиска в глубину"""
+                2) алгоритм поиска в глубину
+                3) алгоритм поиска в ширину (кратчайший путь)
+                4) двунаправленный поиск в ширину (кратчайший путь)
+                5) поиск по индексу дерева (мгновенно для идеальных лабиринтов)"""
         );
-        final int generateMazeAlgorithmNumber = 2;
+        final int generateMazeAlgorithmNumber = 5;
         int choice = getNumberChoice(generateMazeAlgorithmNumber);
         ps.printf("Выбрана опция %d, алгоритм решения лабиринта изменён.%n", choice + 1);
         return choice;
@@ -0,0 +1,165 @@
+package backend.academy.maze.benchmarks;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Coordinate;
+import backend.academy.maze.generators.KruskalGenerator;
+import backend.academy.maze.solvers.AStarSolver;
+import backend.academy.maze.solvers.BatchSolver;
+import backend.academy.maze.solvers.BreadthFirstSearchSolver;
+import backend.academy.maze.solvers.PathQuery;
+import backend.academy.maze.solvers.Solver;
+import backend.academy.maze.solvers.TreeIndexSolver;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH-бенчмарк пакетного решения: один и тот же набор случайных запросов в одном лабиринте решается
+ * последовательным циклом по {@link Solver#solve} и через {@link BatchSolver} в пулах с разным
+ * количеством потоков. Лабиринт и запросы лежат в состоянии {@link Queries}, а пул - в {@link Pool},
+ * поэтому параметр threads перебирается только для пакетных замеров, а последовательный цикл
+ * замеряется один раз на решатель.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BatchSolverBenchmark {
+    private static final long SEED = 42;
+
+    /**
+     * Решает запросы по одному в текущем потоке.
+     *
+     * @param queries лабиринт, решатель и запросы
+     * @return найденные пути, чтобы JIT не выбросил вычисления
+     */
+    @Benchmark
+    public List<LinkedList<Coordinate>> sequential(Queries queries) {
+        List<LinkedList<Coordinate>> paths = new ArrayList<>(queries.batch.size());
+        for (PathQuery query : queries.batch) {
+            paths.add(queries.instance.solve(queries.maze, query.start(), query.finish()));
+        }
+        return paths;
+    }
+
+    /**
+     * Решает запросы пакетом в пуле.
+     *
+     * @param queries лабиринт, решатель и запросы
+     * @param pool    пул потоков
+     * @return найденные пути, чтобы JIT не выбросил вычисления
+     */
+    @Benchmark
+    public List<LinkedList<Coordinate>> batch(Queries queries, Pool pool) {
+        return new BatchSolver(queries.instance, pool.pool).solveAll(queries.maze, queries.batch);
+    }
+
+    /**
+     * Решает запросы пакетом в пуле, получая пути в виде индексов клеток.
+     *
+     * @param queries лабиринт, решатель и запросы
+     * @param pool    пул потоков
+     * @return найденные пути, чтобы JIT не выбросил вычисления
+     */
+    @Benchmark
+    public int[][] batchIndices(Queries queries, Pool pool) {
+        return new BatchSolver(queries.instance, pool.pool).findPaths(queries.maze, queries.batch);
+    }
+
+    /** Лабиринт, решатель и набор запросов; от количества потоков не зависят */
+    @State(Scope.Benchmark)
+    public static class Queries {
+        /** Название решателя */
+        @Param({"bfs", "astar", "tree-index"})
+        public String solver;
+
+        /** Сторона квадратного лабиринта */
+        @Param({"1001"})
+        public int size;
+
+        /** Количество запросов в пакете */
+        @Param({"1000"})
+        public int queries;
+
+        private Solver instance;
+        private Maze maze;
+        private List<PathQuery> batch;
+
+        /** Генерирует лабиринт и запросы, создает решатель */
+        @Setup
+        public void setUp() {
+            instance = switch (solver) {
+                case "bfs" -> new BreadthFirstSearchSolver();
+                case "astar" -> new AStarSolver();
+                case "tree-index" -> new TreeIndexSolver();
+                default -> throw new IllegalArgumentException("Неизвестный решатель: " + solver);
+            };
+            maze = new KruskalGenerator().generate(size, size, SEED);
+            if (instance instanceof TreeIndexSolver treeIndex) {
+                treeIndex.index(maze);
+            }
+
+            SplittableRandom random = new SplittableRandom(SEED);
+            int cells = (size + 1) / 2;
+            batch = new ArrayList<>(queries);
+            for (int i = 0; i < queries; i++) {
+                batch.add(new PathQuery(
+                    new Coordinate(2 * random.nextInt(cells), 2 * random.nextInt(cells)),
+                    new Coordinate(2 * random.nextInt(cells), 2 * random.nextInt(cells))));
+            }
+        }
+    }
+
+    /** Пул потоков для пакетных замеров */
+    @State(Scope.Benchmark)
+    public static class Pool {
+        /** Количество потоков в пуле */
+        @Param({"1", "2", "4", "8"})
+        public int threads;
+
+        private ForkJoinPool pool;
+
+        /** Создает пул */
+        @Setup
+        public void setUp() {
+            pool = new ForkJoinPool(threads);
+        }
+
+        /** Останавливает пул */
+        @TearDown
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Запускает бенчмарк
+     *
+     * @param args не используются
+     * @throws RunnerException если JMH не смог запустить бенчмарк
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(BatchSolverBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,110 @@
+package backend.academy.maze.benchmarks;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.generators.BacktrackerGenerator;
+import backend.academy.maze.generators.BoruvkaGenerator;
+import backend.academy.maze.generators.CellularAutomatonGenerator;
+import backend.academy.maze.generators.EllerGenerator;
+import backend.academy.maze.generators.Generator;
+import backend.academy.maze.generators.GrowingTreeGenerator;
+import backend.academy.maze.generators.KruskalGenerator;
+import backend.academy.maze.generators.PrimGenerator;
+import backend.academy.maze.generators.RecursiveDivisionGenerator;
+import backend.academy.maze.generators.SelectionPolicy;
+import backend.academy.maze.sinks.CountingCellSink;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH-бенчмарк генераторов лабиринта.
+ * Запуск из собранного jar: {@code java -cp target/java-1.0.0.jar org.openjdk.jmh.Main GeneratorBenchmark -prof gc},
+ * либо через {@link #main(String[])}, который сразу подключает профилировщик аллокаций.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GeneratorBenchmark {
+    private static final long SEED = 42;
+
+    /** Название генератора */
+    @Param({"prim", "kruskal", "eller", "boruvka", "division", "backtracker", "growing-newest",
+        "growing-random", "growing-mix", "automaton"})
+    public String generator;
+
+    /** Сторона квадратного лабиринта */
+    @Param({"1001", "4001"})
+    public int size;
+
+    private Generator instance;
+
+    /** Создает генератор по его названию */
+    @Setup
+    public void setUp() {
+        instance = switch (generator) {
+            case "prim" -> new PrimGenerator();
+            case "kruskal" -> new KruskalGenerator();
+            case "eller" -> new EllerGenerator();
+            case "boruvka" -> new BoruvkaGenerator();
+            case "division" -> new RecursiveDivisionGenerator();
+            case "backtracker" -> new BacktrackerGenerator();
+            case "growing-newest" -> new GrowingTreeGenerator(SelectionPolicy.NEWEST);
+            case "growing-random" -> new GrowingTreeGenerator(SelectionPolicy.RANDOM);
+            case "growing-mix" -> new GrowingTreeGenerator(SelectionPolicy.mix(1, 1, 0));
+            case "automaton" -> new CellularAutomatonGenerator();
+            default -> throw new IllegalArgumentException("Неизвестный генератор: " + generator);
+        };
+    }
+
+    /**
+     * Генерирует лабиринт с фиксированным зерном.
+     *
+     * @return сгенерированный лабиринт, чтобы JIT не выбросил вычисления
+     */
+    @Benchmark
+    public Maze generate() {
+        return instance.generate(size, size, SEED);
+    }
+
+    /**
+     * Генерирует тот же лабиринт, сообщая о ходе генерации в счётчик событий.
+     * Разница с {@link #generate()} - стоимость событий генерации.
+     *
+     * @return счётчик событий, чтобы JIT не выбросил вычисления
+     */
+    @Benchmark
+    public CountingCellSink generateWithSink() {
+        CountingCellSink sink = new CountingCellSink();
+        instance.generate(new Maze(size, size), instance.randomSource().create(SEED), sink);
+        return sink;
+    }
+
+    /**
+     * Запускает бенчмарк вместе с профилировщиком GC.
+     *
+     * @param args не используются
+     * @throws RunnerException если JMH не смог запустить бенчмарк
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(GeneratorBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
@@ -0,0 +1,96 @@
+package backend.academy.maze.benchmarks;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.field.Coordinate;
+import backend.academy.maze.field.PackedCoordinate;
+import backend.academy.maze.solvers.AStarSolver;
+import backend.academy.maze.solvers.Solver;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.PriorityQueue;
+import lombok.AllArgsConstructor;
+
+/**
+ * Класс LegacyAStarSolver - прежняя реализация A* на объектах Node, {@link PriorityQueue} и хэш-таблицах.
+ * Оставлена только как точка отсчёта для {@link SolverBenchmark}, в программе используется {@link AStarSolver}.
+ */
+public class LegacyAStarSolver implements Solver {
+
+    /**
+     * Находит путь между двумя точками в лабиринте алгоритмом A*.
+     * Алгоритм реализован на очереди с приоритетом. Таким образом сверху очереди
+     * будут всплывать ноды с наименьшей стоимостью пути. Сначала добавляем стартовую точку.
+     * Пока nodesToSee не опустеет извлекаем из неё текущий элемент: если он равен финишной
+     * точке, то заканчиваем; иначе проверяем соседей текущей точки и добавляем их в очередь
+     * с расчетом текущей стоимости. Стоимость рассчитывается через Манхеттенское расстояние.
+     * Алгоритм A* работает быстрее, нежели DFS, поскольку учитывает стоимость пути.
+     *
+     * @param maze   лабиринт, в котором нужно искать путь
+     * @param start  начальная точка
+     * @param finish конечная точка
+     * @return список из координат найденного пути (в порядке от начало до конца)
+     */
+    @Override
+    public LinkedList<Coordinate> solve(Maze maze, Coordinate start, Coordinate finish) {
+        if (maze.getCellType(start) == Cell.Type.WALL || maze.getCellType(finish) == Cell.Type.WALL) {
+            return new LinkedList<>();
+        }
+
+        int height = maze.height();
+        int width = maze.width();
+        int startIndex = maze.indexOf(start);
+        int finishIndex = maze.indexOf(finish);
+
+        PriorityQueue<Node> nodesToSee = new PriorityQueue<>(Comparator.comparingInt(node -> node.totalCost));
+        IntOpenHashSet visited = new IntOpenHashSet();
+        Int2IntOpenHashMap cameFromPoint = new Int2IntOpenHashMap();
+        cameFromPoint.defaultReturnValue(PackedCoordinate.NONE);
+
+        int estimatedLeftPathCost = PackedCoordinate.manhattanDistance(startIndex, finishIndex, width);
+        nodesToSee.add(new Node(startIndex, 0, estimatedLeftPathCost, estimatedLeftPathCost));
+        while (!nodesToSee.isEmpty()) {
+            Node current = nodesToSee.poll();
+
+            if (current.pos == finishIndex) {
+                LinkedList<Coordinate> path = new LinkedList<>();
+                for (int point = current.pos; point != PackedCoordinate.NONE; point = cameFromPoint.get(point)) {
+                    path.addFirst(maze.coordinateOf(point));
+                }
+                return path;
+            }
+
+            visited.add(current.pos);
+            int row = PackedCoordinate.row(current.pos, width);
+            int col = PackedCoordinate.col(current.pos, width);
+            for (int direction = 0; direction < PackedCoordinate.DIRECTIONS; direction++) {
+                int neighbor = PackedCoordinate.neighbor(row, col, direction, 1, height, width);
+                if (neighbor == PackedCoordinate.NONE || visited.contains(neighbor)
+                    || maze.getCellType(neighbor) == Cell.Type.WALL) {
+                    continue;
+                }
+
+                int currentPathCost = current.currentPathCost + 1;
+                cameFromPoint.put(neighbor, current.pos);
+                estimatedLeftPathCost = PackedCoordinate.manhattanDistance(neighbor, finishIndex, width);
+                Node neighborNode = new Node(neighbor, currentPathCost, estimatedLeftPathCost,
+                    currentPathCost + estimatedLeftPathCost);
+                nodesToSee.add(neighborNode);
+            }
+        }
+
+        return new LinkedList<>();
+    }
+
+    /** Класс Node по сути необходим для хранения точки и стоимости пути */
+    @AllArgsConstructor
+    static class Node {
+        int pos;
+        int currentPathCost;
+        int estimatedLeftPathCost;
+        int totalCost;
+    }
+}
+
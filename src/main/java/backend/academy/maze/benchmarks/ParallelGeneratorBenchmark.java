@@ -0,0 +1,104 @@
+package backend.academy.maze.benchmarks;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.generators.BoruvkaGenerator;
+import backend.academy.maze.generators.CellularAutomatonGenerator;
+import backend.academy.maze.generators.Generator;
+import backend.academy.maze.generators.KruskalGenerator;
+import backend.academy.maze.generators.LifeRule;
+import backend.academy.maze.generators.ParallelGenerator;
+import backend.academy.maze.generators.PrimGenerator;
+import backend.academy.maze.generators.RecursiveDivisionGenerator;
+import backend.academy.util.RandomSource;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH-бенчмарк параллельных генераторов: генерации по тайлам, алгоритма Борувки, рекурсивного деления
+ * и клеточного автомата.
+ * Сравнивает время генерации одного и того же лабиринта в пулах с разным количеством потоков,
+ * чтобы оценить ускорение от числа ядер.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParallelGeneratorBenchmark {
+    private static final long SEED = 42;
+
+    /** Название генератора */
+    @Param({"prim", "kruskal", "boruvka", "division", "automaton"})
+    public String generator;
+
+    /** Количество потоков в пуле */
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    /** Сторона квадратного лабиринта */
+    @Param({"4001"})
+    public int size;
+
+    private ForkJoinPool pool;
+    private Generator instance;
+
+    /** Создает пул и генератор */
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(threads);
+        instance = switch (generator) {
+            case "prim" -> new ParallelGenerator(new PrimGenerator(), ParallelGenerator.DEFAULT_TILE_SIZE, pool);
+            case "kruskal" -> new ParallelGenerator(new KruskalGenerator(), ParallelGenerator.DEFAULT_TILE_SIZE, pool);
+            case "boruvka" -> new BoruvkaGenerator(RandomSource.defaultSource(), pool);
+            case "division" -> new RecursiveDivisionGenerator(RandomSource.defaultSource(), pool,
+                RecursiveDivisionGenerator.DEFAULT_THRESHOLD);
+            case "automaton" -> new CellularAutomatonGenerator(RandomSource.defaultSource(), LifeRule.MAZE,
+                CellularAutomatonGenerator.DEFAULT_GENERATIONS, CellularAutomatonGenerator.DEFAULT_DENSITY, pool);
+            default -> throw new IllegalArgumentException("Неизвестный генератор: " + generator);
+        };
+    }
+
+    /** Останавливает пул */
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Генерирует лабиринт с фиксированным зерном.
+     *
+     * @return сгенерированный лабиринт, чтобы JIT не выбросил вычисления
+     */
+    @Benchmark
+    public Maze generate() {
+        return instance.generate(size, size, SEED);
+    }
+
+    /**
+     * Запускает бенчмарк
+     *
+     * @param args не используются
+     * @throws RunnerException если JMH не смог запустить бенчмарк
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ParallelGeneratorBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
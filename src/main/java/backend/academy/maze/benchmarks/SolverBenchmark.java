@@ -0,0 +1,108 @@
+package backend.academy.maze.benchmarks;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Coordinate;
+import backend.academy.maze.generators.KruskalGenerator;
+import backend.academy.maze.solvers.AStarSolver;
+import backend.academy.maze.solvers.BidirectionalSolver;
+import backend.academy.maze.solvers.BreadthFirstSearchSolver;
+import backend.academy.maze.solvers.CachingSolver;
+import backend.academy.maze.solvers.DepthFirstSearchSolver;
+import backend.academy.maze.solvers.Solver;
+import backend.academy.maze.solvers.TreeIndexSolver;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH-бенчмарк решателей: ищет путь между противоположными углами одного и того же идеального лабиринта.
+ * Сравнивает {@link AStarSolver} с прежней реализацией {@link LegacyAStarSolver}, поиском в глубину,
+ * поиском в ширину {@link BreadthFirstSearchSolver} и двунаправленным поиском {@link BidirectionalSolver}
+ * во всех его режимах. Для {@link TreeIndexSolver} индекс строится заранее в {@link #setUp()}, а у
+ * {@link CachingSolver} после первого вызова все запросы попадают в кэш, так что у обоих замеряются
+ * только ответы на запросы. Запуск через
+ * {@link #main(String[])} показывает и время, и аллокации на поиск.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class SolverBenchmark {
+    private static final long SEED = 42;
+
+    /** Название решателя */
+    @Param({"astar", "legacy-astar", "dfs", "bfs", "bidi-bfs", "bidi-astar", "bidi-parallel",
+        "tree-index", "cached-bfs"})
+    public String solver;
+
+    /** Сторона квадратного лабиринта */
+    @Param({"1001", "5001"})
+    public int size;
+
+    private Solver instance;
+    private Maze maze;
+    private Coordinate start;
+    private Coordinate finish;
+
+    /** Генерирует лабиринт и создает решатель по его названию */
+    @Setup
+    public void setUp() {
+        instance = switch (solver) {
+            case "astar" -> new AStarSolver();
+            case "legacy-astar" -> new LegacyAStarSolver();
+            case "dfs" -> new DepthFirstSearchSolver();
+            case "bfs" -> new BreadthFirstSearchSolver();
+            case "bidi-bfs" -> new BidirectionalSolver(BidirectionalSolver.Mode.BFS);
+            case "bidi-astar" -> new BidirectionalSolver(BidirectionalSolver.Mode.A_STAR);
+            case "bidi-parallel" -> new BidirectionalSolver(BidirectionalSolver.Mode.PARALLEL_BFS);
+            case "tree-index" -> new TreeIndexSolver();
+            case "cached-bfs" -> new CachingSolver(new BreadthFirstSearchSolver());
+            default -> throw new IllegalArgumentException("Неизвестный решатель: " + solver);
+        };
+        maze = new KruskalGenerator().generate(size, size, SEED);
+        start = new Coordinate(0, 0);
+        finish = new Coordinate(size - 1, size - 1);
+        if (instance instanceof TreeIndexSolver treeIndex) {
+            treeIndex.index(maze);
+        }
+    }
+
+    /**
+     * Находит путь между углами лабиринта.
+     *
+     * @return найденный путь, чтобы JIT не выбросил вычисления
+     */
+    @Benchmark
+    public LinkedList<Coordinate> solve() {
+        return instance.solve(maze, start, finish);
+    }
+
+    /**
+     * Запускает бенчмарк вместе с профилировщиком GC.
+     *
+     * @param args не используются
+     * @throws RunnerException если JMH не смог запустить бенчмарк
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(SolverBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
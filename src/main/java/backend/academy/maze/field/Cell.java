@@ -30,8 +30,30 @@ public class Cell {
         /** Символ самого пути при поиске пути */
         PATH("\uD83D\uDFE9");
 
+        /** Кэш значений перечисления, чтобы не копировать массив при каждом вызове values() */
+        private static final Type[] VALUES = values();
+
         private final String symbol;
 
+        /**
+         * Получает тип клетки по его коду в примитивном хранилище
+         *
+         * @param code код типа (порядковый номер)
+         * @return тип клетки
+         */
+        public static Type of(int code) {
+            return VALUES[code];
+        }
+
+        /**
+         * Получает код типа клетки для примитивного хранилища
+         *
+         * @return код типа (порядковый номер)
+         */
+        public byte code() {
+            return (byte) ordinal();
+        }
+
         /**
          * Преобразовывает объект перечисления Type в строку
          *
@@ -0,0 +1,181 @@
+package backend.academy.maze.field;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Класс PackedCoordinate содержит статические методы для работы с координатами в упакованном виде:
+ * индексом клетки {@code row * width + col} (int) или парой строка/столбец в одном long.
+ * Позволяет генераторам и решателям обходить соседей без создания объектов {@link Coordinate},
+ * которые остаются только на границе с пользователем.
+ */
+@UtilityClass
+public class PackedCoordinate {
+    /** Количество направлений для обхода соседей */
+    public static final int DIRECTIONS = 4;
+    /** Значение, возвращаемое вместо индекса, если сосед лежит за границами лабиринта */
+    public static final int NONE = -1;
+
+    /** Смещения по строкам для направлений: вверх, вниз, влево, вправо */
+    private static final int[] ROW_OFFSETS = {-1, 1, 0, 0};
+    /** Смещения по столбцам для направлений: вверх, вниз, влево, вправо */
+    private static final int[] COL_OFFSETS = {0, 0, -1, 1};
+    /** Количество бит под номер столбца в упакованном long */
+    private static final int COL_BITS = 32;
+    /** Маска для номера столбца в упакованном long */
+    private static final long COL_MASK = 0xFFFFFFFFL;
+
+    /**
+     * Получает индекс клетки
+     *
+     * @param row   номер строки
+     * @param col   номер столбца
+     * @param width ширина лабиринта
+     * @return индекс клетки
+     */
+    public static int index(int row, int col, int width) {
+        return row * width + col;
+    }
+
+    /**
+     * Получает номер строки по индексу клетки
+     *
+     * @param index индекс клетки
+     * @param width ширина лабиринта
+     * @return номер строки
+     */
+    public static int row(int index, int width) {
+        return index / width;
+    }
+
+    /**
+     * Получает номер столбца по индексу клетки
+     *
+     * @param index индекс клетки
+     * @param width ширина лабиринта
+     * @return номер столбца
+     */
+    public static int col(int index, int width) {
+        return index % width;
+    }
+
+    /**
+     * Упаковывает строку и столбец в одно число, не зависящее от ширины лабиринта
+     *
+     * @param row номер строки
+     * @param col номер столбца
+     * @return упакованная координата
+     */
+    public static long pack(int row, int col) {
+        return ((long) row << COL_BITS) | (col & COL_MASK);
+    }
+
+    /**
+     * Получает номер строки из упакованной координаты
+     *
+     * @param packed упакованная координата
+     * @return номер строки
+     */
+    public static int unpackRow(long packed) {
+        return (int) (packed >> COL_BITS);
+    }
+
+    /**
+     * Получает номер столбца из упакованной координаты
+     *
+     * @param packed упакованная координата
+     * @return номер столбца
+     */
+    public static int unpackCol(long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Проверяет, что точка лежит в границах лабиринта
+     *
+     * @param row    номер строки
+     * @param col    номер столбца
+     * @param height высота лабиринта
+     * @param width  ширина лабиринта
+     * @return логическое true, если точка в границах поля, иначе false
+     */
+    public static boolean inBounds(int row, int col, int height, int width) {
+        return row >= 0 && row < height && col >= 0 && col < width;
+    }
+
+    /**
+     * Ищет соседа клетки в заданном направлении
+     *
+     * @param row       номер строки клетки
+     * @param col       номер столбца клетки
+     * @param direction номер направления от 0 до {@link #DIRECTIONS} (вверх, вниз, влево, вправо)
+     * @param step      расстояние до соседа (1 - соседняя клетка, 2 - клетка через стену)
+     * @param height    высота лабиринта
+     * @param width     ширина лабиринта
+     * @return индекс соседа или {@link #NONE}, если он за границами лабиринта
+     */
+    public static int neighbor(int row, int col, int direction, int step, int height, int width) {
+        int neighborRow = row + ROW_OFFSETS[direction] * step;
+        int neighborCol = col + COL_OFFSETS[direction] * step;
+        return inBounds(neighborRow, neighborCol, height, width) ? neighborRow * width + neighborCol : NONE;
+    }
+
+    /**
+     * Ищет соседа клетки в заданном направлении
+     *
+     * @param index     индекс клетки
+     * @param direction номер направления от 0 до {@link #DIRECTIONS} (вверх, вниз, влево, вправо)
+     * @param step      расстояние до соседа (1 - соседняя клетка, 2 - клетка через стену)
+     * @param height    высота лабиринта
+     * @param width     ширина лабиринта
+     * @return индекс соседа или {@link #NONE}, если он за границами лабиринта
+     */
+    public static int neighbor(int index, int direction, int step, int height, int width) {
+        int row = index / width;
+        return neighbor(row, index - row * width, direction, step, height, width);
+    }
+
+    /**
+     * Получает разницу индексов соседних клеток в заданном направлении. Границы не проверяются.
+     *
+     * @param direction номер направления от 0 до {@link #DIRECTIONS} (вверх, вниз, влево, вправо)
+     * @param width     ширина лабиринта (расстояние между строками в индексах)
+     * @return смещение индекса на одну клетку в заданном направлении
+     */
+    public static int offset(int direction, int width) {
+        return ROW_OFFSETS[direction] * width + COL_OFFSETS[direction];
+    }
+
+    /**
+     * Получает манхэттенское расстояние между двумя клетками
+     *
+     * @param a     индекс первой клетки
+     * @param b     индекс второй клетки
+     * @param width ширина лабиринта
+     * @return манхэттенское расстояние
+     */
+    public static int manhattanDistance(int a, int b, int width) {
+        return Math.abs(a / width - b / width) + Math.abs(a % width - b % width);
+    }
+
+    /**
+     * Преобразует координату в индекс клетки
+     *
+     * @param c     координата
+     * @param width ширина лабиринта
+     * @return индекс клетки
+     */
+    public static int fromCoordinate(Coordinate c, int width) {
+        return index(c.row(), c.col(), width);
+    }
+
+    /**
+     * Преобразует индекс клетки в координату
+     *
+     * @param index индекс клетки
+     * @param width ширина лабиринта
+     * @return координата клетки
+     */
+    public static Coordinate toCoordinate(int index, int width) {
+        return new Coordinate(row(index, width), col(index, width));
+    }
+}
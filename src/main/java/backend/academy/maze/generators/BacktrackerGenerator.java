@@ -0,0 +1,142 @@
+package backend.academy.maze.generators;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.field.PackedCoordinate;
+import backend.academy.maze.grid.Grid;
+import backend.academy.maze.sinks.CellBuffer;
+import backend.academy.maze.sinks.CellSink;
+import backend.academy.util.LongBitSet;
+import backend.academy.util.RandomSource;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.random.RandomGenerator;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Класс BacktrackerGenerator необходим для генерации лабиринта посредством поиска в глубину с возвратом
+ * (recursive backtracker). Такой лабиринт состоит из длинных извилистых коридоров с редкими развилками,
+ * поэтому хорошо подходит для нагрузочного тестирования решателей. Рекурсия заменена явным стеком
+ * на примитивном массиве, так что глубина ограничена только памятью.
+ */
+@Getter
+@AllArgsConstructor
+public class BacktrackerGenerator implements Generator {
+    /** Количество перестановок направлений */
+    static final int PERMUTATIONS = 24;
+    /** Все перестановки направлений подряд, по {@link PackedCoordinate#DIRECTIONS} на перестановку */
+    static final byte[] DIRECTION_ORDERS = directionOrders();
+
+    /** Источник случайности */
+    private final RandomSource randomSource;
+
+    /** Конструктор по-умолчанию, использует источник случайности по умолчанию */
+    public BacktrackerGenerator() {
+        this(RandomSource.defaultSource());
+    }
+
+    /**
+     * Генерирует лабиринт. Из случайной четной клетки идём в случайную непосещённую соседнюю
+     * клетку через стену, разрушая стену, и кладём её на стек. Если непосещённых соседей нет,
+     * то снимаем клетку со стека и продолжаем с предыдущей. Порядок просмотра соседей берётся
+     * из таблицы всех 24 перестановок направлений, поэтому на шаге ничего не создаётся.
+     *
+     * @param maze   лабиринт, заполненный стенами
+     * @param random генератор случайных чисел
+     * @return тот же лабиринт с вырезанными проходами
+     */
+    @Override
+    public Maze generate(Maze maze, RandomGenerator random) {
+        carve(maze, random, null);
+        return maze;
+    }
+
+    @Override
+    public Maze generate(Maze maze, RandomGenerator random, CellSink sink) {
+        CellBuffer events = new CellBuffer(sink, CellBuffer.perfectMazePassages(maze.height(), maze.width()));
+        carve(maze, random, events);
+        events.finish();
+        return maze;
+    }
+
+    /**
+     * Вырезает проходы поиском в глубину
+     *
+     * @param maze   лабиринт, заполненный стенами
+     * @param random генератор случайных чисел
+     * @param events буфер событий генерации или null, если о них сообщать не нужно
+     */
+    private void carve(Maze maze, RandomGenerator random, CellBuffer events) {
+        int height = maze.height();
+        int width = maze.width();
+        Grid grid = maze.grid();
+        byte passage = Cell.Type.PASSAGE.code();
+
+        LongBitSet visited = new LongBitSet(height * width);
+        IntArrayList stack = new IntArrayList();
+        int start = PackedCoordinate.index(2 * random.nextInt((height + 1) / 2), 2 * random.nextInt((width + 1) / 2),
+            width);
+        visited.set(start);
+        grid.set(start, passage);
+        if (events != null) {
+            events.open(start);
+        }
+        stack.push(start);
+
+        while (!stack.isEmpty()) {
+            int c = stack.topInt();
+            int row = PackedCoordinate.row(c, width);
+            int col = c - row * width;
+            int order = random.nextInt(PERMUTATIONS) * PackedCoordinate.DIRECTIONS;
+
+            int next = PackedCoordinate.NONE;
+            int direction = 0;
+            for (int i = 0; i < PackedCoordinate.DIRECTIONS && next == PackedCoordinate.NONE; i++) {
+                direction = DIRECTION_ORDERS[order + i];
+                int neighbor = PackedCoordinate.neighbor(row, col, direction, 2, height, width);
+                if (neighbor != PackedCoordinate.NONE && !visited.get(neighbor)) {
+                    next = neighbor;
+                }
+            }
+
+            if (next == PackedCoordinate.NONE) {
+                stack.popInt();
+                continue;
+            }
+            visited.set(next);
+            grid.set(c + PackedCoordinate.offset(direction, width), passage);
+            grid.set(next, passage);
+            if (events != null) {
+                events.open(c + PackedCoordinate.offset(direction, width));
+                events.open(next);
+            }
+            stack.push(next);
+        }
+        maze.publish();
+    }
+
+    /**
+     * Строит таблицу всех перестановок направлений
+     *
+     * @return перестановки, записанные подряд
+     */
+    private static byte[] directionOrders() {
+        final int directionSum = 0 + 1 + 2 + 3;
+        byte[] orders = new byte[PERMUTATIONS * PackedCoordinate.DIRECTIONS];
+        int count = 0;
+        for (int first = 0; first < PackedCoordinate.DIRECTIONS; first++) {
+            for (int second = 0; second < PackedCoordinate.DIRECTIONS; second++) {
+                for (int third = 0; third < PackedCoordinate.DIRECTIONS; third++) {
+                    if (first == second || first == third || second == third) {
+                        continue;
+                    }
+                    orders[count++] = (byte) first;
+                    orders[count++] = (byte) second;
+                    orders[count++] = (byte) third;
+                    orders[count++] = (byte) (directionSum - first - second - third);
+                }
+            }
+        }
+        return orders;
+    }
+}
@@ -0,0 +1,197 @@
+package backend.academy.maze.generators;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.field.PackedCoordinate;
+import backend.academy.util.ConcurrentDisjointSet;
+import backend.academy.util.Hashing;
+import backend.academy.util.RandomSource;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntConsumer;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+import lombok.Getter;
+
+/**
+ * Класс BoruvkaGenerator необходим для генерации лабиринта посредством параллельного алгоритма Борувки.
+ * Лабиринт - это минимальное остовное дерево над четными клетками, где каждой стене между соседними
+ * клетками назначен случайный вес. Как и у {@link KruskalGenerator}, получается равномерно случайный
+ * идеальный лабиринт, но все раунды алгоритма выполняются параллельно в {@link ForkJoinPool}.
+ */
+@Getter
+public class BoruvkaGenerator implements Generator {
+    /** Сдвиг веса ребра в упакованном ключе (вес, номер ребра) */
+    private static final int WEIGHT_SHIFT = 32;
+    /** Сдвиг, оставляющий от перемешанного long неотрицательный 31-битный вес */
+    private static final int WEIGHT_BITS_SHIFT = 33;
+    /** Значение минимума для компоненты, у которой ещё не найдено ни одного ребра */
+    private static final long NO_EDGE = Long.MAX_VALUE;
+
+    /** Источник случайности */
+    private final RandomSource randomSource;
+    /** Пул потоков, в котором выполняются раунды */
+    private final ForkJoinPool pool;
+
+    /** Конструктор по-умолчанию, использует источник случайности по умолчанию и общий пул */
+    public BoruvkaGenerator() {
+        this(RandomSource.defaultSource(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Конструктор
+     *
+     * @param randomSource источник случайности
+     * @param pool         пул потоков
+     */
+    public BoruvkaGenerator(RandomSource randomSource, ForkJoinPool pool) {
+        this.randomSource = randomSource;
+        this.pool = pool;
+    }
+
+    /**
+     * Генерирует лабиринт. Ребро {@code 2 * cell} ведёт от клетки вправо, {@code 2 * cell + 1} - вниз,
+     * его вес вычисляется перемешиванием номера со случайным зерном, поэтому веса нигде не хранятся.
+     * Каждый раунд: параллельно по всем живым рёбрам для обеих компонент концов атомарно ищется
+     * минимальное по (вес, номер) ребро, затем параллельно по компонентам найденные рёбра
+     * объединяют компоненты, а рёбра внутри одной компоненты выбрасываются. Раундов не больше
+     * log(N), поскольку каждый раз компонент становится хотя бы вдвое меньше. Вес уникален,
+     * поэтому дерево не зависит от порядка работы потоков. Стены рушатся в конце: параллельно, если
+     * хранилище лабиринта потокобезопасно ({@link Maze#concurrent}), иначе последовательно.
+     */
+    @Override
+    public Maze generate(Maze maze, RandomGenerator random) {
+        int height = maze.height();
+        int width = maze.width();
+        int cellRows = (height + 1) / 2;
+        int cellCols = (width + 1) / 2;
+        int cells = cellRows * cellCols;
+        long seed = random.nextLong();
+
+        int[] edges = IntStream.range(0, 2 * cells)
+            .filter(edge -> isInside(edge, cellRows, cellCols))
+            .toArray();
+        ConcurrentDisjointSet components = new ConcurrentDisjointSet(cells);
+        AtomicLongArray cheapest = new AtomicLongArray(cells);
+        for (int i = 0; i < cells; i++) {
+            cheapest.set(i, NO_EDGE);
+        }
+        int[] tree = new int[Math.max(0, cells - 1)];
+        AtomicInteger treeSize = new AtomicInteger();
+
+        while (edges.length > 0) {
+            int[] alive = edges;
+            pool.submit(() -> Arrays.stream(alive).parallel().forEach(edge -> {
+                int a = components.find(edge / 2);
+                int b = components.find(other(edge, cellCols));
+                if (a != b) {
+                    long key = (weight(seed, edge) << WEIGHT_SHIFT) | edge;
+                    updateMin(cheapest, a, key);
+                    updateMin(cheapest, b, key);
+                }
+            })).join();
+
+            pool.submit(() -> IntStream.range(0, cells).parallel().forEach(component -> {
+                long key = cheapest.get(component);
+                if (key == NO_EDGE) {
+                    return;
+                }
+                cheapest.set(component, NO_EDGE);
+                int edge = (int) key;
+                // Одно ребро может оказаться минимальным для обеих компонент - объединит только одна
+                if (components.union(edge / 2, other(edge, cellCols))) {
+                    tree[treeSize.getAndIncrement()] = edge;
+                }
+            })).join();
+
+            edges = pool.submit(() -> Arrays.stream(alive).parallel()
+                .filter(edge -> !components.connected(edge / 2, other(edge, cellCols)))
+                .toArray()).join();
+        }
+
+        // В потокобезопасное хранилище проходы пишутся параллельно, в обычное - в вызывающем потоке,
+        // ведь оно может быть привязано к нему (например, сегмент из Arena.ofConfined())
+        boolean parallel = maze.grid().isConcurrent();
+        forEach(cellRows, parallel, cellRow -> {
+            for (int col = 0; col < width; col += 2) {
+                maze.setCellType(PackedCoordinate.index(2 * cellRow, col, width), Cell.Type.PASSAGE);
+            }
+        });
+        forEach(treeSize.get(), parallel, i -> {
+            int cell = tree[i] / 2;
+            int row = 2 * (cell / cellCols);
+            int col = 2 * (cell % cellCols);
+            int wall = tree[i] % 2 == 0 ? PackedCoordinate.index(row, col + 1, width)
+                : PackedCoordinate.index(row + 1, col, width);
+            maze.setCellType(wall, Cell.Type.PASSAGE);
+        });
+        maze.publish();
+        return maze;
+    }
+
+    /**
+     * Выполняет действие для чисел 0..end-1: параллельно в пуле или последовательно в текущем потоке
+     *
+     * @param end      граница диапазона
+     * @param parallel нужно ли выполнять параллельно
+     * @param action   действие
+     */
+    private void forEach(int end, boolean parallel, IntConsumer action) {
+        if (parallel) {
+            pool.submit(() -> IntStream.range(0, end).parallel().forEach(action)).join();
+        } else {
+            IntStream.range(0, end).forEach(action);
+        }
+    }
+
+    /**
+     * Проверяет, что ребро не выходит за границы лабиринта
+     *
+     * @param edge     номер ребра
+     * @param cellRows количество строк с четными клетками
+     * @param cellCols количество столбцов с четными клетками
+     * @return true, если второй конец ребра лежит в лабиринте
+     */
+    private static boolean isInside(int edge, int cellRows, int cellCols) {
+        int cell = edge / 2;
+        return edge % 2 == 0 ? cell % cellCols + 1 < cellCols : cell / cellCols + 1 < cellRows;
+    }
+
+    /**
+     * Получает второй конец ребра
+     *
+     * @param edge     номер ребра
+     * @param cellCols количество столбцов с четными клетками
+     * @return номер клетки справа или снизу от клетки edge / 2
+     */
+    private static int other(int edge, int cellCols) {
+        return edge / 2 + (edge % 2 == 0 ? 1 : cellCols);
+    }
+
+    /**
+     * Вычисляет случайный вес ребра
+     *
+     * @param seed зерно
+     * @param edge номер ребра
+     * @return неотрицательный 31-битный вес
+     */
+    private static long weight(long seed, int edge) {
+        return Hashing.hash(seed, edge) >>> WEIGHT_BITS_SHIFT;
+    }
+
+    /**
+     * Атомарно уменьшает значение в ячейке до key, если key меньше
+     *
+     * @param array массив
+     * @param index номер ячейки
+     * @param key   новое значение
+     */
+    private static void updateMin(AtomicLongArray array, int index, long key) {
+        long current = array.get(index);
+        while (key < current && !array.compareAndSet(index, current, key)) {
+            current = array.get(index);
+        }
+    }
+}
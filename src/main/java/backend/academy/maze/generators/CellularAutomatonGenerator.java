@@ -0,0 +1,340 @@
+package backend.academy.maze.generators;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.grid.Grid;
+import backend.academy.util.Hashing;
+import backend.academy.util.RandomSource;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Класс CellularAutomatonGenerator необходим для генерации пещер и лабиринтов клеточным автоматом
+ * семейства Life (правила Maze B3/S12345, Mazectric B3/S1234 и любые другие, см. {@link LifeRule}).
+ * Живые клетки становятся стенами, мёртвые - проходами. В отличие от остальных генераторов лабиринт
+ * не обязательно идеальный и связный: решатели для недостижимой точки вернут пустой путь.
+ * Каждая строка поля - битовая доска из long, по биту на клетку, а поколение вычисляется
+ * словами по 64 клетки сразу и параллельно полосами строк в {@link ForkJoinPool}.
+ */
+@Getter
+public class CellularAutomatonGenerator implements Generator {
+    /** Количество поколений по-умолчанию */
+    public static final int DEFAULT_GENERATIONS = 64;
+    /** Доля живых клеток в начальном поле по-умолчанию */
+    public static final double DEFAULT_DENSITY = 0.5;
+
+    /** Количество бит точности начальной плотности: она округляется до 1 / 2^DENSITY_BITS */
+    private static final int DENSITY_BITS = 8;
+    /** Сколько полос строк приходится на один поток пула, чтобы потоки не простаивали */
+    private static final int BANDS_PER_THREAD = 4;
+    /** Количество возможных значений числа соседей, от 0 до 8 */
+    private static final int COUNTS = 9;
+
+    /** Источник случайности */
+    private final RandomSource randomSource;
+    /** Правило автомата */
+    private final LifeRule rule;
+    /** Количество поколений */
+    private final int generations;
+    /** Доля живых клеток (стен) в начальном поле */
+    private final double density;
+    /** Пул потоков, в котором вычисляются поколения */
+    private final ForkJoinPool pool;
+    /** Для каждого количества соседей: -1, если при нём клетка рождается, иначе 0 */
+    @Getter(AccessLevel.NONE)
+    private final long[] bornMasks = new long[COUNTS];
+    /** Для каждого количества соседей: -1, если при нём клетка выживает, иначе 0 */
+    @Getter(AccessLevel.NONE)
+    private final long[] survivalMasks = new long[COUNTS];
+
+    /** Конструктор по-умолчанию: правило Maze, источник случайности по умолчанию и общий пул */
+    public CellularAutomatonGenerator() {
+        this(LifeRule.MAZE);
+    }
+
+    /**
+     * Конструктор с настройками по-умолчанию для заданного правила
+     *
+     * @param rule правило автомата
+     */
+    public CellularAutomatonGenerator(LifeRule rule) {
+        this(RandomSource.defaultSource(), rule, DEFAULT_GENERATIONS, DEFAULT_DENSITY, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Конструктор
+     *
+     * @param randomSource источник случайности
+     * @param rule         правило автомата
+     * @param generations  количество поколений
+     * @param density      доля живых клеток в начальном поле, от 0 до 1
+     * @param pool         пул потоков
+     */
+    public CellularAutomatonGenerator(
+        RandomSource randomSource, LifeRule rule, int generations, double density, ForkJoinPool pool
+    ) {
+        if (generations < 0) {
+            throw new IllegalArgumentException("Количество поколений не может быть отрицательным: " + generations);
+        }
+        if (!(density >= 0 && density <= 1)) {
+            throw new IllegalArgumentException("Плотность должна быть от 0 до 1, а не " + density);
+        }
+        this.randomSource = randomSource;
+        this.rule = rule;
+        this.generations = generations;
+        this.density = density;
+        this.pool = pool;
+        for (int count = 0; count < COUNTS; count++) {
+            bornMasks[count] = rule.born(count) ? -1L : 0;
+            survivalMasks[count] = rule.survives(count) ? -1L : 0;
+        }
+    }
+
+    /**
+     * Генерирует лабиринт. Начальное поле заполняется случайно с заданной плотностью, каждая строка
+     * своим генератором случайных чисел от хеша зерна и номера строки, поэтому результат не зависит
+     * от количества потоков. Клетки за границей поля считаются мёртвыми. На каждом поколении полосы
+     * строк считаются параллельно из текущего поля в следующее, затем поля меняются местами.
+     */
+    @Override
+    public Maze generate(Maze maze, RandomGenerator random) {
+        int height = maze.height();
+        int width = maze.width();
+        int words = (width + Long.SIZE - 1) / Long.SIZE;
+        long lastMask = width % Long.SIZE == 0 ? -1L : (1L << width % Long.SIZE) - 1;
+        long seed = random.nextLong();
+        int band = Math.max(1, height / (pool.getParallelism() * BANDS_PER_THREAD));
+        int bands = (height + band - 1) / band;
+
+        long[] current = new long[height * words];
+        long[] next = new long[height * words];
+        forEachBand(bands, true, b -> {
+            for (int row = b * band; row < Math.min(height, (b + 1) * band); row++) {
+                fillRow(current, row, words, lastMask, randomSource.create(Hashing.hash(seed, row)));
+            }
+        });
+        for (int generation = 0; generation < generations; generation++) {
+            long[] from = generation % 2 == 0 ? current : next;
+            long[] to = generation % 2 == 0 ? next : current;
+            forEachBand(bands, true, b -> {
+                for (int row = b * band; row < Math.min(height, (b + 1) * band); row++) {
+                    step(from, to, row, height, words, lastMask);
+                }
+            });
+        }
+        long[] result = generations % 2 == 0 ? current : next;
+
+        // В потокобезопасное хранилище проходы пишутся параллельно, в обычное - в вызывающем потоке
+        Grid grid = maze.grid();
+        forEachBand(bands, grid.isConcurrent(), b -> {
+            for (int row = b * band; row < Math.min(height, (b + 1) * band); row++) {
+                writeRow(grid, result, row, width, words, lastMask);
+            }
+        });
+        maze.publish();
+        return maze;
+    }
+
+    /**
+     * Выполняет действие для каждой полосы: параллельно в пуле или последовательно в текущем потоке
+     *
+     * @param bands    количество полос
+     * @param parallel нужно ли выполнять параллельно
+     * @param action   действие над номером полосы
+     */
+    private void forEachBand(int bands, boolean parallel, IntConsumer action) {
+        if (parallel) {
+            pool.submit(() -> IntStream.range(0, bands).parallel().forEach(action)).join();
+        } else {
+            IntStream.range(0, bands).forEach(action);
+        }
+    }
+
+    /**
+     * Заполняет строку случайными клетками. Слово с вероятностью бита level / 2^DENSITY_BITS
+     * получается из DENSITY_BITS случайных слов: начиная с младшего бита level, слово
+     * объединяется (бит равен 1) или пересекается (бит равен 0) с очередным случайным словом.
+     *
+     * @param cells    поле
+     * @param row      номер строки
+     * @param words    количество слов в строке
+     * @param lastMask маска клеток последнего слова строки, лежащих в поле
+     * @param random   генератор случайных чисел строки
+     */
+    private void fillRow(long[] cells, int row, int words, long lastMask, RandomGenerator random) {
+        int level = (int) Math.round(density * (1 << DENSITY_BITS));
+        for (int w = 0; w < words; w++) {
+            long word = 0;
+            if (level >= 1 << DENSITY_BITS) {
+                word = -1L;
+            } else {
+                for (int bit = 0; bit < DENSITY_BITS; bit++) {
+                    long bits = random.nextLong();
+                    word = (level >>> bit & 1) != 0 ? word | bits : word & bits;
+                }
+            }
+            cells[row * words + w] = w == words - 1 ? word & lastMask : word;
+        }
+    }
+
+    /**
+     * Вычисляет строку следующего поколения. Восемь соседей каждой клетки - это сдвинутые на
+     * одну клетку слова текущей, верхней и нижней строк. Их сумма считается побитовыми сумматорами
+     * сразу для 64 клеток: тройки сверху и снизу и пара по бокам складываются в двухбитные числа,
+     * а затем три двухбитных числа - в четырёхбитное s3 s2 s1 s0. Правило применяется без ветвлений:
+     * сумма раскладывается в маски "сумма равна k", которые пересекаются с масками правила.
+     * Каждое слово поля читается один раз: по каждой из трёх строк двигается окно из предыдущего,
+     * текущего и следующего слова.
+     *
+     * @param from     текущее поколение
+     * @param to       следующее поколение
+     * @param row      номер строки
+     * @param height   высота поля
+     * @param words    количество слов в строке
+     * @param lastMask маска клеток последнего слова строки, лежащих в поле
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    private void step(long[] from, long[] to, int row, int height, int words, long lastMask) {
+        // Маски правила копируются в локальные переменные, чтобы не читать массивы на каждом слове
+        final long b0 = bornMasks[0];
+        final long b1 = bornMasks[1];
+        final long b2 = bornMasks[2];
+        final long b3 = bornMasks[3];
+        final long b4 = bornMasks[4];
+        final long b5 = bornMasks[5];
+        final long b6 = bornMasks[6];
+        final long b7 = bornMasks[7];
+        final long b8 = bornMasks[8];
+        final long k0 = survivalMasks[0];
+        final long k1 = survivalMasks[1];
+        final long k2 = survivalMasks[2];
+        final long k3 = survivalMasks[3];
+        final long k4 = survivalMasks[4];
+        final long k5 = survivalMasks[5];
+        final long k6 = survivalMasks[6];
+        final long k7 = survivalMasks[7];
+        final long k8 = survivalMasks[8];
+        int offset = row * words;
+        int up = row > 0 ? offset - words : -1;
+        int down = row + 1 < height ? offset + words : -1;
+
+        long upperPrev = 0;
+        long middlePrev = 0;
+        long lowerPrev = 0;
+        long upper = word(from, up, 0);
+        long middle = from[offset];
+        long lower = word(from, down, 0);
+        for (int w = 0; w < words; w++) {
+            boolean last = w == words - 1;
+            long upperNext = last ? 0 : word(from, up, w + 1);
+            long middleNext = last ? 0 : from[offset + w + 1];
+            long lowerNext = last ? 0 : word(from, down, w + 1);
+
+            long nw = west(upper, upperPrev);
+            long ne = east(upper, upperNext);
+            long upperLow = upper ^ nw ^ ne;
+            long upperHigh = (upper & nw) | (ne & (upper ^ nw));
+
+            long sw = west(lower, lowerPrev);
+            long se = east(lower, lowerNext);
+            long lowerLow = lower ^ sw ^ se;
+            long lowerHigh = (lower & sw) | (se & (lower ^ sw));
+
+            long west = west(middle, middlePrev);
+            long east = east(middle, middleNext);
+            long middleLow = west ^ east;
+            long middleHigh = west & east;
+
+            long s0 = upperLow ^ lowerLow ^ middleLow;
+            long carry = (upperLow & lowerLow) | (middleLow & (upperLow ^ lowerLow));
+            long highs = upperHigh ^ lowerHigh ^ middleHigh;
+            long carryFour = (upperHigh & lowerHigh) | (middleHigh & (upperHigh ^ lowerHigh));
+            long s1 = highs ^ carry;
+            long carryFourToo = highs & carry;
+            long s2 = carryFour ^ carryFourToo;
+            long s3 = carryFour & carryFourToo;
+
+            // Младшие два бита суммы дают одну из четырёх масок, старшие - четвёрку 0-3, 4-7 или 8
+            long is0 = ~s0 & ~s1;
+            long is1 = s0 & ~s1;
+            long is2 = ~s0 & s1;
+            long is3 = s0 & s1;
+            long low = ~s2 & ~s3;
+            long born = low & (is0 & b0 | is1 & b1 | is2 & b2 | is3 & b3)
+                | s2 & (is0 & b4 | is1 & b5 | is2 & b6 | is3 & b7) | s3 & b8;
+            long kept = low & (is0 & k0 | is1 & k1 | is2 & k2 | is3 & k3)
+                | s2 & (is0 & k4 | is1 & k5 | is2 & k6 | is3 & k7) | s3 & k8;
+            long result = born & ~middle | kept & middle;
+            to[offset + w] = last ? result & lastMask : result;
+
+            upperPrev = upper;
+            middlePrev = middle;
+            lowerPrev = lower;
+            upper = upperNext;
+            middle = middleNext;
+            lower = lowerNext;
+        }
+    }
+
+    /**
+     * Записывает проходы строки в хранилище лабиринта: мёртвые клетки перебираются по младшему
+     * установленному биту инвертированного слова
+     *
+     * @param grid     хранилище клеток лабиринта, заполненное стенами
+     * @param cells    поле
+     * @param row      номер строки
+     * @param width    ширина поля
+     * @param words    количество слов в строке
+     * @param lastMask маска клеток последнего слова строки, лежащих в поле
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    private void writeRow(Grid grid, long[] cells, int row, int width, int words, long lastMask) {
+        byte passage = Cell.Type.PASSAGE.code();
+        for (int w = 0; w < words; w++) {
+            long dead = ~cells[row * words + w];
+            if (w == words - 1) {
+                dead &= lastMask;
+            }
+            int base = row * width + w * Long.SIZE;
+            while (dead != 0) {
+                grid.set(base + Long.numberOfTrailingZeros(dead), passage);
+                dead &= dead - 1;
+            }
+        }
+    }
+
+    /**
+     * Получает слово строки
+     *
+     * @return слово или 0, если строки нет в поле
+     */
+    private static long word(long[] cells, int offset, int w) {
+        return offset < 0 ? 0 : cells[offset + w];
+    }
+
+    /**
+     * Сдвигает слово так, что клетка столбца c получает значение клетки c - 1
+     *
+     * @param word     слово
+     * @param previous слово слева от него
+     * @return сдвинутое слово
+     */
+    private static long west(long word, long previous) {
+        return word << 1 | previous >>> (Long.SIZE - 1);
+    }
+
+    /**
+     * Сдвигает слово так, что клетка столбца c получает значение клетки c + 1
+     *
+     * @param word слово
+     * @param next слово справа от него
+     * @return сдвинутое слово
+     */
+    private static long east(long word, long next) {
+        return word >>> 1 | next << (Long.SIZE - 1);
+    }
+}
@@ -0,0 +1,211 @@
+package backend.academy.maze.generators;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.sinks.CellBuffer;
+import backend.academy.maze.sinks.CellSink;
+import backend.academy.maze.sinks.MazeRowSink;
+import backend.academy.maze.sinks.RowSink;
+import backend.academy.util.DisjointSet;
+import backend.academy.util.RandomSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Класс EllerGenerator необходим для генерации лабиринта посредством алгоритма Эллера.
+ * Алгоритм строит лабиринт строка за строкой и помнит только то, какие клетки текущей строки
+ * уже связаны между собой, поэтому занимает O(width) памяти независимо от высоты лабиринта,
+ * а готовые строки сразу отдаются в {@link RowSink}.
+ */
+@Getter
+@AllArgsConstructor
+public class EllerGenerator implements Generator {
+    /** Источник случайности */
+    private final RandomSource randomSource;
+
+    /** Конструктор по-умолчанию, использует источник случайности по умолчанию */
+    public EllerGenerator() {
+        this(RandomSource.defaultSource());
+    }
+
+    @Override
+    public Maze generate(Maze maze, RandomGenerator random) {
+        try {
+            generate(maze.height(), maze.width(), new MazeRowSink(maze), random);
+        } catch (IOException e) {
+            // MazeRowSink пишет в память и исключений не бросает
+            throw new UncheckedIOException(e);
+        }
+        return maze;
+    }
+
+    /**
+     * Генерирует лабиринт, сообщая об открытых клетках и о завершении каждой строки сразу,
+     * как только строка построена.
+     */
+    @Override
+    public Maze generate(Maze maze, RandomGenerator random, CellSink sink) {
+        MazeRowSink rows = new MazeRowSink(maze);
+        CellBuffer events = new CellBuffer(sink, CellBuffer.perfectMazePassages(maze.height(), maze.width()));
+        byte wall = Cell.Type.WALL.code();
+        try {
+            generate(maze.height(), maze.width(), (row, codes) -> {
+                rows.writeRow(row, codes);
+                int offset = row * codes.length;
+                for (int col = 0; col < codes.length; col++) {
+                    if (codes[col] != wall) {
+                        events.open(offset + col);
+                    }
+                }
+                events.rowCompleted(row);
+            }, random);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        events.finish();
+        return maze;
+    }
+
+    /**
+     * Генерирует лабиринт и построчно отдаёт его в приёмник.
+     *
+     * @param height высота лабиринта
+     * @param width  ширина лабиринта
+     * @param sink   приёмник строк
+     * @param seed   зерно генератора случайных чисел
+     * @throws IOException если приёмник не смог записать строку
+     */
+    public void generate(int height, int width, RowSink sink, long seed) throws IOException {
+        generate(height, width, sink, randomSource.create(seed));
+    }
+
+    /**
+     * Генерирует лабиринт и построчно отдаёт его в приёмник. Клетки лежат в четных строках и столбцах.
+     * Для каждой строки клеток: сначала случайно рушим стены между соседними клетками из разных
+     * множеств (в последней строке - между всеми такими клетками), затем из каждого множества
+     * случайно прокладываем хотя бы один проход вниз. Клетки, в которые никто не пришёл сверху,
+     * начинают новые множества. Номера множеств после каждой строки перенумеровываются в диапазон
+     * 0..cellCols-1, поэтому система непересекающихся множеств на строку переиспользуется.
+     *
+     * @param height высота лабиринта
+     * @param width  ширина лабиринта
+     * @param sink   приёмник строк
+     * @param random генератор случайных чисел
+     * @throws IOException если приёмник не смог записать строку
+     */
+    public void generate(int height, int width, RowSink sink, RandomGenerator random) throws IOException {
+        int cellRows = (height + 1) / 2;
+        int cellCols = (width + 1) / 2;
+        byte wall = Cell.Type.WALL.code();
+        byte passage = Cell.Type.PASSAGE.code();
+
+        byte[] line = new byte[width];
+        int[] sets = new int[cellCols];
+        boolean[] down = new boolean[cellCols];
+        boolean[] hasDown = new boolean[cellCols];
+        int[] members = new int[cellCols];
+        int[] chosen = new int[cellCols];
+        int[] relabel = new int[cellCols];
+        DisjointSet components = new DisjointSet(cellCols);
+        for (int i = 0; i < cellCols; i++) {
+            sets[i] = i;
+        }
+
+        for (int cellRow = 0; cellRow < cellRows; cellRow++) {
+            boolean last = cellRow == cellRows - 1;
+            components.reset();
+
+            Arrays.fill(line, wall);
+            line[0] = passage;
+            for (int i = 0; i + 1 < cellCols; i++) {
+                line[2 * (i + 1)] = passage;
+                if ((last || random.nextBoolean()) && components.union(sets[i], sets[i + 1])) {
+                    line[2 * i + 1] = passage;
+                }
+            }
+            for (int i = 0; i < cellCols; i++) {
+                sets[i] = components.find(sets[i]);
+            }
+            sink.writeRow(2 * cellRow, line);
+
+            if (2 * cellRow + 1 >= height) {
+                break;
+            }
+
+            Arrays.fill(line, wall);
+            if (!last) {
+                chooseDownPassages(sets, down, hasDown, members, chosen, random);
+                for (int i = 0; i < cellCols; i++) {
+                    if (down[i]) {
+                        line[2 * i] = passage;
+                    }
+                }
+                renumber(sets, down, relabel);
+            }
+            sink.writeRow(2 * cellRow + 1, line);
+        }
+        sink.finish();
+    }
+
+    /**
+     * Случайно выбирает клетки, из которых будут проложены проходы вниз, так,
+     * чтобы у каждого множества был хотя бы один такой проход.
+     *
+     * @param sets    множества клеток строки
+     * @param down    результат: есть ли проход вниз из клетки
+     * @param hasDown вспомогательный массив: есть ли у множества проход вниз
+     * @param members вспомогательный массив: сколько клеток множества уже просмотрено
+     * @param chosen  вспомогательный массив: случайная клетка множества
+     * @param random  генератор случайных чисел
+     */
+    private void chooseDownPassages(
+        int[] sets, boolean[] down, boolean[] hasDown, int[] members, int[] chosen, RandomGenerator random
+    ) {
+        Arrays.fill(hasDown, false);
+        Arrays.fill(members, 0);
+        for (int i = 0; i < sets.length; i++) {
+            int set = sets[i];
+            down[i] = random.nextBoolean();
+            hasDown[set] |= down[i];
+            // Равновероятно выбираем одну клетку множества на случай, если ни одна не выбрана сама
+            members[set]++;
+            if (random.nextInt(members[set]) == 0) {
+                chosen[set] = i;
+            }
+        }
+        for (int i = 0; i < sets.length; i++) {
+            int set = sets[i];
+            if (!hasDown[set]) {
+                down[chosen[set]] = true;
+                hasDown[set] = true;
+            }
+        }
+    }
+
+    /**
+     * Перенумеровывает множества для следующей строки: клетки с проходом сверху остаются
+     * в множестве клетки над ними, остальные получают новые множества. Номера остаются меньше cellCols.
+     *
+     * @param sets    множества клеток строки
+     * @param down    есть ли проход вниз из клетки
+     * @param relabel вспомогательный массив для новых номеров
+     */
+    private void renumber(int[] sets, boolean[] down, int[] relabel) {
+        Arrays.fill(relabel, -1);
+        int next = 0;
+        for (int i = 0; i < sets.length; i++) {
+            if (down[i]) {
+                if (relabel[sets[i]] == -1) {
+                    relabel[sets[i]] = next++;
+                }
+                sets[i] = relabel[sets[i]];
+            } else {
+                sets[i] = next++;
+            }
+        }
+    }
+}
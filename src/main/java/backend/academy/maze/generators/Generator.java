@@ -1,9 +1,59 @@
 package backend.academy.maze.generators;
 
 import backend.academy.maze.Maze;
+import backend.academy.maze.sinks.CellBuffer;
+import backend.academy.maze.sinks.CellSink;
+import backend.academy.util.RandomSource;
+import java.util.random.RandomGenerator;
 
 /** Интерфейс генератора лабиринта */
 public interface Generator {
+    /**
+     * Генерирует лабиринт в переданном хранилище, беря все случайные числа из переданного генератора.
+     * Лабиринт должен быть целиком заполнен стенами, а его размеры берутся из него самого.
+     * Это позволяет генерировать лабиринт в любом хранилище клеток, например прямо в отображённом
+     * на диск файле, а при одинаковом генераторе случайных чисел получать одинаковый результат.
+     *
+     * @param maze   лабиринт, заполненный стенами
+     * @param random генератор случайных чисел
+     * @return тот же лабиринт с вырезанными проходами
+     */
+    Maze generate(Maze maze, RandomGenerator random);
+
+    /**
+     * Генерирует лабиринт и сообщает о ходе генерации в приёмник событий. С тем же генератором
+     * случайных чисел получается тот же лабиринт, что и без приёмника. По-умолчанию события
+     * отдаются уже после генерации, построчно; генераторы, которые умеют сообщать об открытых
+     * клетках по ходу работы, переопределяют этот метод.
+     *
+     * @param maze   лабиринт, заполненный стенами
+     * @param random генератор случайных чисел
+     * @param sink   приёмник событий генерации
+     * @return тот же лабиринт с вырезанными проходами
+     */
+    default Maze generate(Maze maze, RandomGenerator random, CellSink sink) {
+        generate(maze, random);
+        CellBuffer.replay(maze, sink);
+        return maze;
+    }
+
+    /**
+     * Получает источник случайности, из которого генератор берёт случайные числа
+     *
+     * @return источник случайности
+     */
+    RandomSource randomSource();
+
+    /**
+     * Генерирует лабиринт в переданном хранилище
+     *
+     * @param maze лабиринт, заполненный стенами
+     * @return тот же лабиринт с вырезанными проходами
+     */
+    default Maze generate(Maze maze) {
+        return generate(maze, randomSource().create());
+    }
+
     /**
      * Генерирует новый лабиринт по заданным размерам
      *
@@ -11,5 +61,20 @@ public interface Generator {
      * @param width  желаемая ширина лабиринта
      * @return сгенерированный лабиринт
      */
-    Maze generate(int height, int width);
+    default Maze generate(int height, int width) {
+        return generate(new Maze(height, width));
+    }
+
+    /**
+     * Генерирует новый лабиринт по заданным размерам и зерну. Одинаковые алгоритм, зерно
+     * и размеры всегда дают одинаковый лабиринт.
+     *
+     * @param height желаемая высота лабиринта
+     * @param width  желаемая ширина лабиринта
+     * @param seed   зерно генератора случайных чисел
+     * @return сгенерированный лабиринт
+     */
+    default Maze generate(int height, int width, long seed) {
+        return generate(new Maze(height, width), randomSource().create(seed));
+    }
 }
@@ -0,0 +1,127 @@
+package backend.academy.maze.generators;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.field.PackedCoordinate;
+import backend.academy.maze.grid.Grid;
+import backend.academy.maze.sinks.CellBuffer;
+import backend.academy.maze.sinks.CellSink;
+import backend.academy.util.IntRecencyList;
+import backend.academy.util.LongBitSet;
+import backend.academy.util.RandomSource;
+import java.util.random.RandomGenerator;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Класс GrowingTreeGenerator необходим для генерации лабиринта посредством алгоритма растущего дерева.
+ * Это обобщение {@link BacktrackerGenerator} и {@link PrimGenerator}: вид лабиринта задаётся правилом
+ * {@link SelectionPolicy}, которое выбирает клетку для продолжения. Так одним генератором можно
+ * плавно менять соотношение длинных коридоров и развилок.
+ */
+@Getter
+@AllArgsConstructor
+public class GrowingTreeGenerator implements Generator {
+    /** Источник случайности */
+    private final RandomSource randomSource;
+    /** Правило выбора клетки */
+    private final SelectionPolicy policy;
+
+    /** Конструктор по-умолчанию: источник случайности по умолчанию и поровну новейших и случайных клеток */
+    public GrowingTreeGenerator() {
+        this(SelectionPolicy.mix(1, 1, 0));
+    }
+
+    /**
+     * Конструктор с источником случайности по умолчанию
+     *
+     * @param policy правило выбора клетки
+     */
+    public GrowingTreeGenerator(SelectionPolicy policy) {
+        this(RandomSource.defaultSource(), policy);
+    }
+
+    /**
+     * Генерирует лабиринт. Начинаем со случайной четной клетки в очереди. На каждом шаге правило
+     * выбирает клетку из очереди; если у неё есть непосещённый сосед через стену, то стена рушится,
+     * а сосед добавляется в конец очереди, иначе клетка удаляется из очереди. Очередь и множество
+     * посещённых клеток примитивные: очередь - {@link IntRecencyList}, в которой самая старая и самая
+     * новая клетки всегда на концах, а удаление с любой позиции стоит O(1), поэтому и случайное
+     * правило не замедляется с ростом очереди.
+     *
+     * @param maze   лабиринт, заполненный стенами
+     * @param random генератор случайных чисел
+     * @return тот же лабиринт с вырезанными проходами
+     */
+    @Override
+    public Maze generate(Maze maze, RandomGenerator random) {
+        carve(maze, random, null);
+        return maze;
+    }
+
+    @Override
+    public Maze generate(Maze maze, RandomGenerator random, CellSink sink) {
+        CellBuffer events = new CellBuffer(sink, CellBuffer.perfectMazePassages(maze.height(), maze.width()));
+        carve(maze, random, events);
+        events.finish();
+        return maze;
+    }
+
+    /**
+     * Вырезает проходы алгоритмом растущего дерева
+     *
+     * @param maze   лабиринт, заполненный стенами
+     * @param random генератор случайных чисел
+     * @param events буфер событий генерации или null, если о них сообщать не нужно
+     */
+    private void carve(Maze maze, RandomGenerator random, CellBuffer events) {
+        int height = maze.height();
+        int width = maze.width();
+        Grid grid = maze.grid();
+        byte passage = Cell.Type.PASSAGE.code();
+
+        LongBitSet visited = new LongBitSet(height * width);
+        IntRecencyList active = new IntRecencyList();
+        int start = PackedCoordinate.index(2 * random.nextInt((height + 1) / 2), 2 * random.nextInt((width + 1) / 2),
+            width);
+        visited.set(start);
+        grid.set(start, passage);
+        if (events != null) {
+            events.open(start);
+        }
+        active.addLast(start);
+
+        while (!active.isEmpty()) {
+            int index = policy.select(active.size(), random);
+            int c = active.get(index);
+            int row = PackedCoordinate.row(c, width);
+            int col = c - row * width;
+            int order = random.nextInt(BacktrackerGenerator.PERMUTATIONS) * PackedCoordinate.DIRECTIONS;
+
+            int next = PackedCoordinate.NONE;
+            int direction = 0;
+            for (int i = 0; i < PackedCoordinate.DIRECTIONS && next == PackedCoordinate.NONE; i++) {
+                direction = BacktrackerGenerator.DIRECTION_ORDERS[order + i];
+                int neighbor = PackedCoordinate.neighbor(row, col, direction, 2, height, width);
+                if (neighbor != PackedCoordinate.NONE && !visited.get(neighbor)) {
+                    next = neighbor;
+                }
+            }
+
+            if (next == PackedCoordinate.NONE) {
+                active.removeAt(index);
+                continue;
+            }
+            int wall = c + PackedCoordinate.offset(direction, width);
+            visited.set(next);
+            grid.set(wall, passage);
+            grid.set(next, passage);
+            if (events != null) {
+                events.open(wall);
+                events.open(next);
+            }
+            active.addLast(next);
+        }
+        maze.publish();
+    }
+}
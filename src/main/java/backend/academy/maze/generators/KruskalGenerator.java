@@ -3,78 +3,121 @@ package backend.academy.maze.generators;
 import backend.academy.maze.Maze;
 import backend.academy.maze.field.Cell;
 import backend.academy.maze.field.Coordinate;
-import backend.academy.util.RandomizedSet;
-import java.util.HashMap;
-import java.util.List;
+import backend.academy.maze.field.PackedCoordinate;
+import backend.academy.maze.sinks.CellBuffer;
+import backend.academy.maze.sinks.CellSink;
+import backend.academy.util.DisjointSet;
+import backend.academy.util.RandomSource;
+import java.util.random.RandomGenerator;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 
 /** Класс KruskalGenerator необходим для генерации лабиринта посредством алгоритма Краскала. */
-public class KruskalGenerator implements Generator {
+@Getter
+@AllArgsConstructor
+public class KruskalGenerator implements RegionGenerator {
+    /** Источник случайности */
+    private final RandomSource randomSource;
+
+    /** Конструктор по-умолчанию, использует источник случайности по умолчанию */
+    public KruskalGenerator() {
+        this(RandomSource.defaultSource());
+    }
 
     /**
      * Генерирует лабиринт. Алгоритм построен на компонентах. Сначала каждая четная клетка
-     * становится проходом и находится в своей отдельной компоненте, но далее циклично
-     * объединяются в одну компоненту клетки, которые находятся в разных компонентах путём
-     * превращения стены между ними в проход. Алгоритм Краскала работает медленнее, чем Прима.
+     * становится проходом и находится в своей отдельной компоненте. Затем стены между соседними
+     * четными клетками перемешиваются и перебираются по очереди: если клетки по разные стороны стены
+     * лежат в разных компонентах, то стена превращается в проход, а компоненты объединяются.
+     * Компоненты хранятся в системе непересекающихся множеств, поэтому генерация идёт за почти O(N).
+     *
+     * Стены собираются и перебираются в индексах внутри области, поэтому тот же код
+     * генерирует и весь лабиринт, и его отдельную область.
      *
-     * @param height желаемая высота лабиринта
-     * @param width  желаемая ширина лабиринта
-     * @return сгенерированный лабиринт
+     * @param maze   лабиринт, заполненный стенами
+     * @param random генератор случайных чисел
+     * @return тот же лабиринт с вырезанными проходами
      */
     @Override
-    public Maze generate(int height, int width) {
-        RandomizedSet<Edge> edges = new RandomizedSet<>();
-        HashMap<Coordinate, Integer> components = new HashMap<>();
+    public Maze generate(Maze maze, RandomGenerator random) {
+        generateRegion(maze, 0, 0, maze.height(), maze.width(), random);
+        return maze;
+    }
 
-        int componentID = 0;
-        Maze maze = new Maze(height, width);
+    @Override
+    public Maze generate(Maze maze, RandomGenerator random, CellSink sink) {
+        CellBuffer events = new CellBuffer(sink, CellBuffer.perfectMazePassages(maze.height(), maze.width()));
+        carve(maze, 0, 0, maze.height(), maze.width(), random, events);
+        events.finish();
+        return maze;
+    }
 
-        for (int row = 0; row < height; row += 2) {
-            for (int col = 0; col < width; col += 2) {
-                maze.setCellType(new Coordinate(row, col), Cell.Type.PASSAGE);
-                componentID++;
-                components.put(new Coordinate(row, col), componentID);
-            }
-        }
+    @Override
+    public void generateRegion(Maze maze, int top, int left, int height, int width, RandomGenerator random) {
+        carve(maze, top, left, height, width, random, null);
+    }
+
+    /**
+     * Вырезает проходы в области алгоритмом Краскала
+     *
+     * @param maze   лабиринт, заполненный стенами
+     * @param top    номер строки левого верхнего угла области
+     * @param left   номер столбца левого верхнего угла области
+     * @param height высота области
+     * @param width  ширина области
+     * @param random генератор случайных чисел
+     * @param events буфер событий генерации или null, если о них сообщать не нужно
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    private void carve(Maze maze, int top, int left, int height, int width, RandomGenerator random,
+        CellBuffer events) {
+        int stride = maze.width();
+        int origin = PackedCoordinate.index(top, left, stride);
+        int cellRows = (height + 1) / 2;
+        int cellCols = (width + 1) / 2;
 
         for (int row = 0; row < height; row += 2) {
             for (int col = 0; col < width; col += 2) {
-                Coordinate current = new Coordinate(row, col);
-                for (List<Integer> d : List.of(List.of(0, 2), List.of(2, 0))) {
-                    Coordinate neighbor = new Coordinate(current.row() + d.getFirst(), current.col() + d.getLast());
-                    if (checkBorders(neighbor, height, width)) {
-                        edges.add(new Edge(current, neighbor));
-                    }
+                int cell = origin + PackedCoordinate.index(row, col, stride);
+                maze.setCellType(cell, Cell.Type.PASSAGE);
+                if (events != null) {
+                    events.open(cell);
                 }
             }
         }
 
-        while (!edges.isEmpty()) {
-            Edge edge = edges.getRandom();
-            int component1 = components.get(edge.c1);
-            int component2 = components.get(edge.c2);
+        int[] walls = collectWalls(height, width, cellRows, cellCols);
+        shuffle(walls, random);
 
-            if (component1 != component2) {
-                Coordinate middlePoint = new Coordinate(
-                    (edge.c1.row() + edge.c2.row()) / 2,
-                    (edge.c1.col() + edge.c2.col()) / 2
-                );
-                maze.setCellType(middlePoint, Cell.Type.PASSAGE);
+        DisjointSet components = new DisjointSet(cellRows * cellCols);
+        for (int i = 0; i < walls.length && components.components() > 1; i++) {
+            int wall = walls[i];
+            int row = PackedCoordinate.row(wall, width);
+            int col = wall - row * width;
+            // В четной строке стена разделяет клетки слева и справа, в нечетной - сверху и снизу
+            int component1;
+            int component2;
+            if (row % 2 == 0) {
+                component1 = (row / 2) * cellCols + (col - 1) / 2;
+                component2 = component1 + 1;
+            } else {
+                component1 = ((row - 1) / 2) * cellCols + col / 2;
+                component2 = component1 + cellCols;
+            }
 
-                for (HashMap.Entry<Coordinate, Integer> entry : components.entrySet()) {
-                    if (entry.getValue().equals(component2)) {
-                        entry.setValue(component1);
-                    }
+            if (components.union(component1, component2)) {
+                int cell = origin + PackedCoordinate.index(row, col, stride);
+                maze.setCellType(cell, Cell.Type.PASSAGE);
+                if (events != null) {
+                    events.open(cell);
                 }
             }
-            edges.remove(edge);
         }
-
-        return maze;
     }
 
     /**
      * Проверяет л̶и̶ч̶н̶ы̶е̶ границы. Необходимо для проверки, существует ли соседняя клетка.
+     * Сохранён ради совместимости, сама проверка - {@link PackedCoordinate#inBounds}.
      *
      * @param c      координата проверяемой точки
      * @param height высота лабиринта, в котором идёт п̶о̶г̶р̶а̶н̶и̶ч̶н̶ы̶й̶ контроль
@@ -82,16 +125,47 @@ public class KruskalGenerator implements Generator {
      * @return логическое true, если точка в границах поля, иначе false
      */
     public boolean checkBorders(Coordinate c, int height, int width) {
-        return (c.row() >= 0) && (c.row() < height) && (c.col() >= 0) && (c.col() < width);
+        return PackedCoordinate.inBounds(c.row(), c.col(), height, width);
     }
 
     /**
-     * Класс для хранения ребра. Ребро (c1, c2) означает,
-     * что между точками c1 и c2 есть м̶и̶н̶д̶а̶л̶ь̶н̶а̶я̶ связь
+     * Собирает индексы всех стен, стоящих между соседними четными клетками области.
+     *
+     * @param height   высота области
+     * @param width    ширина области
+     * @param cellRows количество строк с четными клетками
+     * @param cellCols количество столбцов с четными клетками
+     * @return индексы стен внутри области
      */
-    @AllArgsConstructor
-    static class Edge {
-        Coordinate c1;
-        Coordinate c2;
+    private int[] collectWalls(int height, int width, int cellRows, int cellCols) {
+        int[] walls = new int[cellRows * (cellCols - 1) + (cellRows - 1) * cellCols];
+        int count = 0;
+        for (int row = 0; row < height; row += 2) {
+            for (int col = 0; col < width; col += 2) {
+                int current = PackedCoordinate.index(row, col, width);
+                if (col + 2 < width) {
+                    walls[count++] = current + 1;
+                }
+                if (row + 2 < height) {
+                    walls[count++] = current + width;
+                }
+            }
+        }
+        return walls;
+    }
+
+    /**
+     * Перемешивает массив алгоритмом Фишера-Йетса.
+     *
+     * @param array  массив для перемешивания
+     * @param random генератор случайных чисел
+     */
+    private void shuffle(int[] array, RandomGenerator random) {
+        for (int i = array.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
     }
 }
@@ -0,0 +1,97 @@
+package backend.academy.maze.generators;
+
+import java.util.Locale;
+
+/**
+ * Правило клеточного автомата семейства Life в нотации B/S. Клетка рождается, если число её живых
+ * соседей (из восьми) входит в birth, и выживает, если оно входит в survival.
+ * Множества хранятся битовыми масками: бит k установлен, если k соседей подходит.
+ *
+ * @param birth    маска количеств соседей, при которых клетка рождается
+ * @param survival маска количеств соседей, при которых клетка выживает
+ */
+public record LifeRule(int birth, int survival) {
+    /** Правило Maze: длинные извилистые коридоры */
+    public static final LifeRule MAZE = parse("B3/S12345");
+    /** Правило Mazectric: более прямые и длинные коридоры */
+    public static final LifeRule MAZECTRIC = parse("B3/S1234");
+
+    /** Количество возможных значений числа соседей, от 0 до 8 */
+    private static final int COUNTS = 9;
+
+    /**
+     * Конструктор проверяет, что маски не выходят за 8 соседей
+     *
+     * @param birth    маска количеств соседей, при которых клетка рождается
+     * @param survival маска количеств соседей, при которых клетка выживает
+     */
+    public LifeRule {
+        if ((birth | survival) >>> COUNTS != 0) {
+            throw new IllegalArgumentException("У клетки не больше 8 соседей");
+        }
+    }
+
+    /**
+     * Разбирает правило в нотации B/S, например {@code B3/S12345}
+     *
+     * @param notation запись правила
+     * @return правило
+     * @throws IllegalArgumentException если запись не в формате B&lt;цифры&gt;/S&lt;цифры&gt;
+     */
+    public static LifeRule parse(String notation) {
+        String[] parts = notation.trim().toUpperCase(Locale.ROOT).split("/");
+        if (parts.length != 2 || !parts[0].startsWith("B") || !parts[1].startsWith("S")) {
+            throw new IllegalArgumentException("Правило должно быть в формате B3/S12345, а не " + notation);
+        }
+        return new LifeRule(mask(parts[0].substring(1), notation), mask(parts[1].substring(1), notation));
+    }
+
+    /**
+     * Проверяет, рождается ли клетка
+     *
+     * @param neighbors количество живых соседей
+     * @return true, если мёртвая клетка с таким количеством соседей оживает
+     */
+    public boolean born(int neighbors) {
+        return (birth >>> neighbors & 1) != 0;
+    }
+
+    /**
+     * Проверяет, выживает ли клетка
+     *
+     * @param neighbors количество живых соседей
+     * @return true, если живая клетка с таким количеством соседей остаётся живой
+     */
+    public boolean survives(int neighbors) {
+        return (survival >>> neighbors & 1) != 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("B");
+        appendDigits(sb, birth);
+        sb.append("/S");
+        appendDigits(sb, survival);
+        return sb.toString();
+    }
+
+    private static int mask(String digits, String notation) {
+        int mask = 0;
+        for (char c : digits.toCharArray()) {
+            int count = c - '0';
+            if (count < 0 || count >= COUNTS) {
+                throw new IllegalArgumentException("Неверное количество соседей '" + c + "' в правиле " + notation);
+            }
+            mask |= 1 << count;
+        }
+        return mask;
+    }
+
+    private static void appendDigits(StringBuilder sb, int mask) {
+        for (int count = 0; count < COUNTS; count++) {
+            if ((mask >>> count & 1) != 0) {
+                sb.append(count);
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package backend.academy.maze.generators;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.field.PackedCoordinate;
+import backend.academy.maze.grid.ConcurrentPackedGrid;
+import backend.academy.maze.grid.Grid;
+import backend.academy.util.DisjointSet;
+import backend.academy.util.RandomSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.random.RandomGenerator;
+import lombok.Getter;
+
+/**
+ * Класс ParallelGenerator - обёртка над {@link RegionGenerator}, генерирующая большой лабиринт параллельно.
+ * Лабиринт режется на квадратные тайлы с четной стороной, каждый тайл независимо генерируется
+ * обёрнутым генератором в {@link ForkJoinPool} со своим потоком случайных чисел. Затем тайлы
+ * сшиваются: над графом соседства тайлов строится случайное остовное дерево, и на каждом его ребре
+ * в стене между тайлами открывается ровно один проход. Поэтому результат остаётся идеальным лабиринтом.
+ */
+@Getter
+public class ParallelGenerator implements Generator {
+    /** Сторона тайла по-умолчанию */
+    public static final int DEFAULT_TILE_SIZE = 512;
+
+    /** Генератор, которым строится каждый тайл */
+    private final RegionGenerator delegate;
+    /** Сторона тайла, четное число */
+    private final int tileSize;
+    /** Пул потоков, в котором генерируются тайлы */
+    private final ForkJoinPool pool;
+
+    /**
+     * Конструктор с размером тайла и пулом по-умолчанию
+     *
+     * @param delegate генератор тайлов
+     */
+    public ParallelGenerator(RegionGenerator delegate) {
+        this(delegate, DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * Конструктор с общим пулом потоков
+     *
+     * @param delegate генератор тайлов
+     * @param tileSize сторона тайла, четное число
+     */
+    public ParallelGenerator(RegionGenerator delegate, int tileSize) {
+        this(delegate, tileSize, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Конструктор
+     *
+     * @param delegate генератор тайлов
+     * @param tileSize сторона тайла, четное число
+     * @param pool     пул потоков для генерации тайлов
+     */
+    public ParallelGenerator(RegionGenerator delegate, int tileSize, ForkJoinPool pool) {
+        if (tileSize < 2 || tileSize % 2 != 0) {
+            throw new IllegalArgumentException("Сторона тайла должна быть четным числом, а не " + tileSize);
+        }
+        this.delegate = delegate;
+        this.tileSize = tileSize;
+        this.pool = pool;
+    }
+
+    @Override
+    public RandomSource randomSource() {
+        return delegate.randomSource();
+    }
+
+    /**
+     * Генерирует лабиринт по тайлам. Если хранилище лабиринта потокобезопасно ({@link Maze#concurrent}),
+     * тайлы генерируются прямо в нём. Иначе соседние клетки хранилища могут лежать в одном машинном слове,
+     * поэтому тайлы генерируются в общем потокобезопасном {@link ConcurrentPackedGrid} с той же упаковкой,
+     * а результат копируется одним {@link Grid#copyFrom(Grid)} по словам.
+     * Генераторы случайных чисел для тайлов выдаются заранее и по порядку, поэтому при одинаковом
+     * зерне результат не зависит ни от количества потоков, ни от хранилища.
+     */
+    @Override
+    public Maze generate(Maze maze, RandomGenerator random) {
+        int height = maze.height();
+        int width = maze.width();
+        int tileRows = (height + tileSize - 1) / tileSize;
+        int tileCols = (width + tileSize - 1) / tileSize;
+        boolean direct = maze.grid().isConcurrent();
+        Maze cells = direct ? maze : Maze.concurrent(height, width);
+
+        List<ForkJoinTask<?>> tiles = new ArrayList<>(tileRows * tileCols);
+        for (int tileRow = 0; tileRow < tileRows; tileRow++) {
+            for (int tileCol = 0; tileCol < tileCols; tileCol++) {
+                int top = tileRow * tileSize;
+                int left = tileCol * tileSize;
+                int tileHeight = Math.min(tileSize, height - top);
+                int tileWidth = Math.min(tileSize, width - left);
+                RandomGenerator tileRandom = delegate.randomSource().split(random);
+                tiles.add(pool.submit(() -> delegate.generateRegion(cells, top, left, tileHeight, tileWidth,
+                    tileRandom)));
+            }
+        }
+        tiles.forEach(ForkJoinTask::join);
+        stitch(cells, tileRows, tileCols, random);
+
+        if (!direct) {
+            maze.grid().copyFrom(cells.grid());
+        }
+        maze.publish();
+        return maze;
+    }
+
+    /**
+     * Связывает тайлы между собой. Рёбра между соседними тайлами перемешиваются и перебираются
+     * как в алгоритме Краскала: если тайлы ещё не связаны, то в стене между ними в случайном месте
+     * открывается один проход.
+     *
+     * @param maze     лабиринт из готовых тайлов
+     * @param tileRows количество строк тайлов
+     * @param tileCols количество столбцов тайлов
+     * @param random   генератор случайных чисел
+     */
+    private void stitch(Maze maze, int tileRows, int tileCols, RandomGenerator random) {
+        // Ребро 2 * tile ведёт к тайлу справа, 2 * tile + 1 - к тайлу снизу
+        int[] edges = new int[2 * tileRows * tileCols];
+        int count = 0;
+        for (int tile = 0; tile < tileRows * tileCols; tile++) {
+            if (tile % tileCols + 1 < tileCols) {
+                edges[count++] = 2 * tile;
+            }
+            if (tile / tileCols + 1 < tileRows) {
+                edges[count++] = 2 * tile + 1;
+            }
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = edges[i];
+            edges[i] = edges[j];
+            edges[j] = tmp;
+        }
+
+        DisjointSet components = new DisjointSet(tileRows * tileCols);
+        for (int i = 0; i < count && components.components() > 1; i++) {
+            int tile = edges[i] / 2;
+            boolean down = edges[i] % 2 == 1;
+            int top = (tile / tileCols) * tileSize;
+            int left = (tile % tileCols) * tileSize;
+            if (!components.union(tile, down ? tile + tileCols : tile + 1)) {
+                continue;
+            }
+            // Стена между тайлами - последняя (нечетная) строка или столбец тайла,
+            // проход открывается напротив одной из четных клеток
+            int row;
+            int col;
+            if (down) {
+                row = top + tileSize - 1;
+                col = left + 2 * random.nextInt((Math.min(tileSize, maze.width() - left) + 1) / 2);
+            } else {
+                row = top + 2 * random.nextInt((Math.min(tileSize, maze.height() - top) + 1) / 2);
+                col = left + tileSize - 1;
+            }
+            maze.setCellType(PackedCoordinate.index(row, col, maze.width()), Cell.Type.PASSAGE);
+        }
+    }
+}
@@ -2,19 +2,26 @@ package backend.academy.maze.generators;
 
 import backend.academy.maze.Maze;
 import backend.academy.maze.field.Cell;
-import backend.academy.maze.field.Coordinate;
-import backend.academy.util.RandomizedSet;
-import java.security.SecureRandom;
-import java.util.ArrayList;
-import java.util.Arrays;
+import backend.academy.maze.field.PackedCoordinate;
+import backend.academy.maze.grid.Grid;
+import backend.academy.maze.sinks.CellBuffer;
+import backend.academy.maze.sinks.CellSink;
+import backend.academy.util.IntRandomizedSet;
+import backend.academy.util.RandomSource;
+import java.util.random.RandomGenerator;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 
 /** Класс PrimGenerator необходим для генерации лабиринта посредством алгоритма Прима. */
-public class PrimGenerator implements Generator {
-    /** <i>Безопасный</i> генератор случайных чисел */
-    SecureRandom sr;
+@Getter
+@AllArgsConstructor
+public class PrimGenerator implements RegionGenerator {
+    /** Источник случайности */
+    private final RandomSource randomSource;
 
-    {
-        sr = new SecureRandom();
+    /** Конструктор по-умолчанию, использует источник случайности по умолчанию */
+    public PrimGenerator() {
+        this(RandomSource.defaultSource());
     }
 
     /**
@@ -24,97 +31,156 @@ public class PrimGenerator implements Generator {
      * для каждой точки во множестве смотрим есть ли рядом соседи, являющиеся проходами, если да,
      * то рушим стену между ними (в одном случайном направлении) и завершаем итерацию. Также снова
      * добавляем соседей во множество для просмотра. Алгоритм Прима работает быстрее, чем Крускала.
+     * Работает напрямую с кодами клеток в {@link Grid} и индексами клеток, а направления перебирает
+     * циклическим сдвигом от случайного первого, поэтому на шаге алгоритма не создаётся ни одного объекта.
      *
-     * @param height желаемая высота лабиринта
-     * @param width  желаемая ширина лабиринта
-     * @return сгенерированный лабиринт
+     * @param maze   лабиринт, заполненный стенами
+     * @param random генератор случайных чисел
+     * @return тот же лабиринт с вырезанными проходами
      */
     @Override
-    public Maze generate(int height, int width) {
-        Maze maze = new Maze(height, width);
-        int row = sr.nextInt(height);
-        int col = sr.nextInt(width);
+    public Maze generate(Maze maze, RandomGenerator random) {
+        int height = maze.height();
+        int width = maze.width();
+        Region region = new Region(maze.grid(), height, width, 0, width);
+        carve(region, PackedCoordinate.index(random.nextInt(height), random.nextInt(width), width), random, null);
+        maze.publish();
+        return maze;
+    }
+
+    /** Генерирует лабиринт так же, как {@link #generate(Maze, RandomGenerator)}, сообщая о каждом проходе сразу. */
+    @Override
+    public Maze generate(Maze maze, RandomGenerator random, CellSink sink) {
+        int height = maze.height();
+        int width = maze.width();
+        Region region = new Region(maze.grid(), height, width, 0, width);
+        CellBuffer events = new CellBuffer(sink, CellBuffer.perfectMazePassages(height, width));
+        carve(region, PackedCoordinate.index(random.nextInt(height), random.nextInt(width), width), random, events);
+        events.finish();
+        maze.publish();
+        return maze;
+    }
 
-        maze.setCellType(new Coordinate(row, col), Cell.Type.PASSAGE);
+    /**
+     * Генерирует лабиринт внутри области. Начальная точка выбирается только среди четных клеток
+     * области, поэтому все проходы лежат на той же решётке, что и у соседних областей.
+     */
+    @Override
+    public void generateRegion(Maze maze, int top, int left, int height, int width, RandomGenerator random) {
+        int stride = maze.width();
+        Region region = new Region(maze.grid(), height, width, PackedCoordinate.index(top, left, stride), stride);
+        int start = PackedCoordinate.index(2 * random.nextInt((height + 1) / 2), 2 * random.nextInt((width + 1) / 2),
+            width);
+        carve(region, start, random, null);
+        maze.publish();
+    }
+
+    /**
+     * Вырезает проходы в области алгоритмом Прима.
+     *
+     * @param region область лабиринта, заполненная стенами
+     * @param start  индекс начальной точки внутри области
+     * @param random генератор случайных чисел
+     * @param events буфер событий генерации или null, если о них сообщать не нужно
+     */
+    private void carve(Region region, int start, RandomGenerator random, CellBuffer events) {
+        Grid grid = region.grid;
+        int width = region.width;
+        byte passage = Cell.Type.PASSAGE.code();
 
-        RandomizedSet<Coordinate> pointsToSee = new RandomizedSet<>();
-        lookForNewPointsToSee(maze, new Coordinate(row, col), pointsToSee);
+        grid.set(region.global(start), passage);
+        if (events != null) {
+            events.open(region.global(start));
+        }
+        IntRandomizedSet pointsToSee = new IntRandomizedSet(region.height * width, random);
+        lookForNewPointsToSee(region, start, pointsToSee);
 
         while (!pointsToSee.isEmpty()) {
-            Coordinate c = pointsToSee.getRandom();
-            col = c.col();
-            row = c.row();
-            maze.setCellType(c, Cell.Type.PASSAGE);
-            pointsToSee.remove(c);
+            int c = pointsToSee.removeRandom();
+            int row = PackedCoordinate.row(c, width);
+            int col = c - row * width;
+            int cell = region.global(row, col);
+            grid.set(cell, passage);
+            if (events != null) {
+                events.open(cell);
+            }
 
-            ArrayList<Direction> dirs = new ArrayList<>(Arrays.asList(Direction.values()));
-            while (!dirs.isEmpty()) {
-                Direction d = dirs.remove(sr.nextInt(dirs.size()));
-                switch (d) {
-                    case UP:
-                        if (row - 2 >= 0 && maze.getCellType(new Coordinate(row - 2, col)) == Cell.Type.PASSAGE) {
-                            maze.setCellType(new Coordinate(row - 1, col), Cell.Type.PASSAGE);
-                            dirs.clear();
-                        }
-                        break;
-                    case DOWN:
-                        if (row + 2 < height && maze.getCellType(new Coordinate(row + 2, col)) == Cell.Type.PASSAGE) {
-                            maze.setCellType(new Coordinate(row + 1, col), Cell.Type.PASSAGE);
-                            dirs.clear();
-                        }
-                        break;
-                    case LEFT:
-                        if (col - 2 >= 0 && maze.getCellType(new Coordinate(row, col - 2)) == Cell.Type.PASSAGE) {
-                            maze.setCellType(new Coordinate(row, col - 1), Cell.Type.PASSAGE);
-                            dirs.clear();
-                        }
-                        break;
-                    case RIGHT:
-                        if (col + 2 < width && maze.getCellType(new Coordinate(row, col + 2)) == Cell.Type.PASSAGE) {
-                            maze.setCellType(new Coordinate(row, col + 1), Cell.Type.PASSAGE);
-                            dirs.clear();
-                        }
-                        break;
-                    default:
-                        throw new IllegalArgumentException("Неизвестное и недопустимое направление: " + d);
+            int firstDirection = random.nextInt(PackedCoordinate.DIRECTIONS);
+            for (int i = 0; i < PackedCoordinate.DIRECTIONS; i++) {
+                int direction = (firstDirection + i) % PackedCoordinate.DIRECTIONS;
+                if (PackedCoordinate.neighbor(row, col, direction, 2, region.height, width) == PackedCoordinate.NONE) {
+                    continue;
+                }
+                int wall = cell + PackedCoordinate.offset(direction, region.stride);
+                // Соседняя клетка лежит за стеной на таком же расстоянии
+                if (grid.get(2 * wall - cell) == passage) {
+                    grid.set(wall, passage);
+                    if (events != null) {
+                        events.open(wall);
+                    }
+                    break;
                 }
             }
 
-            lookForNewPointsToSee(maze, new Coordinate(row, col), pointsToSee);
+            lookForNewPointsToSee(region, c, pointsToSee);
         }
-
-        return maze;
     }
 
     /**
      * Ищет новые соседние точки рядом с данной для просмотра и добавляет их во множество pointsToSee.
      *
-     * @param maze        лабиринт, в котором содержится точка
-     * @param c           проверяемая точка
-     * @param pointsToSee множество с точками для просмотра
+     * @param region      область лабиринта, в которой содержится точка
+     * @param c           индекс проверяемой точки внутри области
+     * @param pointsToSee множество с индексами точек для просмотра
      */
-    void lookForNewPointsToSee(Maze maze, Coordinate c, RandomizedSet<Coordinate> pointsToSee) {
-        if (c.row() - 2 >= 0 && maze.getCellType(new Coordinate(c.row() - 2, c.col())) == Cell.Type.WALL) {
-            pointsToSee.add(new Coordinate(c.row() - 2, c.col()));
+    void lookForNewPointsToSee(Region region, int c, IntRandomizedSet pointsToSee) {
+        byte wall = Cell.Type.WALL.code();
+        int row = PackedCoordinate.row(c, region.width);
+        int col = c - row * region.width;
+        int cell = region.global(row, col);
+        for (int direction = 0; direction < PackedCoordinate.DIRECTIONS; direction++) {
+            int neighbor = PackedCoordinate.neighbor(row, col, direction, 2, region.height, region.width);
+            if (neighbor != PackedCoordinate.NONE
+                && region.grid.get(cell + 2 * PackedCoordinate.offset(direction, region.stride)) == wall) {
+                pointsToSee.add(neighbor);
+            }
         }
+    }
 
-        if (c.row() + 2 < maze.height()
-            && maze.getCellType(new Coordinate(c.row() + 2, c.col())) == Cell.Type.WALL) {
-            pointsToSee.add(new Coordinate(c.row() + 2, c.col()));
-        }
+    /** Прямоугольная область лабиринта, в которой идёт генерация */
+    @AllArgsConstructor
+    static final class Region {
+        /** Хранилище клеток всего лабиринта */
+        private final Grid grid;
+        /** Высота области */
+        private final int height;
+        /** Ширина области */
+        private final int width;
+        /** Индекс левого верхнего угла области в лабиринте */
+        private final int origin;
+        /** Ширина всего лабиринта */
+        private final int stride;
 
-        if (c.col() - 2 >= 0 && maze.getCellType(new Coordinate(c.row(), c.col() - 2)) == Cell.Type.WALL) {
-            pointsToSee.add(new Coordinate(c.row(), c.col() - 2));
+        /**
+         * Переводит индекс клетки внутри области в индекс в лабиринте
+         *
+         * @param local индекс внутри области
+         * @return индекс в лабиринте
+         */
+        int global(int local) {
+            int row = PackedCoordinate.row(local, width);
+            return global(row, local - row * width);
         }
 
-        if (c.col() + 2 < maze.width()
-            && maze.getCellType(new Coordinate(c.row(), c.col() + 2)) == Cell.Type.WALL) {
-            pointsToSee.add(new Coordinate(c.row(), c.col() + 2));
+        /**
+         * Переводит координаты клетки внутри области в индекс в лабиринте
+         *
+         * @param row номер строки внутри области
+         * @param col номер столбца внутри области
+         * @return индекс в лабиринте
+         */
+        int global(int row, int col) {
+            return origin + row * stride + col;
         }
     }
-
-    /** Перечисление с направлениями, по которым можно пройти при поиске соседей клетки */
-    public enum Direction {
-        LEFT, RIGHT, UP, DOWN
-    }
 }
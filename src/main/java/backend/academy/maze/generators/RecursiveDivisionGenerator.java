@@ -0,0 +1,208 @@
+package backend.academy.maze.generators;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.grid.ConcurrentPackedGrid;
+import backend.academy.maze.grid.Grid;
+import backend.academy.util.RandomSource;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+import lombok.Getter;
+
+/**
+ * Класс RecursiveDivisionGenerator необходим для генерации лабиринта посредством рекурсивного деления.
+ * В отличие от остальных генераторов алгоритм не вырезает проходы, а ставит стены: начинает с пустого
+ * поля и делит каждую камеру стеной с одним проходом на две меньшие. Камеры никогда не пересекаются,
+ * поэтому большие камеры делятся параллельно в {@link ForkJoinPool} без всяких блокировок.
+ */
+@Getter
+public class RecursiveDivisionGenerator implements Generator {
+    /** Количество клеток в камере, начиная с которого она делится в отдельной задаче */
+    public static final int DEFAULT_THRESHOLD = 1 << 14;
+
+    /** Источник случайности */
+    private final RandomSource randomSource;
+    /** Пул потоков, в котором делятся камеры */
+    private final ForkJoinPool pool;
+    /** Количество клеток в камере, начиная с которого она делится в отдельной задаче */
+    private final int threshold;
+
+    /** Конструктор по-умолчанию, использует источник случайности по умолчанию и общий пул */
+    public RecursiveDivisionGenerator() {
+        this(RandomSource.defaultSource(), ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Конструктор
+     *
+     * @param randomSource источник случайности
+     * @param pool         пул потоков
+     * @param threshold    количество клеток в камере, начиная с которого она делится в отдельной задаче
+     */
+    public RecursiveDivisionGenerator(RandomSource randomSource, ForkJoinPool pool, int threshold) {
+        this.randomSource = randomSource;
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Генерирует лабиринт. Клетки лежат в четных строках и столбцах, камера - прямоугольник из клеток.
+     * Сначала все клетки и стены между ними открыты. Камера режется поперёк длинной стороны по
+     * случайной нечетной строке (столбцу), в стене остаётся один случайный проход, и каждая половина
+     * делится дальше, пока в камере не останется одна строка или один столбец клеток.
+     * Если хранилище лабиринта потокобезопасно ({@link Grid#isConcurrent()}: {@link Maze#concurrent} или
+     * {@link backend.academy.maze.grid.MemorySegmentGrid} не из конфайнд-арены, в том числе отображённый на файл),
+     * то задачи пишут прямо в него. Иначе соседние клетки могут лежать в одном машинном слове (как в
+     * {@link backend.academy.maze.grid.PackedGrid}) или хранилище доступно только текущему потоку, поэтому
+     * деление идёт в {@link ConcurrentPackedGrid} с той же упаковкой, а результат копируется одним
+     * {@link Grid#copyFrom(Grid)}.
+     */
+    @Override
+    public Maze generate(Maze maze, RandomGenerator random) {
+        int height = maze.height();
+        int width = maze.width();
+        boolean direct = maze.grid().isConcurrent();
+        Grid cells = direct ? maze.grid() : new ConcurrentPackedGrid(maze.grid().size());
+
+        pool.submit(() -> IntStream.range(0, height).parallel().forEach(row -> openRow(cells, row, height, width)))
+            .join();
+        pool.invoke(new Chamber(cells, width, 0, 0, (height + 1) / 2, (width + 1) / 2, random));
+
+        if (!direct) {
+            maze.grid().copyFrom(cells);
+        }
+        maze.publish();
+        return maze;
+    }
+
+    /**
+     * Открывает все клетки строки и стены между ними. Закрытыми остаются только точки на пересечении
+     * нечетных строк и столбцов, а также последняя строка и столбец, если они нечетные.
+     *
+     * @param cells  клетки лабиринта, заполненные стенами
+     * @param row    номер строки
+     * @param height высота лабиринта
+     * @param width  ширина лабиринта
+     */
+    private void openRow(Grid cells, int row, int height, int width) {
+        if (row == height - 1 && row % 2 == 1) {
+            return;
+        }
+        byte passage = Cell.Type.PASSAGE.code();
+        int lastCol = width - 1 - (width + 1) % 2;
+        int offset = row * width;
+        int step = row % 2 == 0 ? 1 : 2;
+        for (int col = 0; col <= lastCol; col += step) {
+            cells.set(offset + col, passage);
+        }
+    }
+
+    /** Задача деления камеры */
+    @SuppressFBWarnings({"SE_INNER_CLASS", "SE_BAD_FIELD_INNER_CLASS"})
+    private final class Chamber extends RecursiveAction {
+        private final transient Grid cells;
+        private final int stride;
+        /** Строка левой верхней клетки камеры (в клетках, а не в строках лабиринта) */
+        private final int top;
+        /** Столбец левой верхней клетки камеры (в клетках) */
+        private final int left;
+        /** Высота камеры в клетках */
+        private final int rows;
+        /** Ширина камеры в клетках */
+        private final int cols;
+        private final transient RandomGenerator random;
+
+        Chamber(Grid cells, int stride, int top, int left, int rows, int cols, RandomGenerator random) {
+            this.cells = cells;
+            this.stride = stride;
+            this.top = top;
+            this.left = left;
+            this.rows = rows;
+            this.cols = cols;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            if (rows < 2 || cols < 2) {
+                return;
+            }
+            if ((long) rows * cols < threshold) {
+                divide(top, left, rows, cols);
+                return;
+            }
+
+            boolean horizontal = rows > cols || rows == cols && random.nextBoolean();
+            int cut = horizontal ? cutRows(top, left, rows, cols) : cutCols(top, left, rows, cols);
+            // Генераторы половинок выдаются до запуска задач, чтобы результат не зависел от потоков
+            RandomGenerator first = randomSource.split(random);
+            RandomGenerator second = randomSource.split(random);
+            if (horizontal) {
+                invokeAll(new Chamber(cells, stride, top, left, cut - top, cols, first),
+                    new Chamber(cells, stride, cut, left, top + rows - cut, cols, second));
+            } else {
+                invokeAll(new Chamber(cells, stride, top, left, rows, cut - left, first),
+                    new Chamber(cells, stride, top, cut, rows, left + cols - cut, second));
+            }
+        }
+
+        /**
+         * Делит камеру последовательно в текущем потоке
+         *
+         * @param chamberTop  строка левой верхней клетки камеры
+         * @param chamberLeft столбец левой верхней клетки камеры
+         * @param chamberRows высота камеры в клетках
+         * @param chamberCols ширина камеры в клетках
+         */
+        private void divide(int chamberTop, int chamberLeft, int chamberRows, int chamberCols) {
+            if (chamberRows < 2 || chamberCols < 2) {
+                return;
+            }
+            if (chamberRows > chamberCols || chamberRows == chamberCols && random.nextBoolean()) {
+                int cut = cutRows(chamberTop, chamberLeft, chamberRows, chamberCols);
+                divide(chamberTop, chamberLeft, cut - chamberTop, chamberCols);
+                divide(cut, chamberLeft, chamberTop + chamberRows - cut, chamberCols);
+            } else {
+                int cut = cutCols(chamberTop, chamberLeft, chamberRows, chamberCols);
+                divide(chamberTop, chamberLeft, chamberRows, cut - chamberLeft);
+                divide(chamberTop, cut, chamberRows, chamberLeft + chamberCols - cut);
+            }
+        }
+
+        /**
+         * Ставит горизонтальную стену с одним проходом
+         *
+         * @return номер первой строки клеток нижней половины
+         */
+        private int cutRows(int chamberTop, int chamberLeft, int chamberRows, int chamberCols) {
+            int cut = chamberTop + 1 + random.nextInt(chamberRows - 1);
+            int gap = chamberLeft + random.nextInt(chamberCols);
+            int offset = (2 * cut - 1) * stride;
+            for (int col = chamberLeft; col < chamberLeft + chamberCols; col++) {
+                if (col != gap) {
+                    cells.set(offset + 2 * col, Cell.Type.WALL.code());
+                }
+            }
+            return cut;
+        }
+
+        /**
+         * Ставит вертикальную стену с одним проходом
+         *
+         * @return номер первого столбца клеток правой половины
+         */
+        private int cutCols(int chamberTop, int chamberLeft, int chamberRows, int chamberCols) {
+            int cut = chamberLeft + 1 + random.nextInt(chamberCols - 1);
+            int gap = chamberTop + random.nextInt(chamberRows);
+            for (int row = chamberTop; row < chamberTop + chamberRows; row++) {
+                if (row != gap) {
+                    cells.set(2 * row * stride + 2 * cut - 1, Cell.Type.WALL.code());
+                }
+            }
+            return cut;
+        }
+    }
+}
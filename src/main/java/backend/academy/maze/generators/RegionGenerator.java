@@ -0,0 +1,24 @@
+package backend.academy.maze.generators;
+
+import backend.academy.maze.Maze;
+import java.util.random.RandomGenerator;
+
+/**
+ * Интерфейс генератора, который умеет строить лабиринт не только целиком, но и внутри
+ * прямоугольной области другого лабиринта. На нём построена {@link ParallelGenerator}.
+ */
+public interface RegionGenerator extends Generator {
+    /**
+     * Генерирует идеальный лабиринт внутри области. Клетки области лежат на четных строках
+     * и столбцах относительно её левого верхнего угла, все они связаны между собой ровно одним путём.
+     * Клетки вне области генератор не трогает.
+     *
+     * @param maze   лабиринт, область которого заполнена стенами
+     * @param top    номер первой строки области
+     * @param left   номер первого столбца области
+     * @param height высота области
+     * @param width  ширина области
+     * @param random генератор случайных чисел
+     */
+    void generateRegion(Maze maze, int top, int left, int height, int width, RandomGenerator random);
+}
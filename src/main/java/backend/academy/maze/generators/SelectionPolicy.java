@@ -0,0 +1,59 @@
+package backend.academy.maze.generators;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Интерфейс правила, по которому {@link GrowingTreeGenerator} выбирает, из какой клетки растить дерево дальше.
+ * Правило выбирает только номер в очереди: на номере 0 всегда самая старая клетка, на последнем -
+ * самая новая, а остальные лежат между ними в произвольном порядке. Последняя клетка даёт поиск в глубину
+ * с длинными коридорами, случайная - лабиринт как у алгоритма Прима с частыми развилками, первая - длинные
+ * прямые коридоры от начальной клетки.
+ */
+@FunctionalInterface
+public interface SelectionPolicy {
+    /** Самая новая клетка: поведение {@link BacktrackerGenerator} */
+    SelectionPolicy NEWEST = (size, random) -> size - 1;
+    /** Самая старая клетка */
+    SelectionPolicy OLDEST = (size, random) -> 0;
+    /** Случайная клетка: поведение {@link PrimGenerator} */
+    SelectionPolicy RANDOM = (size, random) -> random.nextInt(size);
+
+    /**
+     * Выбирает номер клетки в очереди
+     *
+     * @param size   количество клеток в очереди, больше нуля
+     * @param random генератор случайных чисел
+     * @return номер клетки от 0 (самая старая) до size - 1 (самая новая); случайный номер даёт случайную клетку
+     */
+    int select(int size, RandomGenerator random);
+
+    /**
+     * Создает смешанное правило: на каждом шаге случайно выбирается одно из простых правил
+     * с вероятностью, пропорциональной его весу. Например, mix(3, 1, 0) в трёх случаях из четырёх
+     * берёт самую новую клетку, а в остальных - случайную.
+     *
+     * @param newest вес правила {@link #NEWEST}
+     * @param random вес правила {@link #RANDOM}
+     * @param oldest вес правила {@link #OLDEST}
+     * @return смешанное правило
+     * @throws IllegalArgumentException если вес отрицательный или все веса нулевые
+     */
+    static SelectionPolicy mix(int newest, int random, int oldest) {
+        if (newest < 0 || random < 0 || oldest < 0 || newest + random + oldest <= 0) {
+            throw new IllegalArgumentException(
+                "Веса правил должны быть неотрицательными и не все нулевыми: %d, %d, %d".formatted(newest, random,
+                    oldest));
+        }
+        int total = newest + random + oldest;
+        return (size, generator) -> {
+            int roll = generator.nextInt(total);
+            if (roll < newest) {
+                return size - 1;
+            }
+            if (roll < newest + random) {
+                return generator.nextInt(size);
+            }
+            return 0;
+        };
+    }
+}
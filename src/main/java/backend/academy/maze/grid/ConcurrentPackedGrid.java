@@ -0,0 +1,128 @@
+package backend.academy.maze.grid;
+
+import backend.academy.util.Hashing;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Класс ConcurrentPackedGrid хранит клетки так же, как {@link PackedGrid} (по 4 бита, 16 клеток в long),
+ * но допускает одновременную запись из нескольких потоков. Соседние клетки делят одно слово,
+ * поэтому каждая запись - это цикл compareAndSet над словом через {@link VarHandle}: чужие клетки
+ * в том же слове при этом не затираются. Чтение идёт с семантикой acquire, а {@link #publish()}
+ * ставит release-барьер, так что записанный параллельными генераторами лабиринт безопасно читать
+ * из других потоков.
+ */
+public class ConcurrentPackedGrid implements Grid {
+    /** Количество бит на одну клетку */
+    private static final int BITS_PER_CELL = 4;
+    /** Сдвиг для получения номера слова по индексу клетки (16 клеток в слове) */
+    private static final int CELLS_PER_WORD_SHIFT = 4;
+    /** Маска для получения номера клетки внутри слова */
+    private static final int CELL_IN_WORD_MASK = (1 << CELLS_PER_WORD_SHIFT) - 1;
+    /** Маска для кода одной клетки */
+    private static final long CELL_MASK = (1L << BITS_PER_CELL) - 1;
+    /** Атомарный доступ к элементам массива слов */
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int size;
+    private final long[] words;
+
+    /**
+     * Конструктор создает хранилище, заполненное стенами
+     *
+     * @param size количество клеток
+     */
+    public ConcurrentPackedGrid(int size) {
+        this(size, new long[(size + CELL_IN_WORD_MASK) >>> CELLS_PER_WORD_SHIFT]);
+    }
+
+    private ConcurrentPackedGrid(int size, long[] words) {
+        this.size = size;
+        this.words = words;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public byte get(int index) {
+        int shift = (index & CELL_IN_WORD_MASK) * BITS_PER_CELL;
+        long word = (long) WORDS.getAcquire(words, index >>> CELLS_PER_WORD_SHIFT);
+        return (byte) ((word >>> shift) & CELL_MASK);
+    }
+
+    @Override
+    public void set(int index, byte code) {
+        int word = index >>> CELLS_PER_WORD_SHIFT;
+        int shift = (index & CELL_IN_WORD_MASK) * BITS_PER_CELL;
+        long current = (long) WORDS.getAcquire(words, word);
+        long updated = (current & ~(CELL_MASK << shift)) | ((code & CELL_MASK) << shift);
+        while (current != updated && !WORDS.weakCompareAndSet(words, word, current, updated)) {
+            current = (long) WORDS.getAcquire(words, word);
+            updated = (current & ~(CELL_MASK << shift)) | ((code & CELL_MASK) << shift);
+        }
+    }
+
+    /**
+     * Атомарно записывает код типа клетки, если сейчас в ней записан ожидаемый код.
+     * Изменения других клеток того же слова не мешают записи: цикл повторяется, пока
+     * отличается только чужая часть слова.
+     */
+    @Override
+    public boolean compareAndSet(int index, byte expected, byte code) {
+        int word = index >>> CELLS_PER_WORD_SHIFT;
+        int shift = (index & CELL_IN_WORD_MASK) * BITS_PER_CELL;
+        while (true) {
+            long current = (long) WORDS.getAcquire(words, word);
+            if (((current >>> shift) & CELL_MASK) != (expected & CELL_MASK)) {
+                return false;
+            }
+            long updated = (current & ~(CELL_MASK << shift)) | ((code & CELL_MASK) << shift);
+            if (WORDS.weakCompareAndSet(words, word, current, updated)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean isConcurrent() {
+        return true;
+    }
+
+    @Override
+    public void publish() {
+        VarHandle.releaseFence();
+    }
+
+    @Override
+    public Grid copy() {
+        VarHandle.acquireFence();
+        return new ConcurrentPackedGrid(size, words.clone());
+    }
+
+    @Override
+    public long fingerprint() {
+        long hash = size;
+        for (int i = 0; i < words.length; i++) {
+            hash = Hashing.hash(hash, (long) WORDS.getAcquire(words, i));
+        }
+        return hash;
+    }
+
+    @Override
+    public long footprint() {
+        return (long) words.length * Long.BYTES;
+    }
+
+    /**
+     * Получает слова с клетками для копирования в {@link PackedGrid}. Вызывающий сам
+     * отвечает за то, чтобы все записи в хранилище были ему видны.
+     *
+     * @return массив слов хранилища
+     */
+    long[] words() {
+        return words;
+    }
+}
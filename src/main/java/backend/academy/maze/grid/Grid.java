@@ -0,0 +1,126 @@
+package backend.academy.maze.grid;
+
+import backend.academy.util.Hashing;
+
+/**
+ * Интерфейс Grid описывает примитивное хранилище клеток лабиринта. Клетка адресуется
+ * одним числом - индексом {@code row * width + col}, а её тип хранится в виде кода
+ * (порядкового номера из {@link backend.academy.maze.field.Cell.Type}). Код 0 соответствует
+ * стене, поэтому только что созданное хранилище целиком состоит из стен.
+ * Обычные хранилища рассчитаны на один поток; хранилища, у которых {@link #isConcurrent()}
+ * возвращает true, допускают одновременную запись разных клеток из нескольких потоков.
+ */
+public interface Grid {
+    /**
+     * Возвращает количество клеток в хранилище
+     *
+     * @return количество клеток
+     */
+    int size();
+
+    /**
+     * Получает код типа клетки
+     *
+     * @param index индекс клетки
+     * @return код типа клетки
+     */
+    byte get(int index);
+
+    /**
+     * Записывает код типа клетки
+     *
+     * @param index индекс клетки
+     * @param code  новый код типа клетки
+     */
+    void set(int index, byte code);
+
+    /**
+     * Создает независимую копию хранилища
+     *
+     * @return копия хранилища
+     */
+    Grid copy();
+
+    /**
+     * Копирует все клетки из другого хранилища того же размера. Реализация по-умолчанию копирует
+     * по клетке, упакованные хранилища переопределяют метод и копируют слова целиком.
+     *
+     * @param source хранилище-источник
+     * @throws IllegalArgumentException если размеры хранилищ различаются
+     */
+    default void copyFrom(Grid source) {
+        if (source.size() != size()) {
+            throw new IllegalArgumentException(
+                "Размеры хранилищ различаются: %d и %d".formatted(source.size(), size()));
+        }
+        for (int i = 0; i < size(); i++) {
+            set(i, source.get(i));
+        }
+    }
+
+    /**
+     * Оценивает объём памяти, занимаемый данными хранилища
+     *
+     * @return количество байт
+     */
+    long footprint();
+
+    /**
+     * Вычисляет структурный 64-битный хеш содержимого. Коды клеток упаковываются по 4 бита,
+     * по 16 клеток в слово, как в {@link PackedGrid}, и слова по порядку перемешиваются
+     * в один хеш. Поэтому одинаковые клетки дают одинаковый отпечаток в любом хранилище,
+     * а упакованные хранилища переопределяют метод и хешируют свои слова напрямую.
+     *
+     * @return отпечаток содержимого
+     */
+    default long fingerprint() {
+        final int bitsPerCell = 4;
+        final int cellsPerWord = Long.SIZE / bitsPerCell;
+        final int cellMask = (1 << bitsPerCell) - 1;
+        long hash = size();
+        long word = 0;
+        for (int i = 0; i < size(); i++) {
+            int inWord = i % cellsPerWord;
+            word |= (long) (get(i) & cellMask) << (inWord * bitsPerCell);
+            if (inWord == cellsPerWord - 1) {
+                hash = Hashing.hash(hash, word);
+                word = 0;
+            }
+        }
+        return size() % cellsPerWord == 0 ? hash : Hashing.hash(hash, word);
+    }
+
+    /**
+     * Записывает код типа клетки, только если сейчас в ней записан ожидаемый код.
+     * В однопоточных хранилищах это обычные чтение и запись, в потокобезопасных - атомарная операция.
+     *
+     * @param index    индекс клетки
+     * @param expected ожидаемый код
+     * @param code     новый код типа клетки
+     * @return true, если код был записан, иначе false
+     */
+    default boolean compareAndSet(int index, byte expected, byte code) {
+        if (get(index) != expected) {
+            return false;
+        }
+        set(index, code);
+        return true;
+    }
+
+    /**
+     * Проверяет, можно ли писать в хранилище из нескольких потоков одновременно
+     *
+     * @return true, если запись и {@link #compareAndSet} потокобезопасны
+     */
+    default boolean isConcurrent() {
+        return false;
+    }
+
+    /**
+     * Публикует все сделанные записи: после вызова они видны любому потоку, который
+     * получил ссылку на хранилище через синхронизацию (например, join задачи или volatile-поле).
+     * Однопоточным хранилищам делать ничего не нужно.
+     */
+    default void publish() {
+    }
+}
@@ -0,0 +1,237 @@
+package backend.academy.maze.grid;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Класс MemorySegmentGrid хранит клетки вне кучи в {@link MemorySegment} так же, как {@link PackedGrid}:
+ * по 4 бита на клетку, 16 клеток в 64-битном слове с порядком байт little-endian (клетка i лежит
+ * в байте i / 2, чётная - в младшей половине). Сегмент может быть выделен в {@link Arena} либо
+ * отображён на файл через {@link FileChannel#map}: тогда лабиринт живёт в файле, а в память его
+ * подкачивает ОС через page cache, поэтому он не занимает кучу.
+ * Клетки, как и во всём {@link Grid}, адресуются числом int, поэтому в хранилище не больше
+ * {@link Integer#MAX_VALUE} клеток, то есть не больше 1 ГиБ памяти или файла.
+ * Многопоточную запись включает тот, кто создаёт хранилище и знает свою арену: сегмент из
+ * {@code Arena.ofShared()}, {@code ofAuto()} или {@code global()} доступен из любого потока,
+ * а из {@code Arena.ofConfined()} - только потоку-владельцу. В многопоточном хранилище соседние
+ * клетки делят слово, поэтому запись - это цикл compareAndSet над словом, как в {@link ConcurrentPackedGrid};
+ * в однопоточном чтение и запись слова обычные, без барьеров и CAS, как в {@link PackedGrid}.
+ * Временем жизни памяти управляет арена, переданная при создании.
+ */
+public class MemorySegmentGrid implements Grid {
+    /** Количество бит на одну клетку */
+    private static final int BITS_PER_CELL = 4;
+    /** Сдвиг для получения номера слова по индексу клетки (16 клеток в слове) */
+    private static final int CELLS_PER_WORD_SHIFT = 4;
+    /** Маска для получения номера клетки внутри слова */
+    private static final int CELL_IN_WORD_MASK = (1 << CELLS_PER_WORD_SHIFT) - 1;
+    /** Маска для кода одной клетки */
+    private static final long CELL_MASK = (1L << BITS_PER_CELL) - 1;
+    /** Доступ к словам сегмента; порядок байт фиксирован, чтобы файл читался на любой платформе */
+    private static final VarHandle WORDS =
+        ValueLayout.JAVA_LONG.withOrder(ByteOrder.LITTLE_ENDIAN).arrayElementVarHandle();
+
+    private final MemorySegment segment;
+    private final int size;
+    /** Пишут ли в хранилище из нескольких потоков */
+    private final boolean concurrent;
+
+    /**
+     * Конструктор оборачивает готовый сегмент памяти для записи из одного потока
+     *
+     * @param segment сегмент, выровненный на 8 байт, не короче {@link #bytesFor(int)}
+     * @param size    количество клеток
+     * @throws IllegalArgumentException если сегмент короче нужного или не выровнен на 8 байт
+     */
+    public MemorySegmentGrid(MemorySegment segment, int size) {
+        this(segment, size, false);
+    }
+
+    /**
+     * Конструктор оборачивает готовый сегмент памяти
+     *
+     * @param segment    сегмент, выровненный на 8 байт, не короче {@link #bytesFor(int)}
+     * @param size       количество клеток
+     * @param concurrent true, если в хранилище будут писать из нескольких потоков; тогда сегмент
+     *                   должен быть доступен из любого потока (не из {@code Arena.ofConfined()})
+     * @throws IllegalArgumentException если сегмент короче нужного или не выровнен на 8 байт
+     */
+    public MemorySegmentGrid(MemorySegment segment, int size, boolean concurrent) {
+        if (size < 0 || segment.byteSize() < bytesFor(size)) {
+            throw new IllegalArgumentException(
+                "Сегмент из %d байт не вмещает %d клеток".formatted(segment.byteSize(), size));
+        }
+        boolean aligned = segment.isNative() ? segment.address() % Long.BYTES == 0
+            : segment.heapBase().orElse(null) instanceof long[];
+        if (!aligned) {
+            throw new IllegalArgumentException("Сегмент должен быть выровнен на " + Long.BYTES + " байт");
+        }
+        this.segment = segment;
+        this.size = size;
+        this.concurrent = concurrent;
+    }
+
+    /**
+     * Вычисляет размер сегмента для заданного количества клеток: целое число слов по 16 клеток
+     *
+     * @param size количество клеток
+     * @return количество байт
+     */
+    public static long bytesFor(int size) {
+        return (long) ((size + CELL_IN_WORD_MASK) >>> CELLS_PER_WORD_SHIFT) * Long.BYTES;
+    }
+
+    /**
+     * Выделяет хранилище для записи из одного потока. Выделенная память заполнена нулями, т.е. стенами.
+     *
+     * @param arena арена, управляющая временем жизни памяти
+     * @param size  количество клеток
+     * @return хранилище, заполненное стенами
+     */
+    public static MemorySegmentGrid allocate(Arena arena, int size) {
+        return allocate(arena, size, false);
+    }
+
+    /**
+     * Выделяет хранилище в арене. Выделенная память заполнена нулями, т.е. стенами.
+     *
+     * @param arena      арена, управляющая временем жизни памяти
+     * @param size       количество клеток
+     * @param concurrent true, если в хранилище будут писать из нескольких потоков (арена не confined)
+     * @return хранилище, заполненное стенами
+     */
+    public static MemorySegmentGrid allocate(Arena arena, int size, boolean concurrent) {
+        return new MemorySegmentGrid(arena.allocate(bytesFor(size), Long.BYTES), size, concurrent);
+    }
+
+    /**
+     * Отображает хранилище на файл. Если файла нет или он короче нужного, то он создаётся
+     * и дополняется нулями (стенами), иначе используется уже записанное в нём содержимое.
+     * Так генератор может записать лабиринт прямо в файл, а решатель - прочитать его оттуда.
+     *
+     * @param arena арена, управляющая временем жизни отображения
+     * @param file  путь до файла с клетками
+     * @param size  количество клеток
+     * @return хранилище для записи из одного потока, отображённое на файл
+     * @throws IOException если файл не удалось открыть или отобразить
+     */
+    public static MemorySegmentGrid map(Arena arena, Path file, int size) throws IOException {
+        return map(arena, file, size, false);
+    }
+
+    /**
+     * Отображает хранилище на файл так же, как {@link #map(Arena, Path, int)}
+     *
+     * @param arena      арена, управляющая временем жизни отображения
+     * @param file       путь до файла с клетками
+     * @param size       количество клеток
+     * @param concurrent true, если в хранилище будут писать из нескольких потоков (арена не confined)
+     * @return хранилище, отображённое на файл
+     * @throws IOException если файл не удалось открыть или отобразить
+     */
+    public static MemorySegmentGrid map(Arena arena, Path file, int size, boolean concurrent) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MemorySegment segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytesFor(size), arena);
+            return new MemorySegmentGrid(segment, size, concurrent);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public byte get(int index) {
+        long offset = index >>> CELLS_PER_WORD_SHIFT;
+        long word = concurrent ? (long) WORDS.getAcquire(segment, offset) : (long) WORDS.get(segment, offset);
+        return (byte) ((word >>> ((index & CELL_IN_WORD_MASK) * BITS_PER_CELL)) & CELL_MASK);
+    }
+
+    @Override
+    public void set(int index, byte code) {
+        long word = index >>> CELLS_PER_WORD_SHIFT;
+        int shift = (index & CELL_IN_WORD_MASK) * BITS_PER_CELL;
+        if (!concurrent) {
+            long current = (long) WORDS.get(segment, word);
+            WORDS.set(segment, word, (current & ~(CELL_MASK << shift)) | ((code & CELL_MASK) << shift));
+            return;
+        }
+        long current = (long) WORDS.getAcquire(segment, word);
+        long updated = (current & ~(CELL_MASK << shift)) | ((code & CELL_MASK) << shift);
+        while (current != updated && !WORDS.weakCompareAndSet(segment, word, current, updated)) {
+            current = (long) WORDS.getAcquire(segment, word);
+            updated = (current & ~(CELL_MASK << shift)) | ((code & CELL_MASK) << shift);
+        }
+    }
+
+    /**
+     * Атомарно записывает код типа клетки, если сейчас в ней записан ожидаемый код.
+     * Изменения других клеток того же слова не мешают записи. В однопоточном хранилище
+     * это обычные чтение и запись.
+     */
+    @Override
+    public boolean compareAndSet(int index, byte expected, byte code) {
+        if (!concurrent) {
+            if (get(index) != expected) {
+                return false;
+            }
+            set(index, code);
+            return true;
+        }
+        long word = index >>> CELLS_PER_WORD_SHIFT;
+        int shift = (index & CELL_IN_WORD_MASK) * BITS_PER_CELL;
+        while (true) {
+            long current = (long) WORDS.getAcquire(segment, word);
+            if (((current >>> shift) & CELL_MASK) != (expected & CELL_MASK)) {
+                return false;
+            }
+            long updated = (current & ~(CELL_MASK << shift)) | ((code & CELL_MASK) << shift);
+            if (WORDS.weakCompareAndSet(segment, word, current, updated)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean isConcurrent() {
+        return concurrent;
+    }
+
+    @Override
+    public void publish() {
+        VarHandle.releaseFence();
+    }
+
+    /**
+     * Создает копию в отдельной арене, память которой освободит сборщик мусора
+     *
+     * @return копия хранилища
+     */
+    @Override
+    public Grid copy() {
+        MemorySegment copy = Arena.ofAuto().allocate(bytesFor(size), Long.BYTES);
+        MemorySegment.copy(segment, 0, copy, 0, bytesFor(size));
+        return new MemorySegmentGrid(copy, size, concurrent);
+    }
+
+    @Override
+    public long footprint() {
+        return bytesFor(size);
+    }
+
+    /** Сбрасывает изменения на диск, если хранилище отображено на файл */
+    public void force() {
+        if (segment.isMapped()) {
+            segment.force();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package backend.academy.maze.grid;
+
+import backend.academy.util.Hashing;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Класс PackedGrid хранит клетки в массиве long, отводя на каждую клетку 4 бита
+ * (16 клеток в одном long). Этого хватает на все типы клеток, а одна клетка занимает
+ * полбайта вместо ~40 байт на объекты Cell и Coordinate. Копирование сводится к копированию массива.
+ */
+public class PackedGrid implements Grid {
+    /** Количество бит на одну клетку */
+    private static final int BITS_PER_CELL = 4;
+    /** Сдвиг для получения номера слова по индексу клетки (16 клеток в слове) */
+    private static final int CELLS_PER_WORD_SHIFT = 4;
+    /** Маска для получения номера клетки внутри слова */
+    private static final int CELL_IN_WORD_MASK = (1 << CELLS_PER_WORD_SHIFT) - 1;
+    /** Маска для кода одной клетки */
+    private static final long CELL_MASK = (1L << BITS_PER_CELL) - 1;
+
+    private final int size;
+    private final long[] words;
+
+    /**
+     * Конструктор создает хранилище, заполненное стенами
+     *
+     * @param size количество клеток
+     */
+    public PackedGrid(int size) {
+        this(size, new long[(size + CELL_IN_WORD_MASK) >>> CELLS_PER_WORD_SHIFT]);
+    }
+
+    private PackedGrid(int size, long[] words) {
+        this.size = size;
+        this.words = words;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public byte get(int index) {
+        int shift = (index & CELL_IN_WORD_MASK) * BITS_PER_CELL;
+        return (byte) ((words[index >>> CELLS_PER_WORD_SHIFT] >>> shift) & CELL_MASK);
+    }
+
+    @Override
+    public void set(int index, byte code) {
+        int word = index >>> CELLS_PER_WORD_SHIFT;
+        int shift = (index & CELL_IN_WORD_MASK) * BITS_PER_CELL;
+        words[word] = (words[word] & ~(CELL_MASK << shift)) | ((code & CELL_MASK) << shift);
+    }
+
+    @Override
+    public Grid copy() {
+        return new PackedGrid(size, words.clone());
+    }
+
+    @Override
+    public long fingerprint() {
+        long hash = size;
+        for (long word : words) {
+            hash = Hashing.hash(hash, word);
+        }
+        return hash;
+    }
+
+    /**
+     * Копирует клетки. Из {@link PackedGrid} и {@link ConcurrentPackedGrid} с той же раскладкой
+     * слова копируются целиком одним System.arraycopy, из остальных хранилищ - по клетке.
+     */
+    @Override
+    public void copyFrom(Grid source) {
+        long[] from = switch (source) {
+            case PackedGrid packed -> packed.words;
+            case ConcurrentPackedGrid concurrent -> {
+                VarHandle.acquireFence();
+                yield concurrent.words();
+            }
+            default -> null;
+        };
+        if (from == null || source.size() != size) {
+            Grid.super.copyFrom(source);
+            return;
+        }
+        System.arraycopy(from, 0, words, 0, words.length);
+    }
+
+    @Override
+    public long footprint() {
+        return (long) words.length * Long.BYTES;
+    }
+}
@@ -0,0 +1,154 @@
+package backend.academy.maze.grid;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Класс TiledGrid делит лабиринт на квадратные фрагменты 64x64 и выделяет память под фрагмент
+ * только при первой записи в него прохода. Нетронутые фрагменты неявно состоят из стен, поэтому
+ * расход памяти пропорционален площади, которую реально затронули генератор или пользователь,
+ * а не height * width. Каталог фрагментов общий и потокобезопасный: фрагмент создаётся через CAS,
+ * так что разные потоки могут заполнять разные фрагменты без блокировок; внутри одного фрагмента
+ * пишет один поток, как и в {@link PackedGrid}. Вытеснять можно только фрагменты, снова ставшие
+ * сплошными стенами ({@link #releaseEmptyChunks()}): другого хранилища, куда можно было бы выгрузить
+ * фрагмент с проходами, нет.
+ */
+public class TiledGrid implements Grid {
+    /** Двоичный логарифм стороны фрагмента */
+    private static final int CHUNK_SHIFT = 6;
+    /** Сторона фрагмента в клетках */
+    private static final int CHUNK_SIDE = 1 << CHUNK_SHIFT;
+    /** Маска для получения смещения внутри фрагмента */
+    private static final int CHUNK_MASK = CHUNK_SIDE - 1;
+    /** Количество клеток во фрагменте */
+    private static final int CHUNK_CELLS = CHUNK_SIDE * CHUNK_SIDE;
+    /** Код стены, которым неявно заполнены невыделенные фрагменты */
+    private static final byte WALL = 0;
+
+    private final int height;
+    private final int width;
+    private final int size;
+    private final int chunkColumns;
+    private final AtomicReferenceArray<Grid> chunks;
+
+    /**
+     * Конструктор создает пустой каталог фрагментов, сами фрагменты не выделяются
+     *
+     * @param height высота лабиринта
+     * @param width  ширина лабиринта
+     * @throws IllegalArgumentException если размеры отрицательные
+     * @throws ArithmeticException      если клеток больше, чем {@link Integer#MAX_VALUE}
+     */
+    public TiledGrid(int height, int width) {
+        if (height < 0 || width < 0) {
+            throw new IllegalArgumentException("Размеры лабиринта не могут быть отрицательными: %dx%d"
+                .formatted(height, width));
+        }
+        this.height = height;
+        this.width = width;
+        this.size = Math.multiplyExact(height, width);
+        this.chunkColumns = (width + CHUNK_MASK) >>> CHUNK_SHIFT;
+        this.chunks = new AtomicReferenceArray<>(((height + CHUNK_MASK) >>> CHUNK_SHIFT) * chunkColumns);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public byte get(int index) {
+        int row = index / width;
+        int col = index - row * width;
+        Grid chunk = chunks.get(chunkIndex(row, col));
+        return chunk == null ? WALL : chunk.get(indexInChunk(row, col));
+    }
+
+    @Override
+    public void set(int index, byte code) {
+        int row = index / width;
+        int col = index - row * width;
+        int chunkIndex = chunkIndex(row, col);
+        Grid chunk = chunks.get(chunkIndex);
+        if (chunk == null) {
+            if (code == WALL) {
+                return;
+            }
+            chunks.compareAndSet(chunkIndex, null, new PackedGrid(CHUNK_CELLS));
+            chunk = chunks.get(chunkIndex);
+        }
+        chunk.set(indexInChunk(row, col), code);
+    }
+
+    @Override
+    public Grid copy() {
+        TiledGrid copy = new TiledGrid(height, width);
+        for (int i = 0; i < chunks.length(); i++) {
+            Grid chunk = chunks.get(i);
+            if (chunk != null) {
+                copy.chunks.set(i, chunk.copy());
+            }
+        }
+        return copy;
+    }
+
+    @Override
+    public long footprint() {
+        long bytes = (long) chunks.length() * Integer.BYTES;
+        for (int i = 0; i < chunks.length(); i++) {
+            Grid chunk = chunks.get(i);
+            if (chunk != null) {
+                bytes += chunk.footprint();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Считает количество выделенных фрагментов
+     *
+     * @return количество фрагментов, в которые хоть раз записывался проход
+     */
+    public int allocatedChunks() {
+        int count = 0;
+        for (int i = 0; i < chunks.length(); i++) {
+            if (chunks.get(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Освобождает фрагменты, которые снова целиком состоят из стен (например, после того
+     * как с лабиринта стёрли путь). Должен вызываться, когда в хранилище никто не пишет.
+     *
+     * @return количество освобождённых фрагментов
+     */
+    public int releaseEmptyChunks() {
+        int released = 0;
+        for (int i = 0; i < chunks.length(); i++) {
+            Grid chunk = chunks.get(i);
+            if (chunk != null && isAllWalls(chunk) && chunks.compareAndSet(i, chunk, null)) {
+                released++;
+            }
+        }
+        return released;
+    }
+
+    private boolean isAllWalls(Grid chunk) {
+        for (int i = 0; i < chunk.size(); i++) {
+            if (chunk.get(i) != WALL) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int chunkIndex(int row, int col) {
+        return (row >>> CHUNK_SHIFT) * chunkColumns + (col >>> CHUNK_SHIFT);
+    }
+
+    private int indexInChunk(int row, int col) {
+        return ((row & CHUNK_MASK) << CHUNK_SHIFT) | (col & CHUNK_MASK);
+    }
+}
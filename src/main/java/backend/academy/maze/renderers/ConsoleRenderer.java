@@ -1,6 +1,7 @@
 package backend.academy.maze.renderers;
 
 import backend.academy.maze.Maze;
+import backend.academy.maze.MazeView;
 import backend.academy.maze.field.Cell;
 import backend.academy.maze.field.Coordinate;
 import java.io.IOException;
@@ -48,7 +49,7 @@ public class ConsoleRenderer implements Renderer {
     }
 
     /** Отображает лабиринт в консоли в фиксированном окне и важную информацию об управлении */
-    private void display(Maze maze, Terminal terminal) {
+    private void display(MazeView maze, Terminal terminal) {
         clearScreen();
 
         final int columnPrintFrequency = 4;
@@ -94,7 +95,7 @@ public class ConsoleRenderer implements Renderer {
                 int mazeY = offsetY + y;
 
                 if (mazeX < maze.width() && mazeY < maze.height()) {
-                    ps.print(maze.getCellType(new Coordinate(mazeY, mazeX)).toString());
+                    ps.print(maze.getCellType(mazeY, mazeX).toString());
                 } else {
                     ps.print(' ');
                 }
@@ -116,7 +117,7 @@ public class ConsoleRenderer implements Renderer {
     }
 
     /** Обрабатывает ввод и прокручивает лабиринт */
-    private void scroll(Maze maze, char command) {
+    private void scroll(MazeView maze, char command) {
         final int pointsToScrollAtOneTime = 10;
         switch (command) {
             case 'w':
@@ -150,7 +151,8 @@ public class ConsoleRenderer implements Renderer {
      *
      * @param maze лабиринт для вывода
      */
-    public void render(Maze maze) throws IOException {
+    @Override
+    public void render(MazeView maze) throws IOException {
         offsetX = 0;
         offsetY = 0;
         Terminal terminal = TerminalBuilder.builder()
@@ -184,23 +186,17 @@ public class ConsoleRenderer implements Renderer {
 
     /**
      * Также выводит лабиринт, но в котором найден путь между двумя заданными точками.
-     * Создает копию переданного лабиринта, а затем добавляет в неё найденный путь.
+     * Лабиринт не копируется: путь накладывается поверх него через {@link PathOverlay}.
      *
      * @param maze лабиринт для вывода
      * @param path найденный путь
      */
+    @Override
     public void render(Maze maze, LinkedList<Coordinate> path) throws IOException {
         if (path.isEmpty()) {
             ps.println("Одна или все из указанных точек являются стенами! Попробуйте выбрать другие");
             return;
         }
-        Maze mazeWithPath = maze.getCopy();
-        for (Coordinate c : path) {
-            mazeWithPath.setCellType(c, Cell.Type.PATH);
-        }
-        mazeWithPath.setCellType(path.getFirst(), Cell.Type.START);
-        mazeWithPath.setCellType(path.getLast(), Cell.Type.FINISH);
-
-        render(mazeWithPath);
+        render(new PathOverlay(maze, path));
     }
 }
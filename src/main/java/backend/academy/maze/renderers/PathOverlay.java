@@ -0,0 +1,65 @@
+package backend.academy.maze.renderers;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.MazeView;
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.field.Coordinate;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import java.util.List;
+
+/**
+ * Класс PathOverlay накладывает найденный путь, старт и финиш поверх лабиринта, не копируя его.
+ * Хранит только индексы клеток пути, поэтому дополнительная память пропорциональна длине пути,
+ * а не размеру лабиринта. Сам лабиринт при этом не изменяется.
+ */
+public class PathOverlay implements MazeView {
+    private final Maze maze;
+    private final IntOpenHashSet path;
+    private final int start;
+    private final int finish;
+
+    /**
+     * Конструктор запоминает индексы клеток пути
+     *
+     * @param maze лабиринт, поверх которого рисуется путь
+     * @param path непустой путь (в порядке от начала до конца)
+     */
+    public PathOverlay(Maze maze, List<Coordinate> path) {
+        this.maze = maze;
+        this.path = new IntOpenHashSet(path.size());
+        for (Coordinate c : path) {
+            this.path.add(indexOf(c));
+        }
+        this.start = indexOf(path.getFirst());
+        this.finish = indexOf(path.getLast());
+    }
+
+    @Override
+    public int height() {
+        return maze.height();
+    }
+
+    @Override
+    public int width() {
+        return maze.width();
+    }
+
+    @Override
+    public Cell.Type getCellType(int row, int col) {
+        int index = row * maze.width() + col;
+        if (index == finish) {
+            return Cell.Type.FINISH;
+        }
+        if (index == start) {
+            return Cell.Type.START;
+        }
+        if (path.contains(index)) {
+            return Cell.Type.PATH;
+        }
+        return maze.getCellType(row, col);
+    }
+
+    private int indexOf(Coordinate c) {
+        return c.row() * maze.width() + c.col();
+    }
+}
@@ -1,6 +1,7 @@
 package backend.academy.maze.renderers;
 
 import backend.academy.maze.Maze;
+import backend.academy.maze.MazeView;
 import backend.academy.maze.field.Coordinate;
 import java.util.LinkedList;
 
@@ -12,7 +13,7 @@ public interface Renderer {
      *
      * @param maze лабиринт
      */
-    void render(Maze maze) throws Exception;
+    void render(MazeView maze) throws Exception;
 
     /**
      * Выводит лабиринт с построенным путём
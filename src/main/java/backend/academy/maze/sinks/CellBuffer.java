@@ -0,0 +1,122 @@
+package backend.academy.maze.sinks;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.grid.Grid;
+
+/**
+ * Класс CellBuffer копит открытые генератором клетки в примитивном массиве и отдаёт их
+ * в {@link CellSink} пачками. Вместе с каждой пачкой сообщает прогресс, считая его по ожидаемому
+ * количеству проходов. Так на клетку приходится одна запись в массив, а вызовы приёмника
+ * случаются раз в {@link #DEFAULT_CAPACITY} клеток.
+ */
+public class CellBuffer {
+    /** Размер пачки по-умолчанию */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final CellSink sink;
+    private final int[] cells;
+    /** Ожидаемое количество открытых клеток за всю генерацию */
+    private final long expected;
+    private int count;
+    private long opened;
+
+    /**
+     * Конструктор с размером пачки по-умолчанию
+     *
+     * @param sink     приёмник событий
+     * @param expected ожидаемое количество открытых клеток, по которому считается прогресс
+     */
+    public CellBuffer(CellSink sink, long expected) {
+        this(sink, expected, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Конструктор
+     *
+     * @param sink     приёмник событий
+     * @param expected ожидаемое количество открытых клеток, по которому считается прогресс
+     * @param capacity размер пачки
+     */
+    public CellBuffer(CellSink sink, long expected, int capacity) {
+        this.sink = sink;
+        this.expected = Math.max(1, expected);
+        this.cells = new int[capacity];
+    }
+
+    /**
+     * Оценивает количество проходов в идеальном лабиринте: все четные клетки и по одной стене
+     * между ними на каждое ребро остовного дерева
+     *
+     * @param height высота лабиринта
+     * @param width  ширина лабиринта
+     * @return количество проходов
+     */
+    public static long perfectMazePassages(int height, int width) {
+        long cells = (long) ((height + 1) / 2) * ((width + 1) / 2);
+        return 2 * cells - 1;
+    }
+
+    /**
+     * Добавляет открытую клетку
+     *
+     * @param cell индекс клетки
+     */
+    public void open(int cell) {
+        cells[count++] = cell;
+        if (count == cells.length) {
+            flush();
+        }
+    }
+
+    /**
+     * Отдаёт накопленные клетки и сообщает, что строка построена
+     *
+     * @param row номер строки
+     */
+    public void rowCompleted(int row) {
+        flush();
+        sink.rowCompleted(row);
+    }
+
+    /** Отдаёт накопленные клетки приёмнику вместе с текущим прогрессом */
+    public void flush() {
+        if (count == 0) {
+            return;
+        }
+        sink.cellsOpened(cells, count);
+        opened += count;
+        count = 0;
+        sink.progress(Math.min(1.0, (double) opened / expected));
+    }
+
+    /** Отдаёт оставшиеся клетки и завершает генерацию */
+    public void finish() {
+        flush();
+        sink.progress(1.0);
+        sink.finish();
+    }
+
+    /**
+     * Отдаёт приёмнику уже построенный лабиринт так, как если бы он строился построчно.
+     * Используется для генераторов, которые не умеют сообщать о событиях по ходу работы.
+     *
+     * @param maze построенный лабиринт
+     * @param sink приёмник событий
+     */
+    public static void replay(Maze maze, CellSink sink) {
+        Grid grid = maze.grid();
+        byte wall = Cell.Type.WALL.code();
+        CellBuffer buffer = new CellBuffer(sink, perfectMazePassages(maze.height(), maze.width()));
+        for (int row = 0; row < maze.height(); row++) {
+            int offset = row * maze.width();
+            for (int col = 0; col < maze.width(); col++) {
+                if (grid.get(offset + col) != wall) {
+                    buffer.open(offset + col);
+                }
+            }
+            buffer.rowCompleted(row);
+        }
+        buffer.finish();
+    }
+}
@@ -0,0 +1,39 @@
+package backend.academy.maze.sinks;
+
+/**
+ * Интерфейс приёмника событий генерации. Генератор сообщает, какие клетки он открыл (превратил в проходы),
+ * какие строки уже окончательно построены и какая часть работы выполнена. Открытые клетки приходят
+ * пачками в примитивном массиве (см. {@link CellBuffer}), поэтому приёмник почти не замедляет генерацию.
+ * Это позволяет показывать, сохранять или измерять лабиринт, пока он ещё строится.
+ */
+public interface CellSink {
+    /**
+     * Принимает очередную пачку открытых клеток. Массив переиспользуется генератором,
+     * поэтому приёмник не должен сохранять ссылку на него.
+     *
+     * @param cells индексы открытых клеток ({@code row * width + col})
+     * @param count количество клеток в пачке (остальная часть массива не используется)
+     */
+    void cellsOpened(int[] cells, int count);
+
+    /**
+     * Сообщает, что строка лабиринта больше не изменится. Вызывается только генераторами,
+     * которые строят лабиринт построчно, и только после всех клеток этой строки.
+     *
+     * @param row номер строки
+     */
+    default void rowCompleted(int row) {
+    }
+
+    /**
+     * Сообщает, какая часть лабиринта уже построена
+     *
+     * @param fraction доля от 0 до 1, не убывает
+     */
+    default void progress(double fraction) {
+    }
+
+    /** Вызывается один раз после окончания генерации */
+    default void finish() {
+    }
+}
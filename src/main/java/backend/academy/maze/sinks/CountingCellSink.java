@@ -0,0 +1,39 @@
+package backend.academy.maze.sinks;
+
+import lombok.Getter;
+
+/** Класс CountingCellSink собирает метрики генерации: сколько открыто клеток, пачек и строк. */
+@Getter
+public class CountingCellSink implements CellSink {
+    /** Количество открытых клеток */
+    private long cells;
+    /** Количество полученных пачек */
+    private long batches;
+    /** Количество завершённых строк */
+    private long rows;
+    /** Последний сообщённый прогресс */
+    private double progress;
+    /** Завершена ли генерация */
+    private boolean finished;
+
+    @Override
+    public void cellsOpened(int[] opened, int count) {
+        cells += count;
+        batches++;
+    }
+
+    @Override
+    public void rowCompleted(int row) {
+        rows++;
+    }
+
+    @Override
+    public void progress(double fraction) {
+        progress = fraction;
+    }
+
+    @Override
+    public void finish() {
+        finished = true;
+    }
+}
@@ -0,0 +1,30 @@
+package backend.academy.maze.sinks;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Cell;
+import lombok.Getter;
+
+/** Класс MazeCellSink повторяет открытые клетки в другом лабиринте в памяти, например в отображённом на файл. */
+@Getter
+public class MazeCellSink implements CellSink {
+    /** Лабиринт, в который записываются клетки */
+    private final Maze maze;
+
+    /**
+     * Конструктор по лабиринту, заполненному стенами, размеры которого совпадают с размерами генерируемого
+     *
+     * @param maze лабиринт для записи
+     */
+    public MazeCellSink(Maze maze) {
+        this.maze = maze;
+    }
+
+    @Override
+    public void cellsOpened(int[] cells, int count) {
+        byte passage = Cell.Type.PASSAGE.code();
+        for (int i = 0; i < count; i++) {
+            maze.grid().set(cells[i], passage);
+        }
+        maze.publish();
+    }
+}
@@ -0,0 +1,31 @@
+package backend.academy.maze.sinks;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.grid.Grid;
+import lombok.Getter;
+
+/** Класс MazeRowSink складывает строки в хранилище клеток обычного лабиринта в памяти. */
+@Getter
+public class MazeRowSink implements RowSink {
+    /** Лабиринт, в который записываются строки */
+    private final Maze maze;
+
+    /**
+     * Конструктор по лабиринту, размеры которого совпадают с размерами генерируемого
+     *
+     * @param maze лабиринт для записи
+     */
+    public MazeRowSink(Maze maze) {
+        this.maze = maze;
+    }
+
+    @Override
+    public void writeRow(int row, byte[] codes) {
+        Grid grid = maze.grid();
+        int offset = row * maze.width();
+        for (int col = 0; col < codes.length; col++) {
+            grid.set(offset + col, codes[col]);
+        }
+        maze.publish();
+    }
+}
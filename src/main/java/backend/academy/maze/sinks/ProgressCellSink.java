@@ -0,0 +1,57 @@
+package backend.academy.maze.sinks;
+
+import java.io.PrintStream;
+
+/**
+ * Класс ProgressCellSink показывает ход генерации в консоли: печатает процент готовности
+ * каждый раз, когда он вырастает хотя бы на заданный шаг.
+ */
+public class ProgressCellSink implements CellSink {
+    /** Шаг печати прогресса по-умолчанию, в процентах */
+    public static final int DEFAULT_STEP = 10;
+    private static final int PERCENT = 100;
+
+    private final PrintStream ps;
+    private final int step;
+    private int printed = -1;
+
+    /**
+     * Конструктор с шагом по-умолчанию
+     *
+     * @param ps поток для печати
+     */
+    public ProgressCellSink(PrintStream ps) {
+        this(ps, DEFAULT_STEP);
+    }
+
+    /**
+     * Конструктор
+     *
+     * @param ps   поток для печати
+     * @param step шаг печати прогресса, в процентах
+     */
+    public ProgressCellSink(PrintStream ps, int step) {
+        this.ps = ps;
+        this.step = step;
+    }
+
+    @Override
+    public void cellsOpened(int[] cells, int count) {
+    }
+
+    @Override
+    public void progress(double fraction) {
+        int percent = (int) (fraction * PERCENT);
+        if (printed < 0 || percent - printed >= step) {
+            printed = percent;
+            ps.printf("Построено %d%%%n", percent);
+        }
+    }
+
+    @Override
+    public void finish() {
+        if (printed != PERCENT) {
+            ps.printf("Построено %d%%%n", PERCENT);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package backend.academy.maze.sinks;
+
+import java.io.IOException;
+
+/**
+ * Интерфейс приёмника строк лабиринта. Потоковые генераторы отдают в него лабиринт построчно,
+ * сверху вниз, как только очередная строка окончательно построена, поэтому весь лабиринт
+ * целиком нигде не хранится.
+ */
+public interface RowSink {
+    /**
+     * Принимает очередную готовую строку лабиринта. Массив переиспользуется генератором
+     * для следующих строк, поэтому приёмник не должен сохранять ссылку на него.
+     *
+     * @param row   номер строки
+     * @param codes коды клеток строки (см. {@link backend.academy.maze.field.Cell.Type#code()})
+     * @throws IOException если строку не удалось записать
+     */
+    void writeRow(int row, byte[] codes) throws IOException;
+
+    /**
+     * Вызывается после того, как последняя строка лабиринта отдана приёмнику
+     *
+     * @throws IOException если не удалось дописать буферизованные данные
+     */
+    default void finish() throws IOException {
+    }
+}
@@ -0,0 +1,65 @@
+package backend.academy.maze.sinks;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Класс StreamCellSink записывает индексы открытых клеток в поток в порядке открытия,
+ * по четыре байта (big-endian) на клетку. По такому журналу можно восстановить лабиринт
+ * или воспроизвести ход генерации. Ошибки записи оборачиваются в {@link UncheckedIOException},
+ * потому что события приходят прямо из генератора.
+ */
+public class StreamCellSink implements CellSink, Closeable {
+    private final DataOutputStream out;
+
+    /**
+     * Конструктор оборачивает поток в буфер
+     *
+     * @param out поток для записи
+     */
+    public StreamCellSink(OutputStream out) {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+    }
+
+    /**
+     * Создает приёмник, пишущий в файл. Существующий файл перезаписывается.
+     *
+     * @param file путь до файла
+     * @return приёмник, который нужно закрыть после генерации
+     * @throws IOException если файл не удалось открыть
+     */
+    public static StreamCellSink toFile(Path file) throws IOException {
+        return new StreamCellSink(Files.newOutputStream(file));
+    }
+
+    @Override
+    public void cellsOpened(int[] cells, int count) {
+        try {
+            for (int i = 0; i < count; i++) {
+                out.writeInt(cells[i]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void finish() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
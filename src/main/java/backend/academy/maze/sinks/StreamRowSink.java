@@ -0,0 +1,74 @@
+package backend.academy.maze.sinks;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Класс StreamRowSink пишет строки в поток байт без заголовка, по 4 бита на клетку: клетка i
+ * лежит в байте i / 2, чётная - в младшей половине байта. Раскладка совпадает с
+ * {@link backend.academy.maze.grid.MemorySegmentGrid}, поэтому записанный файл можно потом открыть
+ * через {@code MemorySegmentGrid.map} и решать как обычный лабиринт (отображение само дополнит
+ * файл нулями до целого слова).
+ */
+public class StreamRowSink implements RowSink, Closeable {
+    /** Количество бит на одну клетку */
+    private static final int BITS_PER_CELL = 4;
+    /** Маска для кода одной клетки */
+    private static final int CELL_MASK = (1 << BITS_PER_CELL) - 1;
+    /** Признак того, что незаписанной половины байта нет */
+    private static final int NO_PENDING = -1;
+
+    private final OutputStream out;
+    /** Код клетки, ждущей пары в младшей половине байта, или {@link #NO_PENDING} */
+    private int pending = NO_PENDING;
+
+    /**
+     * Конструктор оборачивает поток в буфер
+     *
+     * @param out поток для записи
+     */
+    public StreamRowSink(OutputStream out) {
+        this.out = new BufferedOutputStream(out);
+    }
+
+    /**
+     * Создает приёмник, пишущий в файл. Существующий файл перезаписывается.
+     *
+     * @param file путь до файла
+     * @return приёмник, который нужно закрыть после генерации
+     * @throws IOException если файл не удалось открыть
+     */
+    public static StreamRowSink toFile(Path file) throws IOException {
+        return new StreamRowSink(Files.newOutputStream(file));
+    }
+
+    @Override
+    public void writeRow(int row, byte[] codes) throws IOException {
+        for (byte code : codes) {
+            if (pending == NO_PENDING) {
+                pending = code & CELL_MASK;
+            } else {
+                out.write(pending | (code & CELL_MASK) << BITS_PER_CELL);
+                pending = NO_PENDING;
+            }
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (pending != NO_PENDING) {
+            out.write(pending);
+            pending = NO_PENDING;
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,36 @@
+package backend.academy.maze.sinks;
+
+import backend.academy.maze.field.Cell;
+import java.io.PrintStream;
+
+/**
+ * Класс TextRowSink печатает строки теми же символами, что и {@link backend.academy.maze.renderers.ConsoleRenderer},
+ * по одной строке лабиринта на строку текста. Подходит для вывода лабиринтов, не помещающихся в память.
+ */
+public class TextRowSink implements RowSink {
+    private final PrintStream ps;
+    private final StringBuilder line = new StringBuilder();
+
+    /**
+     * Конструктор по-умолчанию
+     *
+     * @param ps поток для печати
+     */
+    public TextRowSink(PrintStream ps) {
+        this.ps = ps;
+    }
+
+    @Override
+    public void writeRow(int row, byte[] codes) {
+        line.setLength(0);
+        for (byte code : codes) {
+            line.append(Cell.Type.of(code));
+        }
+        ps.println(line);
+    }
+
+    @Override
+    public void finish() {
+        ps.flush();
+    }
+}
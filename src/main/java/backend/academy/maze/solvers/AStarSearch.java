@@ -0,0 +1,143 @@
+package backend.academy.maze.solvers;
+
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.field.PackedCoordinate;
+import backend.academy.maze.grid.Grid;
+import backend.academy.util.IntIndexedHeap;
+import backend.academy.util.LongBitSet;
+import lombok.Getter;
+
+/**
+ * Класс AStarSearch - движок алгоритма A* на примитивных массивах. Стоимости пути и родители
+ * клеток лежат в плоских массивах int по индексу клетки, закрытое множество - битовое,
+ * а открытое - индексированная куча с уменьшением приоритета, поэтому каждая клетка лежит
+ * в ней не больше одного раза, и за поиск не создаётся ни одного объекта на клетку.
+ * Массивы выделяются один раз и переиспользуются между поисками в лабиринтах не больше
+ * ёмкости, а очищаются за O(N / 64). Объект не потокобезопасен: на поток нужен свой движок.
+ */
+public class AStarSearch {
+    /** Сдвиг стоимости f в упакованном приоритете (f, h) */
+    private static final int COST_SHIFT = 32;
+
+    /** Максимальное количество клеток лабиринта */
+    @Getter
+    private final int capacity;
+    /** Длина лучшего известного пути от старта до клетки (действительна, если клетка в seen) */
+    private final int[] costs;
+    /** Предыдущая клетка на лучшем известном пути (действительна, если клетка в seen) */
+    private final int[] parents;
+    /** Клетки, до которых уже найден какой-нибудь путь */
+    private final LongBitSet seen;
+    /** Клетки, кратчайший путь до которых окончательно найден */
+    private final LongBitSet closed;
+    /** Открытое множество */
+    private final IntIndexedHeap open;
+    /** Количество раскрытых клеток в последнем поиске */
+    @Getter
+    private int expanded;
+
+    /**
+     * Конструктор
+     *
+     * @param capacity максимальное количество клеток лабиринта
+     */
+    public AStarSearch(int capacity) {
+        this.capacity = capacity;
+        this.costs = new int[capacity];
+        this.parents = new int[capacity];
+        this.seen = new LongBitSet(capacity);
+        this.closed = new LongBitSet(capacity);
+        this.open = new IntIndexedHeap(capacity);
+    }
+
+    /**
+     * Находит кратчайший путь между двумя клетками. Из открытого множества извлекается клетка
+     * с наименьшей оценкой f = g + h, где h - манхэттенское расстояние до финиша, а при равных f -
+     * с наименьшим h, то есть ближайшая к финишу. Соседу, до которого найден более короткий путь,
+     * уменьшается приоритет в куче. Эвристика согласованная, поэтому раскрытая клетка больше
+     * не открывается, а найденный путь кратчайший.
+     *
+     * @param grid   клетки лабиринта
+     * @param height высота лабиринта
+     * @param width  ширина лабиринта
+     * @param start  индекс начальной клетки
+     * @param finish индекс конечной клетки
+     * @return индексы клеток пути от start до finish или пустой массив, если пути нет
+     * @throws IllegalArgumentException если лабиринт больше ёмкости движка
+     */
+    public int[] findPath(Grid grid, int height, int width, int start, int finish) {
+        if ((long) height * width > capacity) {
+            throw new IllegalArgumentException(
+                "Лабиринт %dx%d больше ёмкости движка %d".formatted(height, width, capacity));
+        }
+        byte wall = Cell.Type.WALL.code();
+        if (grid.get(start) == wall || grid.get(finish) == wall) {
+            return new int[0];
+        }
+        seen.clear();
+        closed.clear();
+        open.clear();
+        expanded = 0;
+
+        seen.set(start);
+        costs[start] = 0;
+        parents[start] = PackedCoordinate.NONE;
+        int estimate = PackedCoordinate.manhattanDistance(start, finish, width);
+        open.offer(start, key(estimate, estimate));
+
+        while (!open.isEmpty()) {
+            int current = open.poll();
+            if (current == finish) {
+                return path(finish);
+            }
+            closed.set(current);
+            expanded++;
+
+            int row = PackedCoordinate.row(current, width);
+            int col = current - row * width;
+            int cost = costs[current] + 1;
+            for (int direction = 0; direction < PackedCoordinate.DIRECTIONS; direction++) {
+                int neighbor = PackedCoordinate.neighbor(row, col, direction, 1, height, width);
+                if (neighbor == PackedCoordinate.NONE || closed.get(neighbor) || grid.get(neighbor) == wall) {
+                    continue;
+                }
+                if (seen.get(neighbor) && costs[neighbor] <= cost) {
+                    continue;
+                }
+                seen.set(neighbor);
+                costs[neighbor] = cost;
+                parents[neighbor] = current;
+                int left = PackedCoordinate.manhattanDistance(neighbor, finish, width);
+                open.offer(neighbor, key(cost + left, left));
+            }
+        }
+        return new int[0];
+    }
+
+    /**
+     * Восстанавливает путь по родителям
+     *
+     * @param finish индекс конечной клетки
+     * @return индексы клеток пути от старта до finish
+     */
+    private int[] path(int finish) {
+        int[] path = new int[costs[finish] + 1];
+        int point = finish;
+        for (int i = path.length - 1; i >= 0; i--) {
+            path[i] = point;
+            point = parents[point];
+        }
+        return path;
+    }
+
+    /**
+     * Упаковывает приоритет клетки: сначала по оценке f, при равных - по остатку h
+     *
+     * @param total оценка длины пути через клетку
+     * @param left  оценка оставшегося пути
+     * @return приоритет для кучи
+     */
+    private static long key(int total, int left) {
+        return (long) total << COST_SHIFT | left;
+    }
+}
@@ -1,32 +1,30 @@
 package backend.academy.maze.solvers;
 
 import backend.academy.maze.Maze;
-import backend.academy.maze.field.Cell;
 import backend.academy.maze.field.Coordinate;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedList;
-import java.util.List;
-import java.util.PriorityQueue;
-import lombok.AllArgsConstructor;
 
 /**
  * Класс AStarSolver предназначен для нахождения пути в лабиринте
  * алгоритмом A* (A star).
  */
 public class AStarSolver implements Solver {
+    /** Движок поиска текущего потока */
+    private final SearchEngines<AStarSearch> searches =
+        new SearchEngines<>(AStarSearch::new, AStarSearch::capacity);
 
     /**
      * Находит путь между двумя точками в лабиринте алгоритмом A*.
      * Алгоритм реализован на очереди с приоритетом. Таким образом сверху очереди
-     * будут всплывать ноды с наименьшей стоимостью пути. Сначала добавляем стартовую точку.
-     * Пока nodesToSee не опустеет извлекаем из неё текущий элемент: если он равен финишной
+     * будут всплывать клетки с наименьшей оценкой стоимости пути. Сначала добавляем стартовую точку.
+     * Пока очередь не опустеет извлекаем из неё текущую клетку: если она равна финишной
      * точке, то заканчиваем; иначе проверяем соседей текущей точки и добавляем их в очередь
      * с расчетом текущей стоимости. Стоимость рассчитывается через Манхеттенское расстояние.
      * Алгоритм A* работает быстрее, нежели DFS, поскольку учитывает стоимость пути.
+     * Сам поиск выполняет {@link AStarSearch} на примитивных массивах. У каждого потока свой движок,
+     * который переиспользуется, пока лабиринт в него помещается, поэтому повторные поиски почти
+     * ничего не выделяют, а решатель можно использовать из нескольких потоков. Движок держится
+     * мягкой ссылкой и освобождается при нехватке памяти или вызовом {@link #release()}.
      *
      * @param maze   лабиринт, в котором нужно искать путь
      * @param start  начальная точка
@@ -35,94 +33,21 @@ public class AStarSolver implements Solver {
      */
     @Override
     public LinkedList<Coordinate> solve(Maze maze, Coordinate start, Coordinate finish) {
-        if (maze.getCellType(start) == Cell.Type.WALL || maze.getCellType(finish) == Cell.Type.WALL) {
-            return new LinkedList<>();
-        }
-
-        PriorityQueue<Node> nodesToSee = new PriorityQueue<>(Comparator.comparingInt(node -> node.totalCost));
-        HashSet<Coordinate> visited = new HashSet<>();
-        HashMap<Coordinate, Coordinate> cameFromPoint = new HashMap<>();
-
-        int estimatedLeftPathCost = getManhattanDistance(start, finish);
-        nodesToSee.add(new Node(start, 0, estimatedLeftPathCost, estimatedLeftPathCost));
-        while (!nodesToSee.isEmpty()) {
-            Node current = nodesToSee.poll();
-
-            if (current.pos.equals(finish)) {
-                Coordinate currentPoint = current.pos;
-                LinkedList<Coordinate> path = new LinkedList<>();
-                while (currentPoint != null) {
-                    path.add(currentPoint);
-                    currentPoint = cameFromPoint.get(currentPoint);
-                }
-                Collections.reverse(path);
-                return path;
-            }
-
-            visited.add(current.pos);
-            for (Coordinate neighbor : getNeighbors(maze, current.pos)) {
-                if (visited.contains(neighbor) || maze.getCellType(neighbor) == Cell.Type.WALL) {
-                    continue;
-                }
-
-                int currentPathCost = current.currentPathCost + 1;
-                cameFromPoint.put(neighbor, current.pos);
-                estimatedLeftPathCost = getManhattanDistance(neighbor, finish);
-                Node neighborNode = new Node(neighbor, currentPathCost, estimatedLeftPathCost,
-                    currentPathCost + estimatedLeftPathCost);
-                nodesToSee.add(neighborNode);
-            }
-        }
-
-        return new LinkedList<>();
+        return Solver.toCoordinates(maze, findPath(maze, maze.indexOf(start), maze.indexOf(finish)));
     }
 
-    /**
-     * Рассчитывает Манхеттенское расстояние между двумя точками
-     *
-     * @param a первая точка для расчета
-     * @param b вторая точка для расчета
-     * @return Манхеттенское расстояние между точками
-     */
-    private int getManhattanDistance(Coordinate a, Coordinate b) {
-        return Math.abs(a.row() - b.row()) + Math.abs(a.col() - b.col());
+    @Override
+    public int[] findPath(Maze maze, int start, int finish) {
+        AStarSearch search = searches.get(maze.grid().size());
+        return search.findPath(maze.grid(), maze.height(), maze.width(), start, finish);
     }
 
     /**
-     * Ищет новые соседние точки рядом с данной для просмотра.
-     *
-     * @param maze лабиринт, в котором содержится точка
-     * @param c    проверяемая точка
-     * @return список из координат соседей
+     * Освобождает движок поиска текущего потока, чтобы он не удерживал память после работы
+     * с большим лабиринтом. Движки других потоков (например, потоков пула) держатся мягкой
+     * ссылкой, и их освободит сборщик мусора при нехватке памяти.
      */
-    private List<Coordinate> getNeighbors(Maze maze, Coordinate c) {
-        List<Coordinate> neighbors = new ArrayList<>();
-        int row = c.row();
-        int col = c.col();
-
-        if (row > 0) {
-            neighbors.add(new Coordinate(row - 1, col));
-        }
-        if (row + 1 < maze.height()) {
-            neighbors.add(new Coordinate(row + 1, col));
-        }
-        if (col > 0) {
-            neighbors.add(new Coordinate(row, col - 1));
-        }
-        if (col + 1 < maze.width()) {
-            neighbors.add(new Coordinate(row, col + 1));
-        }
-
-        return neighbors;
-    }
-
-    /** Класс Node по сути необходим для хранения точки и стоимости пути */
-    @AllArgsConstructor
-    static class Node {
-        Coordinate pos;
-        int currentPathCost;
-        int estimatedLeftPathCost;
-        int totalCost;
+    public void release() {
+        searches.release();
     }
 }
-
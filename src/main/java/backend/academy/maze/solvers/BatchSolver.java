@@ -0,0 +1,162 @@
+package backend.academy.maze.solvers;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Coordinate;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+import lombok.Getter;
+
+/**
+ * Класс BatchSolver решает сразу много запросов пути в одном лабиринте, распределяя их по потокам
+ * {@link ForkJoinPool}. Запросы делятся между потоками явными задачами {@link RecursiveAction}
+ * по диапазонам номеров, и каждая пишет свои пути в общий массив результатов, поэтому пути идут
+ * в порядке запросов, а решаются именно в переданном пуле. Лабиринт во время пакета только читается, поэтому делится между потоками
+ * без копирования и блокировок. Вспомогательные массивы поиска не выделяются на каждый запрос:
+ * решатели на движках ({@link AStarSolver}, {@link BreadthFirstSearchSolver},
+ * {@link BidirectionalSolver}) держат по движку на поток, а потоки пула живут долго, так что каждый
+ * движок обслуживает все запросы своего потока. По этой же причине используется пул, а не
+ * виртуальные потоки: у виртуального потока на каждый запрос свой ThreadLocal, и движок
+ * выделялся бы заново. Движки потоков пула держатся мягкой ссылкой: после пакета на огромном
+ * лабиринте они не удерживают память вечно, а освобождаются сборщиком мусора при её нехватке.
+ * Решатель должен допускать вызовы из нескольких потоков.
+ */
+@Getter
+public class BatchSolver {
+    /** Сколько порций запросов приходится на один поток пула */
+    private static final int LEAVES_PER_THREAD = 8;
+
+    /** Решатель отдельных запросов */
+    private final Solver solver;
+    /** Пул потоков, в котором решаются запросы */
+    private final ForkJoinPool pool;
+
+    /** Конструктор по-умолчанию: поиск в ширину в общем пуле */
+    public BatchSolver() {
+        this(new BreadthFirstSearchSolver());
+    }
+
+    /**
+     * Конструктор с общим пулом потоков
+     *
+     * @param solver решатель отдельных запросов
+     */
+    public BatchSolver(Solver solver) {
+        this(solver, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Конструктор
+     *
+     * @param solver решатель отдельных запросов
+     * @param pool   пул потоков
+     */
+    public BatchSolver(Solver solver, ForkJoinPool pool) {
+        this.solver = solver;
+        this.pool = pool;
+    }
+
+    /**
+     * Решает все запросы и возвращает пути в порядке запросов
+     *
+     * @param maze    лабиринт, который не меняется во время решения
+     * @param queries запросы
+     * @return пути, i-й путь отвечает на i-й запрос; пустой список, если пути нет
+     */
+    public List<LinkedList<Coordinate>> solveAll(Maze maze, List<PathQuery> queries) {
+        PathQuery[] batch = queries.toArray(PathQuery[]::new);
+        @SuppressWarnings("unchecked")
+        LinkedList<Coordinate>[] paths = new LinkedList[batch.length];
+        forEachQuery(batch.length, i -> paths[i] = solver.solve(maze, batch[i].start(), batch[i].finish()));
+        return List.of(paths);
+    }
+
+    /**
+     * Решает все запросы и возвращает пути в виде индексов клеток в порядке запросов.
+     * Не создаёт список координат на каждую клетку пути, поэтому заметно дешевле {@link #solveAll}.
+     *
+     * @param maze    лабиринт, который не меняется во время решения
+     * @param queries запросы
+     * @return пути из индексов клеток, i-й путь отвечает на i-й запрос; пустой массив, если пути нет
+     */
+    public int[][] findPaths(Maze maze, List<PathQuery> queries) {
+        PathQuery[] batch = queries.toArray(PathQuery[]::new);
+        int[][] paths = new int[batch.length][];
+        forEachQuery(batch.length,
+            i -> paths[i] = solver.findPath(maze, maze.indexOf(batch[i].start()), maze.indexOf(batch[i].finish())));
+        return paths;
+    }
+
+    /**
+     * Решает запросы из потока и отдаёт каждый путь, как только он найден, не дожидаясь остальных
+     * и не сохраняя результаты. Метод возвращается, когда решены все запросы. Сами запросы
+     * сначала собираются в массив, чтобы их можно было делить между потоками по диапазонам.
+     * Получатель вызывается из потоков пула одновременно и в произвольном порядке,
+     * поэтому должен быть потокобезопасным.
+     *
+     * @param maze     лабиринт, который не меняется во время решения
+     * @param queries  запросы
+     * @param consumer получатель пар (запрос, путь)
+     */
+    public void solveEach(Maze maze, Stream<PathQuery> queries,
+        BiConsumer<PathQuery, LinkedList<Coordinate>> consumer) {
+        PathQuery[] batch = queries.toArray(PathQuery[]::new);
+        forEachQuery(batch.length,
+            i -> consumer.accept(batch[i], solver.solve(maze, batch[i].start(), batch[i].finish())));
+    }
+
+    /**
+     * Выполняет действие для номеров запросов 0..count-1 в пуле: диапазон делится пополам,
+     * пока не станет меньше порции, а порция - примерно восьмая часть доли одного потока,
+     * чтобы потоки, которым достались короткие пути, забирали работу у остальных.
+     *
+     * @param count  количество запросов
+     * @param action действие над номером запроса
+     */
+    private void forEachQuery(int count, IntConsumer action) {
+        if (count == 0) {
+            return;
+        }
+        int leaf = Math.max(1, count / (pool.getParallelism() * LEAVES_PER_THREAD));
+        pool.invoke(new Range(0, count, leaf, action));
+    }
+
+    /** Задача над диапазоном номеров запросов */
+    private static final class Range extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final int leaf;
+        private final transient IntConsumer action;
+
+        /**
+         * Конструктор
+         *
+         * @param from   первый номер запроса
+         * @param to     номер после последнего
+         * @param leaf   размер диапазона, который уже не делится
+         * @param action действие над номером запроса
+         */
+        Range(int from, int to, int leaf, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.leaf = leaf;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leaf) {
+                for (int i = from; i < to; i++) {
+                    action.accept(i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new Range(from, middle, leaf, action), new Range(middle, to, leaf, action));
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package backend.academy.maze.solvers;
+
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.field.PackedCoordinate;
+import backend.academy.maze.grid.Grid;
+import backend.academy.util.ConcurrentLongBitSet;
+import backend.academy.util.IntDeque;
+import backend.academy.util.IntIndexedHeap;
+import backend.academy.util.LongBitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+
+/**
+ * Класс BidirectionalSearch - движок двунаправленного поиска: фронты растут одновременно от старта
+ * и от финиша, и поиск заканчивается, когда они встречаются. На длинных путях каждый фронт проходит
+ * примерно половину пути, поэтому раскрывается заметно меньше клеток. Родитель клетки хранится
+ * как направление от родителя (один байт на клетку для каждого фронта), а на встрече две цепочки
+ * родителей склеиваются в один путь. Массивы для A* и параллельного режима выделяются при первом
+ * использовании и, как и остальные, переиспользуются между поисками; объект не потокобезопасен.
+ */
+public class BidirectionalSearch {
+    /** Направление родителя у корня фронта */
+    private static final byte ROOT = -1;
+    /** Результат встречи, означающий, что один из фронтов исчерпан и пути нет */
+    private static final int NO_PATH = -2;
+    /** Сдвиг стоимости f в упакованном приоритете (f, h) */
+    private static final int COST_SHIFT = 32;
+
+    /** Максимальное количество клеток лабиринта */
+    @Getter
+    private final int capacity;
+    /** Количество раскрытых клеток в последнем поиске (в обоих направлениях) */
+    @Getter
+    private int expanded;
+
+    private final Side forward;
+    private final Side backward;
+
+    /**
+     * Конструктор
+     *
+     * @param capacity максимальное количество клеток лабиринта
+     */
+    public BidirectionalSearch(int capacity) {
+        this.capacity = capacity;
+        this.forward = new Side(capacity);
+        this.backward = new Side(capacity);
+    }
+
+    /**
+     * Находит кратчайший путь двунаправленным поиском в ширину. На каждом шаге целиком раскрывается
+     * очередной слой того фронта, в котором сейчас меньше клеток. Встреча проверяется при каждом
+     * добавлении клетки: раз до этого слоя фронты не пересекались, путь длиннее суммы их глубин,
+     * и первая же встреча даёт кратчайший путь.
+     *
+     * @param grid   клетки лабиринта
+     * @param height высота лабиринта
+     * @param width  ширина лабиринта
+     * @param start  индекс начальной клетки
+     * @param finish индекс конечной клетки
+     * @return индексы клеток пути от start до finish или пустой массив, если пути нет
+     */
+    public int[] findPathBfs(Grid grid, int height, int width, int start, int finish) {
+        if (!prepare(grid, height, width, start, finish)) {
+            return trivialPath(grid, start, finish);
+        }
+        forward.seed(start);
+        backward.seed(finish);
+
+        while (!forward.queue.isEmpty() && !backward.queue.isEmpty()) {
+            boolean fromStart = forward.queue.size() <= backward.queue.size();
+            Side own = fromStart ? forward : backward;
+            Side other = fromStart ? backward : forward;
+            int meet = expandLayer(grid, height, width, own, other);
+            if (meet != PackedCoordinate.NONE) {
+                return splice(meet, width);
+            }
+        }
+        return new int[0];
+    }
+
+    /**
+     * Находит кратчайший путь двунаправленным A*. Прямой фронт оценивает расстояние до финиша,
+     * обратный - до старта, на каждом шаге раскрывается одна клетка фронта с меньшей кучей.
+     * Каждый раз, когда клетку достиг второй фронт, запоминается длина пути через неё. Поиск
+     * останавливается, когда лучшая найденная длина не больше наименьшей оценки f хотя бы одного
+     * фронта: эвристика согласованная, и любой ещё не найденный путь не короче этой оценки.
+     *
+     * @param grid   клетки лабиринта
+     * @param height высота лабиринта
+     * @param width  ширина лабиринта
+     * @param start  индекс начальной клетки
+     * @param finish индекс конечной клетки
+     * @return индексы клеток пути от start до finish или пустой массив, если пути нет
+     */
+    public int[] findPathAStar(Grid grid, int height, int width, int start, int finish) {
+        if (!prepare(grid, height, width, start, finish)) {
+            return trivialPath(grid, start, finish);
+        }
+        forward.prepareAStar(capacity);
+        backward.prepareAStar(capacity);
+        forward.seed(start, finish, width);
+        backward.seed(finish, start, width);
+
+        int best = Integer.MAX_VALUE;
+        int meet = PackedCoordinate.NONE;
+        while (!forward.open.isEmpty() && !backward.open.isEmpty()) {
+            long topForward = forward.open.peekKey() >>> COST_SHIFT;
+            long topBackward = backward.open.peekKey() >>> COST_SHIFT;
+            if (best <= Math.max(topForward, topBackward)) {
+                break;
+            }
+            boolean fromStart = forward.open.size() <= backward.open.size();
+            Side own = fromStart ? forward : backward;
+            Side other = fromStart ? backward : forward;
+            int target = fromStart ? finish : start;
+
+            int current = own.open.poll();
+            own.closed.set(current);
+            expanded++;
+            int row = PackedCoordinate.row(current, width);
+            int col = current - row * width;
+            int cost = own.costs[current] + 1;
+            for (int direction = 0; direction < PackedCoordinate.DIRECTIONS; direction++) {
+                int neighbor = PackedCoordinate.neighbor(row, col, direction, 1, height, width);
+                if (neighbor == PackedCoordinate.NONE || own.closed.get(neighbor)
+                    || grid.get(neighbor) == Cell.Type.WALL.code()
+                    || own.seen.get(neighbor) && own.costs[neighbor] <= cost) {
+                    continue;
+                }
+                own.seen.set(neighbor);
+                own.costs[neighbor] = cost;
+                own.parents[neighbor] = (byte) direction;
+                int left = PackedCoordinate.manhattanDistance(neighbor, target, width);
+                own.open.offer(neighbor, (long) (cost + left) << COST_SHIFT | left);
+                if (other.seen.get(neighbor) && cost + other.costs[neighbor] < best) {
+                    best = cost + other.costs[neighbor];
+                    meet = neighbor;
+                }
+            }
+        }
+        return meet == PackedCoordinate.NONE ? new int[0] : splice(meet, width);
+    }
+
+    /**
+     * Находит путь двунаправленным поиском в ширину в двух потоках: прямой фронт растёт в пуле,
+     * обратный - в вызывающем потоке. Каждый поток сначала записывает родителя клетки, затем
+     * атомарно отмечает её в своём битовом множестве и volatile-чтением проверяет чужое, поэтому
+     * встречу без блокировок заметит хотя бы один из них, а родители встречной клетки будут видны.
+     * Фронты растут независимо, так что путь гарантированно кратчайший только в идеальном лабиринте,
+     * где он единственный; в лабиринте с циклами это просто корректный путь.
+     *
+     * @param grid   клетки лабиринта
+     * @param height высота лабиринта
+     * @param width  ширина лабиринта
+     * @param start  индекс начальной клетки
+     * @param finish индекс конечной клетки
+     * @param pool   пул, в котором растёт прямой фронт
+     * @return индексы клеток пути от start до finish или пустой массив, если пути нет
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public int[] findPathParallel(Grid grid, int height, int width, int start, int finish, ForkJoinPool pool) {
+        if (!prepare(grid, height, width, start, finish)) {
+            return trivialPath(grid, start, finish);
+        }
+        forward.prepareConcurrent(capacity);
+        backward.prepareConcurrent(capacity);
+        forward.parents[start] = ROOT;
+        forward.marks.add(start);
+        backward.parents[finish] = ROOT;
+        backward.marks.add(finish);
+
+        AtomicInteger meet = new AtomicInteger(PackedCoordinate.NONE);
+        int[] counts = new int[2];
+        ForkJoinTask<?> task = pool.submit(() -> {
+            counts[0] = grow(grid, height, width, start, forward, backward, meet);
+        });
+        counts[1] = grow(grid, height, width, finish, backward, forward, meet);
+        task.join();
+        expanded = counts[0] + counts[1];
+
+        int result = meet.get();
+        return result < 0 ? new int[0] : splice(result, width);
+    }
+
+    /**
+     * Растит фронт в отдельном потоке, пока он не встретит чужой или не исчерпается
+     *
+     * @return количество раскрытых клеток
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    private static int grow(Grid grid, int height, int width, int root, Side own, Side other, AtomicInteger meet) {
+        byte wall = Cell.Type.WALL.code();
+        IntDeque queue = own.queue;
+        queue.addLast(root);
+        int count = 0;
+        while (!queue.isEmpty() && meet.get() == PackedCoordinate.NONE) {
+            int current = queue.removeFirst();
+            count++;
+            int row = PackedCoordinate.row(current, width);
+            int col = current - row * width;
+            for (int direction = 0; direction < PackedCoordinate.DIRECTIONS; direction++) {
+                int neighbor = PackedCoordinate.neighbor(row, col, direction, 1, height, width);
+                if (neighbor == PackedCoordinate.NONE || own.marks.get(neighbor) || grid.get(neighbor) == wall) {
+                    continue;
+                }
+                own.parents[neighbor] = (byte) direction;
+                own.marks.add(neighbor);
+                if (other.marks.get(neighbor)) {
+                    meet.compareAndSet(PackedCoordinate.NONE, neighbor);
+                    return count;
+                }
+                queue.addLast(neighbor);
+            }
+        }
+        meet.compareAndSet(PackedCoordinate.NONE, NO_PATH);
+        return count;
+    }
+
+    /**
+     * Раскрывает очередной слой фронта
+     *
+     * @return клетка встречи или {@link PackedCoordinate#NONE}, если фронты не встретились
+     */
+    private int expandLayer(Grid grid, int height, int width, Side own, Side other) {
+        byte wall = Cell.Type.WALL.code();
+        for (int layer = own.queue.size(); layer > 0; layer--) {
+            int current = own.queue.removeFirst();
+            expanded++;
+            int row = PackedCoordinate.row(current, width);
+            int col = current - row * width;
+            for (int direction = 0; direction < PackedCoordinate.DIRECTIONS; direction++) {
+                int neighbor = PackedCoordinate.neighbor(row, col, direction, 1, height, width);
+                if (neighbor == PackedCoordinate.NONE || grid.get(neighbor) == wall || !own.seen.add(neighbor)) {
+                    continue;
+                }
+                own.parents[neighbor] = (byte) direction;
+                if (other.seen.get(neighbor)) {
+                    return neighbor;
+                }
+                own.queue.addLast(neighbor);
+            }
+        }
+        return PackedCoordinate.NONE;
+    }
+
+    /**
+     * Проверяет лабиринт и сбрасывает состояние перед поиском
+     *
+     * @return true, если нужен поиск; false, если путь пустой или состоит из одной клетки
+     */
+    private boolean prepare(Grid grid, int height, int width, int start, int finish) {
+        if ((long) height * width > capacity) {
+            throw new IllegalArgumentException(
+                "Лабиринт %dx%d больше ёмкости движка %d".formatted(height, width, capacity));
+        }
+        expanded = 0;
+        byte wall = Cell.Type.WALL.code();
+        if (grid.get(start) == wall || grid.get(finish) == wall || start == finish) {
+            return false;
+        }
+        forward.reset();
+        backward.reset();
+        return true;
+    }
+
+    /**
+     * Получает путь для случаев, когда поиск не нужен
+     *
+     * @return путь из одной клетки, если старт совпадает с финишем и это проход, иначе пустой путь
+     */
+    private static int[] trivialPath(Grid grid, int start, int finish) {
+        return start == finish && grid.get(start) != Cell.Type.WALL.code() ? new int[] {start} : new int[0];
+    }
+
+    /**
+     * Склеивает путь из цепочки прямого фронта до клетки встречи и цепочки обратного фронта после неё
+     *
+     * @param meet  клетка встречи, достигнутая обоими фронтами
+     * @param width ширина лабиринта
+     * @return индексы клеток пути от старта до финиша
+     */
+    private int[] splice(int meet, int width) {
+        int head = forward.chainLength(meet, width);
+        int tail = backward.chainLength(meet, width);
+        int[] path = new int[head + tail - 1];
+        int cell = meet;
+        for (int i = head - 1; i >= 0; i--) {
+            path[i] = cell;
+            cell = forward.parent(cell, width);
+        }
+        cell = meet;
+        for (int i = head - 1; i < path.length; i++) {
+            path[i] = cell;
+            cell = backward.parent(cell, width);
+        }
+        return path;
+    }
+
+    /** Состояние одного фронта */
+    private static final class Side {
+        /** Направление от родителя к клетке или {@link #ROOT} у корня */
+        private final byte[] parents;
+        /** Клетки, достигнутые фронтом */
+        private final LongBitSet seen;
+        /** Очередь поиска в ширину */
+        private final IntDeque queue = new IntDeque();
+        /** Длины путей от корня, только для A* */
+        private int[] costs;
+        /** Раскрытые клетки, только для A* */
+        private LongBitSet closed;
+        /** Открытое множество, только для A* */
+        private IntIndexedHeap open;
+        /** Достигнутые клетки в параллельном режиме */
+        private ConcurrentLongBitSet marks;
+
+        Side(int capacity) {
+            this.parents = new byte[capacity];
+            this.seen = new LongBitSet(capacity);
+        }
+
+        void reset() {
+            seen.clear();
+            queue.clear();
+        }
+
+        void seed(int root) {
+            seen.set(root);
+            parents[root] = ROOT;
+            queue.addLast(root);
+        }
+
+        void seed(int root, int target, int width) {
+            seen.set(root);
+            parents[root] = ROOT;
+            costs[root] = 0;
+            int estimate = PackedCoordinate.manhattanDistance(root, target, width);
+            open.offer(root, (long) estimate << COST_SHIFT | estimate);
+        }
+
+        void prepareAStar(int capacity) {
+            if (open == null) {
+                costs = new int[capacity];
+                closed = new LongBitSet(capacity);
+                open = new IntIndexedHeap(capacity);
+            }
+            closed.clear();
+            open.clear();
+        }
+
+        void prepareConcurrent(int capacity) {
+            if (marks == null) {
+                marks = new ConcurrentLongBitSet(capacity);
+            }
+            marks.clear();
+        }
+
+        int parent(int cell, int width) {
+            byte direction = parents[cell];
+            return direction == ROOT ? PackedCoordinate.NONE : cell - PackedCoordinate.offset(direction, width);
+        }
+
+        int chainLength(int cell, int width) {
+            int length = 0;
+            for (int point = cell; point != PackedCoordinate.NONE; point = parent(point, width)) {
+                length++;
+            }
+            return length;
+        }
+    }
+}
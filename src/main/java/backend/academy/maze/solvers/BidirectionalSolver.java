@@ -0,0 +1,92 @@
+package backend.academy.maze.solvers;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Coordinate;
+import java.util.LinkedList;
+import java.util.concurrent.ForkJoinPool;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Класс BidirectionalSolver предназначен для нахождения пути в лабиринте двунаправленным поиском:
+ * фронты растут от старта и от финиша навстречу друг другу. Для длинных путей в больших лабиринтах
+ * это раскрывает заметно меньше клеток, чем поиск в одну сторону.
+ */
+@Getter
+public class BidirectionalSolver implements Solver {
+    /** Вариант поиска */
+    private final Mode mode;
+    /** Пул потоков для режима {@link Mode#PARALLEL_BFS} */
+    private final ForkJoinPool pool;
+    @Getter(AccessLevel.NONE)
+    private final SearchEngines<BidirectionalSearch> searches =
+        new SearchEngines<>(BidirectionalSearch::new, BidirectionalSearch::capacity);
+
+    /** Конструктор по-умолчанию: двунаправленный поиск в ширину в одном потоке */
+    public BidirectionalSolver() {
+        this(Mode.BFS);
+    }
+
+    /**
+     * Конструктор с общим пулом потоков
+     *
+     * @param mode вариант поиска
+     */
+    public BidirectionalSolver(Mode mode) {
+        this(mode, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Конструктор
+     *
+     * @param mode вариант поиска
+     * @param pool пул потоков, в котором растёт прямой фронт в режиме {@link Mode#PARALLEL_BFS}
+     */
+    public BidirectionalSolver(Mode mode, ForkJoinPool pool) {
+        this.mode = mode;
+        this.pool = pool;
+    }
+
+    /**
+     * Находит путь между двумя точками в лабиринте двунаправленным поиском. Сам поиск выполняет
+     * {@link BidirectionalSearch}, у каждого потока свой переиспользуемый движок.
+     *
+     * @param maze   лабиринт, в котором нужно искать путь
+     * @param start  начальная точка
+     * @param finish конечная точка
+     * @return список из координат найденного пути (в порядке от начало до конца)
+     */
+    @Override
+    public LinkedList<Coordinate> solve(Maze maze, Coordinate start, Coordinate finish) {
+        return Solver.toCoordinates(maze, findPath(maze, maze.indexOf(start), maze.indexOf(finish)));
+    }
+
+    @Override
+    public int[] findPath(Maze maze, int start, int finish) {
+        BidirectionalSearch search = searches.get(maze.grid().size());
+        return switch (mode) {
+            case BFS -> search.findPathBfs(maze.grid(), maze.height(), maze.width(), start, finish);
+            case A_STAR -> search.findPathAStar(maze.grid(), maze.height(), maze.width(), start, finish);
+            case PARALLEL_BFS -> search.findPathParallel(maze.grid(), maze.height(), maze.width(), start, finish,
+                pool);
+        };
+    }
+
+    /**
+     * Освобождает движок текущего потока. В режиме {@link Mode#PARALLEL_BFS} прямой фронт растёт
+     * в потоке пула, но на массивах движка вызывающего потока, поэтому отдельного движка в пуле нет.
+     */
+    public void release() {
+        searches.release();
+    }
+
+    /** Вариант двунаправленного поиска */
+    public enum Mode {
+        /** Поиск в ширину, слоями меньшего фронта; путь кратчайший */
+        BFS,
+        /** A* в обе стороны; путь кратчайший */
+        A_STAR,
+        /** Поиск в ширину, фронты растут в двух потоках; путь кратчайший только в идеальном лабиринте */
+        PARALLEL_BFS
+    }
+}
@@ -0,0 +1,106 @@
+package backend.academy.maze.solvers;
+
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.field.PackedCoordinate;
+import backend.academy.maze.grid.Grid;
+import backend.academy.util.IntDeque;
+import backend.academy.util.LongBitSet;
+import lombok.Getter;
+
+/**
+ * Класс BreadthFirstSearch - движок поиска в ширину на примитивных массивах. Все рёбра лабиринта
+ * стоят одинаково, поэтому обычная очередь (кольцевой буфер {@link IntDeque}) раскрывает клетки
+ * в порядке расстояния от старта без кучи и эвристики, а первый же путь до финиша кратчайший.
+ * Посещённые клетки хранятся в битовом множестве, родители - в плоском массиве int.
+ * Массивы переиспользуются между поисками; объект не потокобезопасен.
+ */
+public class BreadthFirstSearch {
+    /** Максимальное количество клеток лабиринта */
+    @Getter
+    private final int capacity;
+    /** Предыдущая клетка на кратчайшем пути (действительна, если клетка посещена) */
+    private final int[] parents;
+    /** Посещённые клетки */
+    private final LongBitSet visited;
+    /** Очередь клеток для раскрытия */
+    private final IntDeque queue = new IntDeque();
+    /** Количество раскрытых клеток в последнем поиске */
+    @Getter
+    private int expanded;
+
+    /**
+     * Конструктор
+     *
+     * @param capacity максимальное количество клеток лабиринта
+     */
+    public BreadthFirstSearch(int capacity) {
+        this.capacity = capacity;
+        this.parents = new int[capacity];
+        this.visited = new LongBitSet(capacity);
+    }
+
+    /**
+     * Находит кратчайший путь между двумя клетками. Из очереди берётся первая клетка, и все её
+     * непосещённые соседи-проходы помечаются посещёнными, запоминают её как родителя и встают
+     * в конец очереди. Поиск заканчивается, как только финиш помечен посещённым.
+     *
+     * @param grid   клетки лабиринта
+     * @param height высота лабиринта
+     * @param width  ширина лабиринта
+     * @param start  индекс начальной клетки
+     * @param finish индекс конечной клетки
+     * @return индексы клеток пути от start до finish или пустой массив, если пути нет
+     * @throws IllegalArgumentException если лабиринт больше ёмкости движка
+     */
+    public int[] findPath(Grid grid, int height, int width, int start, int finish) {
+        if ((long) height * width > capacity) {
+            throw new IllegalArgumentException(
+                "Лабиринт %dx%d больше ёмкости движка %d".formatted(height, width, capacity));
+        }
+        byte wall = Cell.Type.WALL.code();
+        if (grid.get(start) == wall || grid.get(finish) == wall) {
+            return new int[0];
+        }
+        visited.clear();
+        queue.clear();
+        expanded = 0;
+
+        visited.set(start);
+        parents[start] = PackedCoordinate.NONE;
+        queue.addLast(start);
+        while (!queue.isEmpty() && !visited.get(finish)) {
+            int current = queue.removeFirst();
+            expanded++;
+            int row = PackedCoordinate.row(current, width);
+            int col = current - row * width;
+            for (int direction = 0; direction < PackedCoordinate.DIRECTIONS; direction++) {
+                int neighbor = PackedCoordinate.neighbor(row, col, direction, 1, height, width);
+                if (neighbor != PackedCoordinate.NONE && grid.get(neighbor) != wall && visited.add(neighbor)) {
+                    parents[neighbor] = current;
+                    queue.addLast(neighbor);
+                }
+            }
+        }
+        return visited.get(finish) ? path(finish) : new int[0];
+    }
+
+    /**
+     * Восстанавливает путь по родителям
+     *
+     * @param finish индекс конечной клетки
+     * @return индексы клеток пути от старта до finish
+     */
+    private int[] path(int finish) {
+        int length = 0;
+        for (int point = finish; point != PackedCoordinate.NONE; point = parents[point]) {
+            length++;
+        }
+        int[] path = new int[length];
+        int point = finish;
+        for (int i = length - 1; i >= 0; i--) {
+            path[i] = point;
+            point = parents[point];
+        }
+        return path;
+    }
+}
@@ -0,0 +1,46 @@
+package backend.academy.maze.solvers;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Coordinate;
+import java.util.LinkedList;
+
+/**
+ * Класс BreadthFirstSearchSolver предназначен для нахождения кратчайшего пути в лабиринте
+ * методом поиска в ширину.
+ */
+public class BreadthFirstSearchSolver implements Solver {
+    /** Движок поиска текущего потока */
+    private final SearchEngines<BreadthFirstSearch> searches =
+        new SearchEngines<>(BreadthFirstSearch::new, BreadthFirstSearch::capacity);
+
+    /**
+     * Находит кратчайший путь между двумя точками в лабиринте методом BFS.
+     * В отличие от DFS путь всегда кратчайший, а в отличие от A* не нужна очередь с приоритетом:
+     * в идеальном лабиринте манхэттенская эвристика почти ничего не отсекает, и поиск в ширину
+     * на кольцевой очереди и битовом множестве оказывается быстрее. Сам поиск выполняет
+     * {@link BreadthFirstSearch}, у каждого потока свой переиспользуемый движок.
+     *
+     * @param maze   лабиринт, в котором нужно искать путь
+     * @param start  начальная точка
+     * @param finish конечная точка
+     * @return список из координат найденного пути (в порядке от начало до конца)
+     */
+    @Override
+    public LinkedList<Coordinate> solve(Maze maze, Coordinate start, Coordinate finish) {
+        return Solver.toCoordinates(maze, findPath(maze, maze.indexOf(start), maze.indexOf(finish)));
+    }
+
+    @Override
+    public int[] findPath(Maze maze, int start, int finish) {
+        BreadthFirstSearch search = searches.get(maze.grid().size());
+        return search.findPath(maze.grid(), maze.height(), maze.width(), start, finish);
+    }
+
+    /**
+     * Освобождает движок текущего потока. Движки потоков пула держатся мягкой ссылкой
+     * и освобождаются сборщиком мусора при нехватке памяти.
+     */
+    public void release() {
+        searches.release();
+    }
+}
@@ -0,0 +1,232 @@
+package backend.academy.maze.solvers;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.field.Coordinate;
+import backend.academy.maze.field.PackedCoordinate;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.LinkedList;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Класс CachingSolver - обёртка над решателем, которая запоминает найденные пути в кэше Caffeine.
+ * Ключ - структурный отпечаток лабиринта ({@link Maze#fingerprint()}) и индексы начальной и конечной
+ * клеток. Лабиринт запоминает свой отпечаток, поэтому повторный запрос в том же лабиринте обходится
+ * без поиска и без прохода по хранилищу, в таком же (например, копии) - одним проходом по нему,
+ * а после изменения клеток отпечаток меняется, и старые записи просто перестают находиться, пока
+ * не вытеснятся. Кэш принадлежит одной обёртке, и решатель в ключ не входит: разные решатели
+ * оборачиваются в разные обёртки. Оборачивать стоит только детерминированные решатели: для
+ * случайного (например, {@link DepthFirstSearchSolver}) кэш закрепит первый найденный путь.
+ * Найденный в кэше путь перед возвратом проверяется по клеткам лабиринта: если отпечаток устарел
+ * (клетки писали прямо в {@link Maze#grid()} без {@link Maze#publish()}) или совпал с отпечатком
+ * другого лабиринта, запись выбрасывается и путь ищется заново. Отсутствие пути так не проверить,
+ * но и через стены оно не проведёт.
+ * Путь хранится компактно: по 2 бита на шаг (направление из {@link PackedCoordinate}), 4 шага в байте.
+ * Размер кэша ограничен суммарным весом записей в байтах.
+ */
+@Getter
+public class CachingSolver implements Solver {
+    /** Суммарный вес записей в кэше по-умолчанию, байт */
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 16L << 20;
+
+    /** Вес записи помимо самих шагов: ключ, заголовки объектов и ссылки кэша, байт */
+    private static final int ENTRY_OVERHEAD = 64;
+    /** Количество бит на один шаг */
+    private static final int BITS_PER_STEP = 2;
+    /** Количество шагов в одном байте */
+    private static final int STEPS_PER_BYTE = Byte.SIZE / BITS_PER_STEP;
+    /** Маска направления одного шага */
+    private static final int STEP_MASK = (1 << BITS_PER_STEP) - 1;
+
+    /** Решатель, результаты которого кэшируются */
+    private final Solver delegate;
+    @Getter(AccessLevel.NONE)
+    private final Cache<Key, EncodedPath> paths;
+
+    /**
+     * Конструктор с размером кэша по-умолчанию
+     *
+     * @param delegate решатель, результаты которого кэшируются
+     */
+    public CachingSolver(Solver delegate) {
+        this(delegate, DEFAULT_MAXIMUM_WEIGHT);
+    }
+
+    /**
+     * Конструктор
+     *
+     * @param delegate      решатель, результаты которого кэшируются
+     * @param maximumWeight суммарный вес записей в кэше, байт
+     */
+    public CachingSolver(Solver delegate, long maximumWeight) {
+        this.delegate = delegate;
+        this.paths = Caffeine.newBuilder()
+            .maximumWeight(maximumWeight)
+            .weigher((Key key, EncodedPath path) -> ENTRY_OVERHEAD + path.moves().length)
+            .executor(Runnable::run)
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public LinkedList<Coordinate> solve(Maze maze, Coordinate start, Coordinate finish) {
+        return Solver.toCoordinates(maze, findPath(maze, maze.indexOf(start), maze.indexOf(finish)));
+    }
+
+    /**
+     * Находит путь в кэше, а при промахе - обёрнутым решателем, и запоминает его
+     *
+     * @param maze   лабиринт, в котором нужно искать путь
+     * @param start  индекс начальной клетки
+     * @param finish индекс конечной клетки
+     * @return индексы клеток пути от start до finish или пустой массив, если пути нет
+     */
+    @Override
+    public int[] findPath(Maze maze, int start, int finish) {
+        Key key = new Key(maze.fingerprint(), start, finish);
+        EncodedPath path = paths.get(key, ignored -> encode(delegate.findPath(maze, start, finish), maze.width()));
+        int[] cells = decode(path, start, maze.width());
+        if (cells.length == 0 || isOpen(maze, cells, finish)) {
+            return cells;
+        }
+        // Отпечаток устарел (запись в хранилище в обход лабиринта) или совпал с отпечатком другого лабиринта
+        paths.invalidate(key);
+        cells = delegate.findPath(maze, start, finish);
+        paths.put(key, encode(cells, maze.width()));
+        return cells;
+    }
+
+    /**
+     * Получает статистику кэша: попадания, промахи, вытеснения
+     *
+     * @return снимок статистики
+     */
+    public CacheStats stats() {
+        return paths.stats();
+    }
+
+    /**
+     * Получает количество путей в кэше
+     *
+     * @return приблизительное количество записей
+     */
+    public long cachedPaths() {
+        return paths.estimatedSize();
+    }
+
+    /** Удаляет все пути из кэша */
+    public void invalidateAll() {
+        paths.invalidateAll();
+    }
+
+    /**
+     * Проверяет, что путь из кэша действительно ведёт в finish по проходам этого лабиринта.
+     * Стоит O(длины пути), что несравнимо дешевле поиска, который экономит кэш.
+     *
+     * @param maze   лабиринт
+     * @param cells  индексы клеток пути
+     * @param finish индекс конечной клетки
+     * @return true, если все клетки пути в лабиринте, не стены и соседние, а последняя - finish
+     */
+    private static boolean isOpen(Maze maze, int[] cells, int finish) {
+        if (cells[cells.length - 1] != finish) {
+            return false;
+        }
+        int size = maze.grid().size();
+        int width = maze.width();
+        byte wall = Cell.Type.WALL.code();
+        for (int i = 0; i < cells.length; i++) {
+            int cell = cells[i];
+            if (cell < 0 || cell >= size || maze.grid().get(cell) == wall) {
+                return false;
+            }
+            // Шаг влево или вправо не должен переходить на другую строку
+            if (i > 0 && Math.abs(cell - cells[i - 1]) == 1 && cell / width != cells[i - 1] / width) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Кодирует путь направлениями шагов
+     *
+     * @param path  индексы клеток пути
+     * @param width ширина лабиринта
+     * @return закодированный путь
+     */
+    private static EncodedPath encode(int[] path, int width) {
+        if (path.length == 0) {
+            return EncodedPath.NONE;
+        }
+        int steps = path.length - 1;
+        byte[] moves = new byte[(steps + STEPS_PER_BYTE - 1) / STEPS_PER_BYTE];
+        for (int step = 0; step < steps; step++) {
+            int direction = direction(path[step + 1] - path[step], width);
+            moves[step / STEPS_PER_BYTE] |= (byte) (direction << (step % STEPS_PER_BYTE * BITS_PER_STEP));
+        }
+        return new EncodedPath(steps, moves);
+    }
+
+    /**
+     * Восстанавливает индексы клеток пути по направлениям шагов
+     *
+     * @param path  закодированный путь
+     * @param start индекс начальной клетки
+     * @param width ширина лабиринта
+     * @return индексы клеток пути
+     */
+    private static int[] decode(EncodedPath path, int start, int width) {
+        if (path.steps() < 0) {
+            return new int[0];
+        }
+        int[] cells = new int[path.steps() + 1];
+        cells[0] = start;
+        for (int step = 0; step < path.steps(); step++) {
+            int direction = (path.moves()[step / STEPS_PER_BYTE] >>> (step % STEPS_PER_BYTE * BITS_PER_STEP))
+                & STEP_MASK;
+            cells[step + 1] = cells[step] + PackedCoordinate.offset(direction, width);
+        }
+        return cells;
+    }
+
+    /**
+     * Находит направление шага между соседними клетками
+     *
+     * @param delta разность индексов соседних клеток
+     * @param width ширина лабиринта
+     * @return направление из {@link PackedCoordinate}
+     */
+    private static int direction(int delta, int width) {
+        for (int direction = 0; direction < PackedCoordinate.DIRECTIONS; direction++) {
+            if (PackedCoordinate.offset(direction, width) == delta) {
+                return direction;
+            }
+        }
+        throw new IllegalArgumentException("Клетки пути не соседние, разность индексов " + delta);
+    }
+
+    /**
+     * Ключ кэша
+     *
+     * @param maze   отпечаток лабиринта
+     * @param start  индекс начальной клетки
+     * @param finish индекс конечной клетки
+     */
+    private record Key(long maze, int start, int finish) {
+    }
+
+    /**
+     * Путь, закодированный направлениями шагов
+     *
+     * @param steps количество шагов или -1, если пути нет
+     * @param moves направления шагов по 2 бита
+     */
+    private record EncodedPath(int steps, byte[] moves) {
+        /** Отсутствующий путь */
+        static final EncodedPath NONE = new EncodedPath(-1, new byte[0]);
+    }
+}
@@ -3,26 +3,37 @@ package backend.academy.maze.solvers;
 import backend.academy.maze.Maze;
 import backend.academy.maze.field.Cell;
 import backend.academy.maze.field.Coordinate;
-import java.security.SecureRandom;
-import java.util.ArrayList;
-import java.util.Deque;
-import java.util.HashMap;
+import backend.academy.maze.field.PackedCoordinate;
+import backend.academy.util.RandomSource;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import java.util.LinkedList;
-import java.util.List;
+import java.util.random.RandomGenerator;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 
 /**
  * Класс DepthFirstSearchSolver предназначен для нахождения пути в лабиринте
  * методом поиска в глубину.
  */
+@Getter
+@AllArgsConstructor
 public class DepthFirstSearchSolver implements Solver {
+    /** Источник случайности для выбора соседей (с зафиксированным зерном путь воспроизводим) */
+    private final RandomSource randomSource;
+
+    /** Конструктор по-умолчанию, использует источник случайности по умолчанию */
+    public DepthFirstSearchSolver() {
+        this(RandomSource.defaultSource());
+    }
 
     /**
      * Находит путь между двумя точками в лабиринте методом DFS.
      * Начинаем с точки start. Смотрим соседей текущей клетки,
      * при обнаружении непосещенного прохода добавляем его в список соседей.
-     * Если список с соседями не пуст, то добавляем точку в дек,
+     * Если список с соседями не пуст, то добавляем точку в стек,
      * чтобы далее можно было либо вернуться, либо в итоге получить путь; иначе
-     * возвращаемся назад по деку на одну точку назад, т.к из текущей нет выхода.
+     * возвращаемся назад по стеку на одну точку назад, т.к из текущей нет выхода.
      * Повторяем эти шаги до тех пор, пока текущая клетка не станет финишной.
      *
      * @param maze   лабиринт, в котором нужно искать путь
@@ -36,48 +47,53 @@ public class DepthFirstSearchSolver implements Solver {
             return new LinkedList<>();
         }
 
-        HashMap<Coordinate, Boolean> visited = new HashMap<>();
-        Deque<Coordinate> dq = new LinkedList<>();
-        SecureRandom sr = new SecureRandom();
+        int height = maze.height();
+        int width = maze.width();
+        int finishIndex = maze.indexOf(finish);
 
-        Coordinate current = start;
-        visited.put(current, Boolean.TRUE);
-        ArrayList<Coordinate> neighbours = new ArrayList<>();
+        IntOpenHashSet visited = new IntOpenHashSet();
+        IntArrayList stack = new IntArrayList();
+        RandomGenerator random = randomSource.create();
 
-        while (!current.equals(finish)) {
-            for (List<Integer> i : List.of(List.of(0, -1), List.of(0, 1), List.of(-1, 0), List.of(1, 0))) {
-                Coordinate currentNeighbour = new Coordinate(current.row() + i.getFirst(),
-                    current.col() + i.getLast());
-                if (!(checkBorders(currentNeighbour, maze.height(), maze.width()))) {
-                    continue;
-                }
-                if (!visited.containsKey(currentNeighbour)
+        int current = maze.indexOf(start);
+        visited.add(current);
+        IntArrayList neighbours = new IntArrayList(PackedCoordinate.DIRECTIONS);
+
+        while (current != finishIndex) {
+            int row = PackedCoordinate.row(current, width);
+            int col = PackedCoordinate.col(current, width);
+            for (int direction = 0; direction < PackedCoordinate.DIRECTIONS; direction++) {
+                int currentNeighbour = PackedCoordinate.neighbor(row, col, direction, 1, height, width);
+                if (currentNeighbour != PackedCoordinate.NONE && !visited.contains(currentNeighbour)
                     && maze.getCellType(currentNeighbour) != Cell.Type.WALL) {
                     neighbours.add(currentNeighbour);
                 }
             }
             if (!neighbours.isEmpty()) {
-                dq.push(current);
+                stack.push(current);
 
-                int index = sr.nextInt(neighbours.size());
-                current = neighbours.get(index);
-                visited.put(current, Boolean.TRUE);
+                int index = random.nextInt(neighbours.size());
+                current = neighbours.getInt(index);
+                visited.add(current);
                 neighbours.clear();
-                // maze.setCellType(current, Cell.Type.VISITED);
-            } else if (!dq.isEmpty()) {
-                current = dq.pop();
-                visited.put(current, Boolean.TRUE);
+            } else if (!stack.isEmpty()) {
+                current = stack.popInt();
             } else {
                 break;
             }
         }
-        dq.push(current);
+        stack.push(current);
 
-        return new LinkedList<>(dq.reversed());
+        LinkedList<Coordinate> path = new LinkedList<>();
+        for (int i = 0; i < stack.size(); i++) {
+            path.add(maze.coordinateOf(stack.getInt(i)));
+        }
+        return path;
     }
 
     /**
      * Проверяет л̶и̶ч̶н̶ы̶е̶ границы. Необходимо для проверки, существует ли соседняя клетка.
+     * Сохранён ради совместимости, сама проверка - {@link PackedCoordinate#inBounds}.
      *
      * @param c      координата проверяемой точки
      * @param height высота лабиринта, в котором идёт п̶о̶г̶р̶а̶н̶и̶ч̶н̶ы̶й̶ контроль
@@ -85,6 +101,6 @@ public class DepthFirstSearchSolver implements Solver {
      * @return логическое true, если точка в границах поля, иначе false
      */
     public boolean checkBorders(Coordinate c, int height, int width) {
-        return (c.row() >= 0) && (c.row() < height) && (c.col() >= 0) && (c.col() < width);
+        return PackedCoordinate.inBounds(c.row(), c.col(), height, width);
     }
 }
@@ -0,0 +1,12 @@
+package backend.academy.maze.solvers;
+
+import backend.academy.maze.field.Coordinate;
+
+/**
+ * Запрос пути для {@link BatchSolver}: пара точек, между которыми нужно найти путь
+ *
+ * @param start  начальная точка
+ * @param finish конечная точка
+ */
+public record PathQuery(Coordinate start, Coordinate finish) {
+}
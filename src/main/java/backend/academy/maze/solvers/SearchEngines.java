@@ -0,0 +1,55 @@
+package backend.academy.maze.solvers;
+
+import java.lang.ref.SoftReference;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Класс SearchEngines хранит переиспользуемые движки поиска решателя, по одному на поток.
+ * Движок держит массивы на все клетки лабиринта (для 10000x10000 это больше гигабайта), поэтому
+ * потоки пула не должны удерживать его вечно: ссылка на движок мягкая, и при нехватке памяти
+ * сборщик мусора освобождает его, а следующий поиск создаст новый. Поток, который закончил
+ * работу с большим лабиринтом, может освободить свой движок сразу через {@link #release()}.
+ *
+ * @param <E> тип движка поиска
+ */
+final class SearchEngines<E> {
+    private final ThreadLocal<SoftReference<E>> engines = new ThreadLocal<>();
+    /** Создает движок заданной ёмкости */
+    private final IntFunction<E> factory;
+    /** Получает ёмкость движка */
+    private final ToIntFunction<E> capacity;
+
+    /**
+     * Конструктор
+     *
+     * @param factory  создает движок на заданное количество клеток
+     * @param capacity получает ёмкость движка в клетках
+     */
+    SearchEngines(IntFunction<E> factory, ToIntFunction<E> capacity) {
+        this.factory = factory;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Получает движок текущего потока, создавая новый, если его нет, его освободил сборщик мусора
+     * или лабиринт в него не помещается
+     *
+     * @param size количество клеток лабиринта
+     * @return движок не меньше заданной ёмкости
+     */
+    E get(int size) {
+        SoftReference<E> reference = engines.get();
+        E engine = reference == null ? null : reference.get();
+        if (engine == null || capacity.applyAsInt(engine) < size) {
+            engine = factory.apply(size);
+            engines.set(new SoftReference<>(engine));
+        }
+        return engine;
+    }
+
+    /** Освобождает движок текущего потока; движки других потоков остаются до их освобождения */
+    void release() {
+        engines.remove();
+    }
+}
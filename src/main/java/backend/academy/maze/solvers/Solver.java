@@ -15,4 +15,35 @@ public interface Solver {
      * @return список из координат найденного пути (в порядке от начало до конца)
      */
     LinkedList<Coordinate> solve(Maze maze, Coordinate start, Coordinate finish);
+
+    /**
+     * Находит путь между двумя клетками в лабиринте, возвращая индексы клеток вместо координат.
+     * Решатели на движках с примитивными массивами переопределяют метод и отдают результат движка
+     * без промежуточного списка; реализация по-умолчанию переводит результат {@link #solve}.
+     *
+     * @param maze   лабиринт, в котором нужно искать путь
+     * @param start  индекс начальной клетки
+     * @param finish индекс конечной клетки
+     * @return индексы клеток пути от start до finish или пустой массив, если пути нет
+     */
+    default int[] findPath(Maze maze, int start, int finish) {
+        return solve(maze, maze.coordinateOf(start), maze.coordinateOf(finish)).stream()
+            .mapToInt(maze::indexOf)
+            .toArray();
+    }
+
+    /**
+     * Переводит путь из индексов клеток в координаты
+     *
+     * @param maze    лабиринт, в котором найден путь
+     * @param indices индексы клеток пути по порядку
+     * @return список координат пути в том же порядке
+     */
+    static LinkedList<Coordinate> toCoordinates(Maze maze, int[] indices) {
+        LinkedList<Coordinate> path = new LinkedList<>();
+        for (int index : indices) {
+            path.add(maze.coordinateOf(index));
+        }
+        return path;
+    }
 }
@@ -0,0 +1,250 @@
+package backend.academy.maze.solvers;
+
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.field.PackedCoordinate;
+import backend.academy.maze.grid.Grid;
+import backend.academy.util.IntDeque;
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * Класс TreeIndex - индекс лабиринта без циклов для мгновенных запросов пути. Идеальный лабиринт
+ * (например, от {@link backend.academy.maze.generators.PrimGenerator} или
+ * {@link backend.academy.maze.generators.KruskalGenerator}) - это остовное дерево над проходами,
+ * и путь между двумя клетками в нём единственный: от каждой из них вверх до наименьшего общего
+ * предка (LCA). Индекс один раз обходит лабиринт в ширину и для каждой клетки запоминает глубину,
+ * направление от родителя (один байт) и указатель прыжка к одному из предков. Прыжки устроены по
+ * косой двоичной системе (указатели Майерса): занимают одно число на клетку вместо log(N) у двоичных
+ * подъёмов, но так же находят предка нужной глубины и LCA за O(log N). Поэтому расстояние считается
+ * за O(log N), а сам путь выписывается за O(длины пути) без всякого поиска.
+ * Если лабиринт состоит из нескольких несвязных частей, индекс строится для каждой из них (лес).
+ * Если в лабиринте есть цикл, {@link #acyclic()} возвращает false, и отвечать на запросы индекс
+ * не может: пути уже не единственны. После построения объект не меняется и потокобезопасен.
+ */
+public class TreeIndex {
+    /** Направление родителя у корня дерева */
+    private static final byte ROOT = -1;
+    /** Глубина клетки-стены, которой нет в индексе */
+    private static final int NO_DEPTH = -1;
+
+    /** Высота лабиринта */
+    @Getter
+    private final int height;
+    /** Ширина лабиринта */
+    @Getter
+    private final int width;
+    /** Верно ли, что в лабиринте нет циклов, и индекс может отвечать на запросы */
+    @Getter
+    private final boolean acyclic;
+    /** Количество связных частей лабиринта (деревьев в лесу) */
+    @Getter
+    private final int components;
+    /** Глубина клетки от корня её дерева или {@link #NO_DEPTH} у стены */
+    private final int[] depths;
+    /** Направление от родителя к клетке или {@link #ROOT} у корня */
+    private final byte[] parents;
+    /** Предок, к которому ведёт прыжок из клетки; у корня - сам корень */
+    private final int[] jumps;
+
+    /**
+     * Конструктор строит индекс. Клетки перебираются по порядку, и от каждой ещё не попавшей
+     * в индекс клетки-прохода запускается обход в ширину - так она становится корнем нового дерева.
+     * Родитель всегда раскрывается раньше детей, поэтому прыжок ребёнка вычисляется сразу:
+     * если два прыжка подряд от родителя покрывают одинаковое количество уровней, прыжок ребёнка
+     * перелетает оба, иначе ведёт в родителя. Если из клетки виден уже обойдённый сосед, который
+     * не её родитель, то в лабиринте есть цикл.
+     *
+     * @param grid   клетки лабиринта
+     * @param height высота лабиринта
+     * @param width  ширина лабиринта
+     */
+    public TreeIndex(Grid grid, int height, int width) {
+        this.height = height;
+        this.width = width;
+        int size = height * width;
+        this.depths = new int[size];
+        this.parents = new byte[size];
+        this.jumps = new int[size];
+        Arrays.fill(depths, NO_DEPTH);
+
+        byte wall = Cell.Type.WALL.code();
+        IntDeque queue = new IntDeque();
+        boolean cycle = false;
+        int trees = 0;
+        for (int root = 0; root < size; root++) {
+            if (grid.get(root) == wall || depths[root] != NO_DEPTH) {
+                continue;
+            }
+            trees++;
+            depths[root] = 0;
+            parents[root] = ROOT;
+            jumps[root] = root;
+            queue.addLast(root);
+            while (!queue.isEmpty()) {
+                int current = queue.removeFirst();
+                int parent = parent(current);
+                int jump = childJump(current);
+                int row = PackedCoordinate.row(current, width);
+                int col = current - row * width;
+                for (int direction = 0; direction < PackedCoordinate.DIRECTIONS; direction++) {
+                    int neighbor = PackedCoordinate.neighbor(row, col, direction, 1, height, width);
+                    if (neighbor == PackedCoordinate.NONE || grid.get(neighbor) == wall) {
+                        continue;
+                    }
+                    if (depths[neighbor] == NO_DEPTH) {
+                        depths[neighbor] = depths[current] + 1;
+                        parents[neighbor] = (byte) direction;
+                        jumps[neighbor] = jump;
+                        queue.addLast(neighbor);
+                    } else if (neighbor != parent) {
+                        cycle = true;
+                    }
+                }
+            }
+        }
+        this.acyclic = !cycle;
+        this.components = trees;
+    }
+
+    /**
+     * Проверяет, есть ли клетка в индексе
+     *
+     * @param cell индекс клетки
+     * @return true, если клетка - проход
+     */
+    public boolean contains(int cell) {
+        return depths[cell] != NO_DEPTH;
+    }
+
+    /**
+     * Получает глубину клетки от корня её дерева
+     *
+     * @param cell индекс клетки-прохода
+     * @return глубина клетки
+     */
+    public int depth(int cell) {
+        return depths[cell];
+    }
+
+    /**
+     * Получает родителя клетки
+     *
+     * @param cell индекс клетки-прохода
+     * @return индекс родителя или {@link PackedCoordinate#NONE} у корня
+     */
+    public int parent(int cell) {
+        byte direction = parents[cell];
+        return direction == ROOT ? PackedCoordinate.NONE : cell - PackedCoordinate.offset(direction, width);
+    }
+
+    /**
+     * Находит предка клетки на заданной глубине: прыжком, если он не перелетает нужную глубину,
+     * иначе шагом к родителю. Таких шагов O(log N).
+     *
+     * @param cell  индекс клетки-прохода
+     * @param depth глубина предка, не больше глубины клетки
+     * @return индекс предка
+     */
+    public int ancestor(int cell, int depth) {
+        int current = cell;
+        while (depths[current] > depth) {
+            int jump = jumps[current];
+            current = depths[jump] >= depth ? jump : parent(current);
+        }
+        return current;
+    }
+
+    /**
+     * Находит наименьшего общего предка двух клеток. Сначала более глубокая клетка поднимается
+     * до глубины другой. Прыжки клеток одной глубины ведут на одну и ту же глубину, поэтому дальше
+     * обе прыгают, пока прыжки ведут в разных предков, а иначе делают по шагу к родителю.
+     *
+     * @param a индекс первой клетки
+     * @param b индекс второй клетки
+     * @return индекс общего предка или {@link PackedCoordinate#NONE}, если клетки в разных
+     *     частях лабиринта или одна из них стена
+     */
+    public int lowestCommonAncestor(int a, int b) {
+        if (!contains(a) || !contains(b)) {
+            return PackedCoordinate.NONE;
+        }
+        int first = ancestor(a, Math.min(depths[a], depths[b]));
+        int second = ancestor(b, depths[first]);
+        while (first != second) {
+            if (depths[first] == 0) {
+                return PackedCoordinate.NONE;
+            }
+            if (jumps[first] != jumps[second]) {
+                first = jumps[first];
+                second = jumps[second];
+            } else {
+                first = parent(first);
+                second = parent(second);
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Вычисляет длину пути между двумя клетками в шагах за O(log N)
+     *
+     * @param start  индекс начальной клетки
+     * @param finish индекс конечной клетки
+     * @return количество шагов или -1, если пути нет
+     */
+    public int distance(int start, int finish) {
+        int lca = lowestCommonAncestor(start, finish);
+        return lca == PackedCoordinate.NONE ? -1 : depths[start] + depths[finish] - 2 * depths[lca];
+    }
+
+    /**
+     * Выписывает путь между двумя клетками: от старта вверх до общего предка, затем от финиша
+     * вверх до него же, заполняя массив с конца. Поиска нет, время - O(длины пути).
+     *
+     * @param start  индекс начальной клетки
+     * @param finish индекс конечной клетки
+     * @return индексы клеток пути от start до finish или пустой массив, если пути нет
+     * @throws IllegalStateException если в лабиринте есть циклы
+     */
+    public int[] findPath(int start, int finish) {
+        if (!acyclic) {
+            throw new IllegalStateException("В лабиринте есть циклы, путь по индексу дерева не единственный");
+        }
+        int lca = lowestCommonAncestor(start, finish);
+        if (lca == PackedCoordinate.NONE) {
+            return new int[0];
+        }
+        int[] path = new int[depths[start] + depths[finish] - 2 * depths[lca] + 1];
+        int i = 0;
+        for (int cell = start; cell != lca; cell = parent(cell)) {
+            path[i++] = cell;
+        }
+        path[i] = lca;
+        int j = path.length - 1;
+        for (int cell = finish; cell != lca; cell = parent(cell)) {
+            path[j--] = cell;
+        }
+        return path;
+    }
+
+    /**
+     * Оценивает объём памяти, занимаемый индексом
+     *
+     * @return количество байт
+     */
+    public long footprint() {
+        return (long) depths.length * (Integer.BYTES + Integer.BYTES + Byte.BYTES);
+    }
+
+    /**
+     * Вычисляет прыжок для детей клетки
+     *
+     * @param cell индекс уже проиндексированной клетки
+     * @return предок, к которому ведёт прыжок её детей
+     */
+    private int childJump(int cell) {
+        int jump = jumps[cell];
+        int next = jumps[jump];
+        return depths[cell] - depths[jump] == depths[jump] - depths[next] ? next : cell;
+    }
+}
@@ -0,0 +1,142 @@
+package backend.academy.maze.solvers;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Coordinate;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.LinkedList;
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Класс TreeIndexSolver предназначен для нахождения пути в идеальном лабиринте по заранее
+ * построенному {@link TreeIndex}: первый запрос к лабиринту строит индекс за O(N), а все следующие
+ * выписывают путь за O(длины пути) без поиска. Если в лабиринте нашлись циклы, решатель это
+ * запоминает и отвечает поиском в ширину.
+ * Индексы хранятся в кэше по самому объекту лабиринта (по ссылке, а не по содержимому) и пропадают
+ * вместе с ним. Рядом с индексом запоминается отпечаток лабиринта ({@link Maze#fingerprint()}):
+ * если клетки с тех пор менялись через методы лабиринта или {@link Maze#publish()}, отпечаток
+ * не совпадёт, и индекс будет построен заново. Размер кэша ограничен суммарным объёмом индексов
+ * ({@link TreeIndex#footprint()}), а не их количеством: индекс лабиринта 10000x10000 занимает около 900 МБ.
+ */
+@Getter
+public class TreeIndexSolver implements Solver {
+    /** Суммарный объём индексов в кэше по-умолчанию, байт; вмещает один индекс лабиринта 10000x10000 */
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 1L << 30;
+
+    /** Вес записи о лабиринте с циклами, у которой нет индекса */
+    private static final int CYCLIC_WEIGHT = 1;
+
+    /** Решатель для лабиринтов с циклами */
+    private final Solver fallback;
+    /** Индексы лабиринтов вместе с отпечатками, по которым они построены */
+    @Getter(AccessLevel.NONE)
+    private final Cache<Maze, Indexed> indices;
+
+    /** Конструктор по-умолчанию: лабиринты с циклами решаются поиском в ширину */
+    public TreeIndexSolver() {
+        this(new BreadthFirstSearchSolver(), DEFAULT_MAXIMUM_WEIGHT);
+    }
+
+    /**
+     * Конструктор
+     *
+     * @param fallback      решатель для лабиринтов с циклами
+     * @param maximumWeight суммарный объём индексов в кэше, байт
+     */
+    public TreeIndexSolver(Solver fallback, long maximumWeight) {
+        this.fallback = fallback;
+        this.indices = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumWeight(maximumWeight)
+            .weigher((Maze maze, Indexed indexed) -> indexed.index() == null ? CYCLIC_WEIGHT
+                : (int) Math.min(Integer.MAX_VALUE, indexed.index().footprint()))
+            .executor(Runnable::run)
+            .build();
+    }
+
+    /**
+     * Находит путь между двумя точками в лабиринте. В идеальном лабиринте путь единственный,
+     * поэтому он совпадает с кратчайшим путём любого другого решателя.
+     *
+     * @param maze   лабиринт, в котором нужно искать путь
+     * @param start  начальная точка
+     * @param finish конечная точка
+     * @return список из координат найденного пути (в порядке от начало до конца)
+     */
+    @Override
+    public LinkedList<Coordinate> solve(Maze maze, Coordinate start, Coordinate finish) {
+        return Solver.toCoordinates(maze, findPath(maze, maze.indexOf(start), maze.indexOf(finish)));
+    }
+
+    @Override
+    public int[] findPath(Maze maze, int start, int finish) {
+        Optional<TreeIndex> index = index(maze);
+        return index.isPresent() ? index.get().findPath(start, finish) : fallback.findPath(maze, start, finish);
+    }
+
+    /**
+     * Вычисляет длину пути между двумя точками, не выписывая сам путь
+     *
+     * @param maze   лабиринт
+     * @param start  начальная точка
+     * @param finish конечная точка
+     * @return количество шагов или -1, если пути нет
+     */
+    public int distance(Maze maze, Coordinate start, Coordinate finish) {
+        Optional<TreeIndex> index = index(maze);
+        if (index.isEmpty()) {
+            return fallback.findPath(maze, maze.indexOf(start), maze.indexOf(finish)).length - 1;
+        }
+        return index.get().distance(maze.indexOf(start), maze.indexOf(finish));
+    }
+
+    /**
+     * Получает индекс лабиринта, при необходимости строит его. Индекс, построенный до изменения
+     * клеток, перестраивается. Несколько потоков, одновременно спросивших индекс одного лабиринта,
+     * дождутся одного построения.
+     *
+     * @param maze лабиринт
+     * @return индекс или пустое значение, если в лабиринте есть циклы
+     */
+    public Optional<TreeIndex> index(Maze maze) {
+        long fingerprint = maze.fingerprint();
+        Indexed indexed = indices.getIfPresent(maze);
+        if (indexed == null || indexed.fingerprint() != fingerprint) {
+            indexed = indices.asMap().compute(maze, (key, cached) ->
+                cached != null && cached.fingerprint() == fingerprint ? cached : build(key, fingerprint));
+        }
+        return Optional.ofNullable(indexed.index());
+    }
+
+    /**
+     * Забывает индекс лабиринта, чтобы сразу освободить его память
+     *
+     * @param maze лабиринт
+     */
+    public void invalidate(Maze maze) {
+        indices.invalidate(maze);
+    }
+
+    /**
+     * Строит индекс лабиринта
+     *
+     * @param maze        лабиринт
+     * @param fingerprint отпечаток лабиринта
+     * @return индекс с отпечатком
+     */
+    private static Indexed build(Maze maze, long fingerprint) {
+        TreeIndex index = new TreeIndex(maze.grid(), maze.height(), maze.width());
+        return new Indexed(fingerprint, index.acyclic() ? index : null);
+    }
+
+    /**
+     * Индекс лабиринта и отпечаток, по которому он построен
+     *
+     * @param fingerprint отпечаток лабиринта
+     * @param index       индекс или null, если в лабиринте есть циклы
+     */
+    private record Indexed(long fingerprint, TreeIndex index) {
+    }
+}
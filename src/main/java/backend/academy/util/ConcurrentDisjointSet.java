@@ -0,0 +1,113 @@
+package backend.academy.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Класс ConcurrentDisjointSet - потокобезопасная система непересекающихся множеств без блокировок.
+ * Родители хранятся в {@link AtomicIntegerArray}. Корни подвешиваются друг к другу через
+ * compareAndSet: корень с меньшим номером всегда под корень с большим, поэтому циклов не бывает
+ * даже при одновременных объединениях. При поиске корня пути сокращаются вдвое (path halving)
+ * тоже через compareAndSet, так что конкурирующие потоки не портят друг другу деревья.
+ */
+public class ConcurrentDisjointSet {
+    /** Родитель каждого элемента, у корня - он сам */
+    private final AtomicIntegerArray parent;
+    /** Текущее количество множеств */
+    private final AtomicInteger components;
+
+    /**
+     * Конструктор создает size одноэлементных множеств
+     *
+     * @param size количество элементов
+     */
+    public ConcurrentDisjointSet(int size) {
+        parent = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) {
+            parent.set(i, i);
+        }
+        components = new AtomicInteger(size);
+    }
+
+    /**
+     * Находит представителя множества, в котором лежит элемент. Пока другие потоки объединяют
+     * множества, результат может сразу устареть, но всегда является корнем на момент чтения.
+     *
+     * @param x элемент
+     * @return корень множества
+     */
+    public int find(int x) {
+        int current = x;
+        int next = parent.get(current);
+        while (next != current) {
+            int grandparent = parent.get(next);
+            parent.compareAndSet(current, next, grandparent);
+            current = grandparent;
+            next = parent.get(current);
+        }
+        return current;
+    }
+
+    /**
+     * Объединяет множества, в которых лежат два элемента
+     *
+     * @param a первый элемент
+     * @param b второй элемент
+     * @return true, если именно этот вызов объединил два разных множества, иначе false
+     */
+    public boolean union(int a, int b) {
+        while (true) {
+            int rootA = find(a);
+            int rootB = find(b);
+            if (rootA == rootB) {
+                return false;
+            }
+            int child = Math.min(rootA, rootB);
+            int root = Math.max(rootA, rootB);
+            // Если child уже не корень, значит его кто-то подвесил раньше - пробуем снова
+            if (parent.compareAndSet(child, child, root)) {
+                components.decrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Проверяет, лежат ли элементы в одном множестве
+     *
+     * @param a первый элемент
+     * @param b второй элемент
+     * @return true, если элементы в одном множестве, иначе false
+     */
+    public boolean connected(int a, int b) {
+        while (true) {
+            int rootA = find(a);
+            int rootB = find(b);
+            if (rootA == rootB) {
+                return true;
+            }
+            // Корень a мог стать не корнем, пока искали корень b
+            if (parent.get(rootA) == rootA) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Получает количество элементов
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return parent.length();
+    }
+
+    /**
+     * Получает текущее количество множеств
+     *
+     * @return количество множеств
+     */
+    public int components() {
+        return components.get();
+    }
+}
@@ -0,0 +1,69 @@
+package backend.academy.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * Класс ConcurrentLongBitSet - потокобезопасный вариант {@link LongBitSet} без блокировок.
+ * Бит устанавливается атомарным {@code getAndBitwiseOr} над словом через {@link VarHandle},
+ * а читается volatile-чтением. Поэтому если два потока добавляют элементы и проверяют множества
+ * друг друга, хотя бы один из них обязательно увидит чужой элемент, а всё записанное другим
+ * потоком до добавления элемента видно тому, кто этот элемент увидел.
+ */
+public class ConcurrentLongBitSet {
+    /** Количество бит в слове, логарифм */
+    private static final int WORD_SHIFT = 6;
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /** Слова с битами */
+    private final long[] words;
+    /** Количество элементов */
+    private final int size;
+
+    /**
+     * Конструктор создает пустое множество
+     *
+     * @param size количество элементов
+     */
+    public ConcurrentLongBitSet(int size) {
+        this.size = size;
+        this.words = new long[(size + Long.SIZE - 1) >>> WORD_SHIFT];
+    }
+
+    /**
+     * Проверяет, лежит ли элемент в множестве
+     *
+     * @param index элемент
+     * @return true, если бит установлен
+     */
+    public boolean get(int index) {
+        return ((long) WORDS.getVolatile(words, index >>> WORD_SHIFT) & (1L << index)) != 0;
+    }
+
+    /**
+     * Атомарно добавляет элемент в множество, если его там не было
+     *
+     * @param index элемент
+     * @return true, если элемент добавлен этим вызовом, иначе false
+     */
+    public boolean add(int index) {
+        long mask = 1L << index;
+        return ((long) WORDS.getAndBitwiseOr(words, index >>> WORD_SHIFT, mask) & mask) == 0;
+    }
+
+    /** Удаляет все элементы. Нельзя вызывать одновременно с другими методами. */
+    public void clear() {
+        Arrays.fill(words, 0);
+        VarHandle.releaseFence();
+    }
+
+    /**
+     * Получает количество элементов, которые могут лежать в множестве
+     *
+     * @return размер множества
+     */
+    public int size() {
+        return size;
+    }
+}
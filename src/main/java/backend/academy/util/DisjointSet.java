@@ -0,0 +1,107 @@
+package backend.academy.util;
+
+import java.util.Arrays;
+
+/**
+ * Класс DisjointSet представляет собой систему непересекающихся множеств (union-find)
+ * над элементами 0..size-1. Построен на примитивном массиве, использует сжатие путей
+ * (path halving) и объединение по рангу, поэтому find и union работают за почти O(1).
+ * Ранг корня хранится в том же массиве, что и родители, в виде отрицательного числа
+ * {@code -(rank + 1)}: так при поиске корня читается только одна ячейка памяти на шаг.
+ */
+public class DisjointSet {
+    /** Родитель каждого элемента либо {@code -(rank + 1)} для корня множества */
+    private final int[] parent;
+    /** Текущее количество множеств */
+    private int components;
+
+    /**
+     * Конструктор создает size одноэлементных множеств
+     *
+     * @param size количество элементов
+     */
+    public DisjointSet(int size) {
+        parent = new int[size];
+        reset();
+    }
+
+    /** Снова разбивает все элементы на одноэлементные множества */
+    public void reset() {
+        Arrays.fill(parent, -1);
+        components = parent.length;
+    }
+
+    /**
+     * Находит представителя множества, в котором лежит элемент
+     *
+     * @param x элемент
+     * @return корень множества
+     */
+    public int find(int x) {
+        int current = x;
+        while (parent[current] >= 0) {
+            int next = parent[current];
+            if (parent[next] < 0) {
+                return next;
+            }
+            parent[current] = parent[next];
+            current = parent[current];
+        }
+        return current;
+    }
+
+    /**
+     * Объединяет множества, в которых лежат два элемента
+     *
+     * @param a первый элемент
+     * @param b второй элемент
+     * @return true, если элементы были в разных множествах и те объединились, иначе false
+     */
+    public boolean union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return false;
+        }
+        // Ранги хранятся как -(rank + 1), поэтому больший ранг - у меньшего числа
+        if (parent[rootA] > parent[rootB]) {
+            parent[rootA] = rootB;
+        } else if (parent[rootA] < parent[rootB]) {
+            parent[rootB] = rootA;
+        } else {
+            parent[rootB] = rootA;
+            parent[rootA]--;
+        }
+        components--;
+        return true;
+    }
+
+    /**
+     * Проверяет, лежат ли элементы в одном множестве
+     *
+     * @param a первый элемент
+     * @param b второй элемент
+     * @return true, если элементы в одном множестве, иначе false
+     */
+    public boolean connected(int a, int b) {
+        return find(a) == find(b);
+    }
+
+    /**
+     * Получает количество элементов
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return parent.length;
+    }
+
+    /**
+     * Получает текущее количество множеств
+     *
+     * @return количество множеств
+     */
+    public int components() {
+        return components;
+    }
+}
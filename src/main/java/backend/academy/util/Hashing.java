@@ -0,0 +1,55 @@
+package backend.academy.util;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Класс Hashing содержит быстрые перемешивающие хеш-функции для детерминированной случайности:
+ * когда случайное значение нужно получить по номеру объекта, не храня его и не проходя
+ * по генератору случайных чисел.
+ */
+@UtilityClass
+public class Hashing {
+    /** Приращение SplitMix64 (дробная часть золотого сечения) */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long MIX_MULTIPLIER_1 = 0xBF58476D1CE4E5B9L;
+    private static final long MIX_MULTIPLIER_2 = 0x94D049BB133111EBL;
+    private static final int MIX_SHIFT_1 = 30;
+    private static final int MIX_SHIFT_2 = 27;
+    private static final int MIX_SHIFT_3 = 31;
+
+    /**
+     * Перемешивает число финализатором SplitMix64. Биективна, и каждый бит результата
+     * зависит от всех бит аргумента.
+     *
+     * @param value число
+     * @return перемешанное число
+     */
+    public static long mix64(long value) {
+        long z = (value ^ (value >>> MIX_SHIFT_1)) * MIX_MULTIPLIER_1;
+        z = (z ^ (z >>> MIX_SHIFT_2)) * MIX_MULTIPLIER_2;
+        return z ^ (z >>> MIX_SHIFT_3);
+    }
+
+    /**
+     * Получает хеш номера в последовательности, заданной зерном, как SplitMix64 на шаге index
+     *
+     * @param seed  зерно
+     * @param index номер
+     * @return хеш
+     */
+    public static long hash(long seed, long index) {
+        return mix64(seed + index * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Получает хеш пары чисел, заданный зерном
+     *
+     * @param seed зерно
+     * @param x    первое число
+     * @param y    второе число
+     * @return хеш
+     */
+    public static long hash(long seed, int x, int y) {
+        return hash(hash(seed, x), y);
+    }
+}
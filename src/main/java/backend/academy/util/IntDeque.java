@@ -0,0 +1,167 @@
+package backend.academy.util;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Класс IntDeque - двусторонняя очередь чисел int на кольцевом буфере без упаковки в Integer.
+ * Помимо операций с концами поддерживает доступ по номеру и удаление из середины с сохранением
+ * порядка остальных элементов: сдвигается более короткая часть очереди, то есть O(min(i, n - i)).
+ */
+public class IntDeque {
+    /** Начальная ёмкость буфера, степень двойки */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Кольцевой буфер, длина - степень двойки */
+    private int[] elements;
+    /** Позиция первого элемента в буфере */
+    private int head;
+    /** Количество элементов */
+    private int size;
+
+    /** Конструктор создает пустую очередь с начальной ёмкостью по-умолчанию */
+    public IntDeque() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Конструктор создает пустую очередь
+     *
+     * @param capacity ожидаемое количество элементов
+     */
+    public IntDeque(int capacity) {
+        this.elements = new int[Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, capacity - 1)) << 1)];
+    }
+
+    /**
+     * Находит количество элементов в очереди
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет очередь на пустоту
+     *
+     * @return если очередь пуста - true, иначе false
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Добавляет элемент в начало очереди
+     *
+     * @param e элемент
+     */
+    public void addFirst(int e) {
+        ensureCapacity();
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = e;
+        size++;
+    }
+
+    /**
+     * Добавляет элемент в конец очереди
+     *
+     * @param e элемент
+     */
+    public void addLast(int e) {
+        ensureCapacity();
+        elements[(head + size) & (elements.length - 1)] = e;
+        size++;
+    }
+
+    /**
+     * Получает элемент по номеру: 0 - первый (самый старый при добавлении в конец), size() - 1 - последний
+     *
+     * @param index номер элемента
+     * @return элемент
+     * @throws IndexOutOfBoundsException если номер вне [0, size())
+     */
+    public int get(int index) {
+        return elements[position(index)];
+    }
+
+    /**
+     * Извлекает первый элемент
+     *
+     * @return первый элемент
+     * @throws NoSuchElementException если очередь пуста
+     */
+    public int removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("Очередь пуста");
+        }
+        int e = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return e;
+    }
+
+    /**
+     * Извлекает последний элемент
+     *
+     * @return последний элемент
+     * @throws NoSuchElementException если очередь пуста
+     */
+    public int removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("Очередь пуста");
+        }
+        size--;
+        return elements[(head + size) & (elements.length - 1)];
+    }
+
+    /**
+     * Извлекает элемент по номеру. Порядок остальных элементов сохраняется: к дыре на одну позицию
+     * сдвигается более короткая часть - элементы перед ним или после него, поэтому удаление
+     * стоит O(min(index, size - index)), а удаление с концов - O(1).
+     *
+     * @param index номер элемента
+     * @return удалённый элемент
+     * @throws IndexOutOfBoundsException если номер вне [0, size())
+     */
+    public int removeAt(int index) {
+        int e = elements[position(index)];
+        int mask = elements.length - 1;
+        if (index < size / 2) {
+            for (int i = index; i > 0; i--) {
+                elements[(head + i) & mask] = elements[(head + i - 1) & mask];
+            }
+            head = (head + 1) & mask;
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                elements[(head + i) & mask] = elements[(head + i + 1) & mask];
+            }
+        }
+        size--;
+        return e;
+    }
+
+    /** Удаляет все элементы */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    private int position(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Номер " + index + " вне очереди размера " + size);
+        }
+        return (head + index) & (elements.length - 1);
+    }
+
+    private void ensureCapacity() {
+        if (size < elements.length) {
+            return;
+        }
+        int[] grown = new int[elements.length * 2];
+        int tail = elements.length - head;
+        System.arraycopy(elements, head, grown, 0, tail);
+        System.arraycopy(elements, 0, grown, tail, head);
+        elements = grown;
+        head = 0;
+    }
+}
@@ -0,0 +1,188 @@
+package backend.academy.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Класс IntIndexedHeap - индексированная d-ичная куча (d = 4) чисел из диапазона [0, universe)
+ * с приоритетами long. Позиция каждого элемента в куче хранится в массиве, поэтому кроме вставки
+ * и извлечения минимума за O(log n) поддерживается уменьшение приоритета уже лежащего в куче
+ * элемента (decrease-key), и куча никогда не содержит дубликатов. Приоритеты лежат рядом
+ * с элементами в массивах кучи, так что просеивание не ходит по памяти размера universe.
+ */
+public class IntIndexedHeap {
+    /** Арность кучи: у четырёх детей одного узла одна строка кэша */
+    private static final int ARITY = 4;
+    /** Позиция элемента, которого нет в куче */
+    private static final int ABSENT = -1;
+    /** Начальная ёмкость кучи */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Позиции элементов в куче */
+    private final int[] positions;
+    /** Элементы в порядке кучи */
+    private int[] elements;
+    /** Приоритеты элементов в порядке кучи */
+    private long[] keys;
+    /** Количество элементов */
+    private int size;
+
+    /**
+     * Конструктор создает пустую кучу
+     *
+     * @param universe верхняя граница (не включительно) для элементов
+     */
+    public IntIndexedHeap(int universe) {
+        this.positions = new int[universe];
+        Arrays.fill(positions, ABSENT);
+        this.elements = new int[Math.min(universe, INITIAL_CAPACITY)];
+        this.keys = new long[elements.length];
+    }
+
+    /**
+     * Находит количество элементов в куче
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет кучу на пустоту
+     *
+     * @return если куча пуста - true, иначе false
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Проверяет есть ли элемент в куче
+     *
+     * @param e элемент
+     * @return true, если элемент лежит в куче
+     */
+    public boolean contains(int e) {
+        return positions[e] != ABSENT;
+    }
+
+    /**
+     * Получает приоритет элемента
+     *
+     * @param e элемент, лежащий в куче
+     * @return приоритет
+     * @throws NoSuchElementException если элемента нет в куче
+     */
+    public long key(int e) {
+        int position = positions[e];
+        if (position == ABSENT) {
+            throw new NoSuchElementException("Элемента " + e + " нет в куче");
+        }
+        return keys[position];
+    }
+
+    /**
+     * Добавляет элемент или уменьшает его приоритет, если элемент уже в куче
+     *
+     * @param e   элемент
+     * @param key приоритет
+     * @return true, если элемент добавлен или его приоритет уменьшен; false, если в куче уже лежит
+     *     этот элемент с приоритетом не больше key
+     */
+    public boolean offer(int e, long key) {
+        int position = positions[e];
+        if (position == ABSENT) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, Math.max(INITIAL_CAPACITY, size * 2));
+                keys = Arrays.copyOf(keys, elements.length);
+            }
+            siftUp(size++, e, key);
+            return true;
+        }
+        if (key >= keys[position]) {
+            return false;
+        }
+        siftUp(position, e, key);
+        return true;
+    }
+
+    /**
+     * Получает приоритет минимального элемента
+     *
+     * @return наименьший приоритет
+     * @throws NoSuchElementException если куча пуста
+     */
+    public long peekKey() {
+        if (size == 0) {
+            throw new NoSuchElementException("Куча пуста");
+        }
+        return keys[0];
+    }
+
+    /**
+     * Извлекает элемент с наименьшим приоритетом
+     *
+     * @return элемент
+     * @throws NoSuchElementException если куча пуста
+     */
+    public int poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("Куча пуста");
+        }
+        int top = elements[0];
+        positions[top] = ABSENT;
+        size--;
+        if (size > 0) {
+            siftDown(0, elements[size], keys[size]);
+        }
+        return top;
+    }
+
+    /** Удаляет все элементы за O(size), не трогая массив позиций целиком */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[elements[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int position, int e, long key) {
+        while (position > 0) {
+            int parent = (position - 1) / ARITY;
+            if (keys[parent] <= key) {
+                break;
+            }
+            place(position, elements[parent], keys[parent]);
+            position = parent;
+        }
+        place(position, e, key);
+    }
+
+    private void siftDown(int position, int e, long key) {
+        while (true) {
+            int first = position * ARITY + 1;
+            if (first >= size) {
+                break;
+            }
+            int best = first;
+            for (int child = first + 1; child < Math.min(first + ARITY, size); child++) {
+                if (keys[child] < keys[best]) {
+                    best = child;
+                }
+            }
+            if (key <= keys[best]) {
+                break;
+            }
+            place(position, elements[best], keys[best]);
+            position = best;
+        }
+        place(position, e, key);
+    }
+
+    private void place(int position, int e, long key) {
+        elements[position] = e;
+        keys[position] = key;
+        positions[e] = position;
+    }
+}
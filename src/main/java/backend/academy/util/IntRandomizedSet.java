@@ -0,0 +1,173 @@
+package backend.academy.util;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.random.RandomGenerator;
+
+/**
+ * Класс IntRandomizedSet - примитивный аналог {@link RandomizedSet} для чисел int без упаковки
+ * в Integer. Добавление, удаление и получение случайного элемента работают за O(1).
+ * Позиции элементов хранятся либо в массиве (если заранее известно, что все элементы лежат
+ * в диапазоне [0, universe), например индексы клеток лабиринта), либо в открытой хэш-таблице fastutil.
+ * Источник случайности передаётся снаружи.
+ */
+public class IntRandomizedSet {
+    /** Позиция отсутствующего элемента */
+    private static final int ABSENT = -1;
+    /** Начальная ёмкость списка элементов */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Позиции элементов в плотном режиме (null в разреженном режиме) */
+    private final int[] denseIndex;
+    /** Позиции элементов в разреженном режиме (null в плотном режиме) */
+    private final Int2IntOpenHashMap sparseIndex;
+    /** Генератор случайных чисел */
+    private final RandomGenerator random;
+    /** Список всех элементов (порядок вставки не сохраняется) */
+    private int[] elements;
+    /** Количество элементов */
+    private int size;
+
+    /**
+     * Конструктор создает множество для произвольных чисел на открытой хэш-таблице
+     *
+     * @param random генератор случайных чисел
+     */
+    public IntRandomizedSet(RandomGenerator random) {
+        this.denseIndex = null;
+        this.sparseIndex = new Int2IntOpenHashMap();
+        this.sparseIndex.defaultReturnValue(ABSENT);
+        this.random = random;
+        this.elements = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Конструктор создает множество для чисел из диапазона [0, universe) на массиве позиций
+     *
+     * @param universe верхняя граница (не включительно) для элементов
+     * @param random   генератор случайных чисел
+     */
+    public IntRandomizedSet(int universe, RandomGenerator random) {
+        this.denseIndex = new int[universe];
+        Arrays.fill(denseIndex, ABSENT);
+        this.sparseIndex = null;
+        this.random = random;
+        this.elements = new int[Math.min(universe, INITIAL_CAPACITY)];
+    }
+
+    /**
+     * Проверяет есть ли элемент во множестве
+     *
+     * @param e элемент для проверки наличия во множестве
+     * @return результат проверки (true, если элемент есть во множестве, иначе false)
+     */
+    public boolean contains(int e) {
+        return indexOf(e) != ABSENT;
+    }
+
+    /**
+     * Находит количество элементов во множестве
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет множество на пустоту
+     *
+     * @return если множество пусто - true, иначе false
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Добавляет элемент во множество.
+     *
+     * @param e элемент для вставки во множество
+     * @return результат добавления (true, если элемент добавлен, иначе false)
+     */
+    public boolean add(int e) {
+        if (contains(e)) {
+            return false;
+        }
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(INITIAL_CAPACITY, size * 2));
+        }
+        elements[size] = e;
+        setIndex(e, size);
+        size++;
+        return true;
+    }
+
+    /**
+     * Удаляет элемент из множества. На его место встаёт последний элемент списка.
+     *
+     * @param e элемент для удаления из множества
+     * @return результат удаления: true, если элемент удалён, иначе false
+     */
+    public boolean remove(int e) {
+        int index = indexOf(e);
+        if (index == ABSENT) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Получает случайный элемент из множества.
+     *
+     * @return случайный элемент
+     * @throws NoSuchElementException если множество пусто
+     */
+    public int getRandom() {
+        if (size == 0) {
+            throw new NoSuchElementException("Множество пусто");
+        }
+        return elements[random.nextInt(size)];
+    }
+
+    /**
+     * Извлекает случайный элемент из множества (получает и сразу удаляет его).
+     *
+     * @return случайный элемент
+     * @throws NoSuchElementException если множество пусто
+     */
+    public int removeRandom() {
+        if (size == 0) {
+            throw new NoSuchElementException("Множество пусто");
+        }
+        int index = random.nextInt(size);
+        int e = elements[index];
+        removeAt(index);
+        return e;
+    }
+
+    private void removeAt(int index) {
+        int removed = elements[index];
+        int last = elements[--size];
+        elements[index] = last;
+        setIndex(last, index);
+        if (denseIndex != null) {
+            denseIndex[removed] = ABSENT;
+        } else {
+            sparseIndex.remove(removed);
+        }
+    }
+
+    private int indexOf(int e) {
+        return denseIndex != null ? denseIndex[e] : sparseIndex.get(e);
+    }
+
+    private void setIndex(int e, int index) {
+        if (denseIndex != null) {
+            denseIndex[e] = index;
+        } else {
+            sparseIndex.put(e, index);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package backend.academy.util;
+
+import java.util.Arrays;
+
+/**
+ * Класс IntRecencyList - список чисел int, который помнит порядок добавления, но хранит элементы
+ * в плотном массиве. Самый старый элемент всегда лежит на позиции 0, самый новый - на позиции
+ * size() - 1, а остальные - между ними в произвольном порядке. Порядок добавления держит
+ * двусвязный список по позициям массива (массивы prev и next), поэтому добавление в конец,
+ * доступ по позиции и удаление с любой позиции работают за O(1): на место удалённого встаёт
+ * последний элемент массива, после чего самый старый и самый новый элементы возвращаются
+ * на свои позиции не более чем двумя обменами. Случайная позиция даёт равномерно случайный элемент.
+ */
+public class IntRecencyList {
+    /** Начальная ёмкость массивов */
+    private static final int INITIAL_CAPACITY = 16;
+    /** Отсутствующая позиция в двусвязном списке */
+    private static final int NONE = -1;
+
+    /** Элементы по позициям */
+    private int[] elements;
+    /** Позиция элемента, добавленного перед элементом на этой позиции, или NONE */
+    private int[] prev;
+    /** Позиция элемента, добавленного после элемента на этой позиции, или NONE */
+    private int[] next;
+    /** Количество элементов */
+    private int size;
+
+    /** Конструктор создает пустой список */
+    public IntRecencyList() {
+        this.elements = new int[INITIAL_CAPACITY];
+        this.prev = new int[INITIAL_CAPACITY];
+        this.next = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Находит количество элементов в списке
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет список на пустоту
+     *
+     * @return если список пуст - true, иначе false
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Добавляет элемент; он становится самым новым и занимает позицию size() - 1
+     *
+     * @param e элемент
+     */
+    public void addLast(int e) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+            prev = Arrays.copyOf(prev, size * 2);
+            next = Arrays.copyOf(next, size * 2);
+        }
+        elements[size] = e;
+        prev[size] = size == 0 ? NONE : size - 1;
+        next[size] = NONE;
+        if (size > 0) {
+            next[size - 1] = size;
+        }
+        size++;
+    }
+
+    /**
+     * Получает элемент по позиции: 0 - самый старый, size() - 1 - самый новый
+     *
+     * @param index позиция элемента
+     * @return элемент
+     * @throws IndexOutOfBoundsException если позиция вне [0, size())
+     */
+    public int get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Удаляет элемент с позиции за O(1). Порядок добавления остальных элементов сохраняется,
+     * но элементы между самым старым и самым новым могут поменять позиции.
+     *
+     * @param index позиция элемента
+     * @return удалённый элемент
+     * @throws IndexOutOfBoundsException если позиция вне [0, size())
+     */
+    public int removeAt(int index) {
+        checkIndex(index);
+        int e = elements[index];
+        int before = prev[index];
+        int after = next[index];
+        int oldest = before == NONE ? after : 0;
+        int newest = after == NONE ? before : size - 1;
+        if (before != NONE) {
+            next[before] = after;
+        }
+        if (after != NONE) {
+            prev[after] = before;
+        }
+
+        int last = size - 1;
+        if (index != last) {
+            elements[index] = elements[last];
+            prev[index] = prev[last];
+            next[index] = next[last];
+            relink(index);
+            oldest = oldest == last ? index : oldest;
+            newest = newest == last ? index : newest;
+        }
+        size--;
+        if (size == 0) {
+            return e;
+        }
+
+        if (oldest != 0) {
+            swap(oldest, 0);
+            newest = rename(newest, oldest, 0);
+        }
+        if (newest != size - 1) {
+            swap(newest, size - 1);
+        }
+        return e;
+    }
+
+    /** Удаляет все элементы */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Меняет местами элементы двух позиций вместе со ссылками на соседей по порядку добавления
+     *
+     * @param a первая позиция
+     * @param b вторая позиция
+     */
+    private void swap(int a, int b) {
+        int e = elements[a];
+        elements[a] = elements[b];
+        elements[b] = e;
+        int p = prev[a];
+        prev[a] = rename(prev[b], a, b);
+        prev[b] = rename(p, a, b);
+        int n = next[a];
+        next[a] = rename(next[b], a, b);
+        next[b] = rename(n, a, b);
+        relink(a);
+        relink(b);
+    }
+
+    /**
+     * Заменяет одну из двух обмениваемых позиций другой
+     *
+     * @param position позиция или NONE
+     * @param a        первая позиция
+     * @param b        вторая позиция
+     * @return позиция после обмена
+     */
+    private static int rename(int position, int a, int b) {
+        if (position == a) {
+            return b;
+        }
+        return position == b ? a : position;
+    }
+
+    /**
+     * Направляет ссылки соседей элемента на его текущую позицию
+     *
+     * @param index позиция элемента
+     */
+    private void relink(int index) {
+        if (prev[index] != NONE) {
+            next[prev[index]] = index;
+        }
+        if (next[index] != NONE) {
+            prev[next[index]] = index;
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Позиция " + index + " вне списка размера " + size);
+        }
+    }
+}
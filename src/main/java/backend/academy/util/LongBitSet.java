@@ -0,0 +1,100 @@
+package backend.academy.util;
+
+import java.util.Arrays;
+
+/**
+ * Класс LongBitSet - битовое множество фиксированного размера над элементами 0..size-1,
+ * построенное на массиве long. В отличие от {@link java.util.BitSet} не растёт и не проверяет
+ * границы сверх того, что проверяет сам массив, поэтому проверка и установка бита сводятся
+ * к одному чтению (и записи) слова.
+ */
+public class LongBitSet {
+    /** Количество бит в слове, логарифм */
+    private static final int WORD_SHIFT = 6;
+
+    /** Слова с битами */
+    private final long[] words;
+    /** Количество элементов */
+    private final int size;
+
+    /**
+     * Конструктор создает пустое множество
+     *
+     * @param size количество элементов
+     */
+    public LongBitSet(int size) {
+        this.size = size;
+        this.words = new long[(size + Long.SIZE - 1) >>> WORD_SHIFT];
+    }
+
+    /**
+     * Проверяет, лежит ли элемент в множестве
+     *
+     * @param index элемент
+     * @return true, если бит установлен
+     */
+    public boolean get(int index) {
+        return (words[index >>> WORD_SHIFT] & (1L << index)) != 0;
+    }
+
+    /**
+     * Добавляет элемент в множество
+     *
+     * @param index элемент
+     */
+    public void set(int index) {
+        words[index >>> WORD_SHIFT] |= 1L << index;
+    }
+
+    /**
+     * Добавляет элемент в множество, если его там не было
+     *
+     * @param index элемент
+     * @return true, если элемент был добавлен, иначе false
+     */
+    public boolean add(int index) {
+        int word = index >>> WORD_SHIFT;
+        long mask = 1L << index;
+        if ((words[word] & mask) != 0) {
+            return false;
+        }
+        words[word] |= mask;
+        return true;
+    }
+
+    /**
+     * Удаляет элемент из множества
+     *
+     * @param index элемент
+     */
+    public void clear(int index) {
+        words[index >>> WORD_SHIFT] &= ~(1L << index);
+    }
+
+    /** Удаляет все элементы */
+    public void clear() {
+        Arrays.fill(words, 0);
+    }
+
+    /**
+     * Считает количество элементов в множестве
+     *
+     * @return количество установленных бит
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Получает количество элементов, которые могут лежать в множестве
+     *
+     * @return размер множества
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,139 @@
+package backend.academy.util;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.random.RandomGenerator;
+
+/**
+ * Класс LongRandomizedSet - примитивный аналог {@link RandomizedSet} для чисел long без упаковки
+ * в Long (например, для упакованных координат). Добавление, удаление и получение случайного элемента
+ * работают за O(1). Позиции элементов хранятся в открытой хэш-таблице fastutil,
+ * источник случайности передаётся снаружи.
+ */
+public class LongRandomizedSet {
+    /** Позиция отсутствующего элемента */
+    private static final int ABSENT = -1;
+    /** Начальная ёмкость списка элементов */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Позиции элементов в списке */
+    private final Long2IntOpenHashMap itemToIndex;
+    /** Генератор случайных чисел */
+    private final RandomGenerator random;
+    /** Список всех элементов (порядок вставки не сохраняется) */
+    private long[] elements;
+    /** Количество элементов */
+    private int size;
+
+    /**
+     * Конструктор создает пустое множество
+     *
+     * @param random генератор случайных чисел
+     */
+    public LongRandomizedSet(RandomGenerator random) {
+        this.itemToIndex = new Long2IntOpenHashMap();
+        this.itemToIndex.defaultReturnValue(ABSENT);
+        this.random = random;
+        this.elements = new long[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Проверяет есть ли элемент во множестве
+     *
+     * @param e элемент для проверки наличия во множестве
+     * @return результат проверки (true, если элемент есть во множестве, иначе false)
+     */
+    public boolean contains(long e) {
+        return itemToIndex.containsKey(e);
+    }
+
+    /**
+     * Находит количество элементов во множестве
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет множество на пустоту
+     *
+     * @return если множество пусто - true, иначе false
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Добавляет элемент во множество.
+     *
+     * @param e элемент для вставки во множество
+     * @return результат добавления (true, если элемент добавлен, иначе false)
+     */
+    public boolean add(long e) {
+        if (itemToIndex.containsKey(e)) {
+            return false;
+        }
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        elements[size] = e;
+        itemToIndex.put(e, size);
+        size++;
+        return true;
+    }
+
+    /**
+     * Удаляет элемент из множества. На его место встаёт последний элемент списка.
+     *
+     * @param e элемент для удаления из множества
+     * @return результат удаления: true, если элемент удалён, иначе false
+     */
+    public boolean remove(long e) {
+        int index = itemToIndex.get(e);
+        if (index == ABSENT) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Получает случайный элемент из множества.
+     *
+     * @return случайный элемент
+     * @throws NoSuchElementException если множество пусто
+     */
+    public long getRandom() {
+        if (size == 0) {
+            throw new NoSuchElementException("Множество пусто");
+        }
+        return elements[random.nextInt(size)];
+    }
+
+    /**
+     * Извлекает случайный элемент из множества (получает и сразу удаляет его).
+     *
+     * @return случайный элемент
+     * @throws NoSuchElementException если множество пусто
+     */
+    public long removeRandom() {
+        if (size == 0) {
+            throw new NoSuchElementException("Множество пусто");
+        }
+        int index = random.nextInt(size);
+        long e = elements[index];
+        removeAt(index);
+        return e;
+    }
+
+    private void removeAt(int index) {
+        long removed = elements[index];
+        long last = elements[--size];
+        elements[index] = last;
+        itemToIndex.put(last, index);
+        itemToIndex.remove(removed);
+    }
+}
@@ -0,0 +1,130 @@
+package backend.academy.util;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Класс RandomSource - единая стратегия получения генераторов случайных чисел для генераторов
+ * и решателей лабиринта. По умолчанию использует быстрый алгоритм {@value #DEFAULT_ALGORITHM}
+ * из {@link RandomGeneratorFactory}. Генератор может быть создан с явным зерном, тогда одинаковые
+ * (алгоритм, зерно) всегда дают одинаковую последовательность чисел, что нужно для воспроизводимости,
+ * кэширования и честных замеров. Режим {@link #secure()} включается явно: он использует
+ * {@link SecureRandom}, медленнее и не воспроизводим даже с зерном.
+ */
+@Getter
+public final class RandomSource {
+    /** Алгоритм по умолчанию */
+    public static final String DEFAULT_ALGORITHM = "L64X128MixRandom";
+    /** Название алгоритма в безопасном режиме */
+    private static final String SECURE_ALGORITHM = "SecureRandom";
+
+    /** Название алгоритма */
+    private final String algorithm;
+    /** Фабрика генераторов (null в безопасном режиме) */
+    @Getter(AccessLevel.NONE)
+    private final RandomGeneratorFactory<RandomGenerator> factory;
+    /** Зерно, которое используется в {@link #create()}, если источник зафиксирован */
+    @Getter(AccessLevel.NONE)
+    private final Long seed;
+
+    private RandomSource(String algorithm, RandomGeneratorFactory<RandomGenerator> factory, Long seed) {
+        this.algorithm = algorithm;
+        this.factory = factory;
+        this.seed = seed;
+    }
+
+    /**
+     * Создает источник на алгоритме по умолчанию
+     *
+     * @return источник случайности
+     */
+    public static RandomSource defaultSource() {
+        return of(DEFAULT_ALGORITHM);
+    }
+
+    /**
+     * Создает источник на заданном алгоритме, например L64X128MixRandom или Xoroshiro128PlusPlus
+     *
+     * @param algorithm название алгоритма из {@link RandomGeneratorFactory}
+     * @return источник случайности
+     * @throws IllegalArgumentException если алгоритм неизвестен
+     */
+    public static RandomSource of(String algorithm) {
+        return new RandomSource(algorithm, RandomGeneratorFactory.of(algorithm), null);
+    }
+
+    /**
+     * Создает источник на {@link SecureRandom}
+     *
+     * @return безопасный источник случайности
+     */
+    public static RandomSource secure() {
+        return new RandomSource(SECURE_ALGORITHM, null, null);
+    }
+
+    /**
+     * Фиксирует зерно: все генераторы, созданные через {@link #create()}, будут выдавать
+     * одну и ту же последовательность
+     *
+     * @param newSeed зерно
+     * @return новый источник с тем же алгоритмом и зафиксированным зерном
+     */
+    public RandomSource withSeed(long newSeed) {
+        return new RandomSource(algorithm, factory, newSeed);
+    }
+
+    /**
+     * Проверяет, работает ли источник в безопасном режиме
+     *
+     * @return true, если используется SecureRandom
+     */
+    public boolean isSecure() {
+        return factory == null;
+    }
+
+    /**
+     * Создает новый генератор: с зафиксированным зерном, если оно задано, иначе со случайным
+     *
+     * @return генератор случайных чисел
+     */
+    public RandomGenerator create() {
+        if (seed != null) {
+            return create(seed);
+        }
+        return isSecure() ? new SecureRandom() : factory.create();
+    }
+
+    /**
+     * Создает новый генератор с заданным зерном. В безопасном режиме зерно лишь дополняет
+     * энтропию системы, поэтому последовательность не воспроизводится.
+     *
+     * @param generatorSeed зерно
+     * @return генератор случайных чисел
+     */
+    public RandomGenerator create(long generatorSeed) {
+        if (isSecure()) {
+            return new SecureRandom(ByteBuffer.allocate(Long.BYTES).putLong(generatorSeed).array());
+        }
+        return factory.create(generatorSeed);
+    }
+
+    /**
+     * Выдаёт независимый генератор для параллельной подзадачи: отщепляет его от родительского,
+     * если тот это умеет, иначе создаёт новый из этого источника по очередному числу родительского.
+     * В обоих случаях результат определяется только состоянием родителя, поэтому при одинаковом
+     * зерне и порядке вызовов подзадачи получают одинаковые генераторы.
+     *
+     * @param parent родительский генератор
+     * @return генератор для подзадачи
+     */
+    public RandomGenerator split(RandomGenerator parent) {
+        if (parent instanceof RandomGenerator.SplittableGenerator splittable) {
+            return splittable.split();
+        }
+        return create(parent.nextLong());
+    }
+}
@@ -1,8 +1,8 @@
 package backend.academy.util;
 
-import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.random.RandomGenerator;
 
 /**
  * Класс RandomizedSet представляет собой множество, хранящее элементы,
@@ -10,7 +10,8 @@ import java.util.HashMap;
  * случайного элемента в среднем за O(1). Обычный HashSet не дает взять случайный
  * элемент за O(1), та же ситуация с удалением элемента в List, нужно сначала получить
  * все элементы за O(N) и далее получить случайный элемент. Требует дополнительной памяти
- * на хранение списка всех элементов (в дополнении к множеству).
+ * на хранение списка всех элементов (в дополнении к множеству). Для чисел без упаковки
+ * есть примитивные варианты {@link IntRandomizedSet} и {@link LongRandomizedSet}.
  */
 public class RandomizedSet<E> {
     /**
@@ -23,17 +24,27 @@ public class RandomizedSet<E> {
      */
     private final ArrayList<E> list;
     /**
-     * <i>Безопасный</i> генератор случайных чисел
+     * Генератор случайных чисел
      */
-    SecureRandom sr;
+    RandomGenerator random;
 
     /**
      * Конструктор по-умолчанию, инициализирует поля пустыми структурами
+     * и использует источник случайности по умолчанию
      */
     public RandomizedSet() {
+        this(RandomSource.defaultSource().create());
+    }
+
+    /**
+     * Конструктор инициализирует поля пустыми структурами
+     *
+     * @param random генератор случайных чисел
+     */
+    public RandomizedSet(RandomGenerator random) {
         itemToIndex = new HashMap<>();
         list = new ArrayList<>();
-        sr = new SecureRandom();
+        this.random = random;
     }
 
     /**
@@ -103,7 +114,7 @@ public class RandomizedSet<E> {
         if (list.isEmpty()) {
             return null;
         }
-        return list.get(sr.nextInt(list.size()));
+        return list.get(random.nextInt(list.size()));
     }
 
     /**
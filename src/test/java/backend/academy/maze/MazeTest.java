@@ -0,0 +1,146 @@
+package backend.academy.maze;
+
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.field.Coordinate;
+import backend.academy.maze.generators.BacktrackerGenerator;
+import backend.academy.maze.generators.CellularAutomatonGenerator;
+import backend.academy.maze.generators.Generator;
+import backend.academy.maze.generators.GrowingTreeGenerator;
+import backend.academy.maze.generators.KruskalGenerator;
+import backend.academy.maze.generators.PrimGenerator;
+import backend.academy.maze.generators.RecursiveDivisionGenerator;
+import backend.academy.maze.grid.TiledGrid;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MazeTest {
+    @Test
+    void testNewMazeIsFilledWithWalls() {
+        Maze maze = new Maze(7, 9);
+        for (int row = 0; row < maze.height(); row++) {
+            for (int col = 0; col < maze.width(); col++) {
+                assertEquals(Cell.Type.WALL, maze.getCellType(new Coordinate(row, col)));
+            }
+        }
+    }
+
+    @Test
+    void testSetCellTypeAffectsOnlyThatCell() {
+        Maze maze = new Maze(5, 5);
+        for (Cell.Type type : Cell.Type.values()) {
+            maze.setCellType(new Coordinate(2, 3), type);
+            assertEquals(type, maze.getCellType(new Coordinate(2, 3)));
+            assertEquals(Cell.Type.WALL, maze.getCellType(new Coordinate(2, 2)));
+            assertEquals(Cell.Type.WALL, maze.getCellType(new Coordinate(2, 4)));
+        }
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        Maze maze = new Maze(4, 6);
+        maze.setCellType(new Coordinate(1, 1), Cell.Type.PASSAGE);
+        Maze copy = maze.getCopy();
+        copy.setCellType(new Coordinate(1, 1), Cell.Type.PATH);
+
+        assertEquals(Cell.Type.PASSAGE, maze.getCellType(new Coordinate(1, 1)));
+        assertEquals(Cell.Type.PATH, copy.getCellType(new Coordinate(1, 1)));
+    }
+
+    @Test
+    void testFootprintIsUnderOneBytePerCell() {
+        Maze maze = new Maze(1000, 1000);
+        double bytesPerCell = (double) maze.memoryFootprint() / (maze.height() * maze.width());
+        assertTrue(bytesPerCell < 1, "Each cell should take less than one byte.");
+    }
+
+    @Test
+    void testTiledGridAllocatesOnlyTouchedChunks() {
+        TiledGrid grid = new TiledGrid(1000, 1000);
+        Maze maze = new Maze(1000, 1000, grid);
+        assertEquals(0, grid.allocatedChunks(), "Fresh tiled maze should not allocate any chunk.");
+
+        maze.setCellType(new Coordinate(500, 500), Cell.Type.WALL);
+        assertEquals(0, grid.allocatedChunks(), "Writing a wall should not allocate a chunk.");
+
+        maze.setCellType(new Coordinate(10, 10), Cell.Type.PASSAGE);
+        maze.setCellType(new Coordinate(20, 30), Cell.Type.PASSAGE);
+        maze.setCellType(new Coordinate(999, 999), Cell.Type.PASSAGE);
+        assertEquals(2, grid.allocatedChunks());
+        assertEquals(Cell.Type.PASSAGE, maze.getCellType(new Coordinate(999, 999)));
+        assertEquals(Cell.Type.WALL, maze.getCellType(new Coordinate(998, 999)));
+
+        maze.setCellType(new Coordinate(999, 999), Cell.Type.WALL);
+        assertEquals(1, grid.releaseEmptyChunks());
+        assertEquals(1, grid.allocatedChunks());
+        assertEquals(Cell.Type.PASSAGE, maze.getCellType(new Coordinate(20, 30)));
+    }
+
+    @Test
+    void testFingerprintDependsOnlyOnContent() {
+        Maze maze = new KruskalGenerator().generate(37, 41, 0);
+        Maze concurrent = Maze.concurrent(37, 41);
+        Maze tiled = new Maze(37, 41, new TiledGrid(37, 41));
+        for (int i = 0; i < maze.grid().size(); i++) {
+            concurrent.setCellType(i, maze.getCellType(i));
+            tiled.setCellType(i, maze.getCellType(i));
+        }
+        assertEquals(maze.fingerprint(), maze.getCopy().fingerprint());
+        assertEquals(maze.fingerprint(), concurrent.fingerprint());
+        assertEquals(maze.fingerprint(), tiled.fingerprint());
+        assertNotEquals(new Maze(37, 41).fingerprint(), new Maze(41, 37).fingerprint());
+
+        long before = maze.fingerprint();
+        maze.setCellType(new Coordinate(1, 1), Cell.Type.PASSAGE);
+        assertNotEquals(before, maze.fingerprint());
+    }
+
+    @Test
+    void testFingerprintIsRememberedUntilWrite() {
+        Maze maze = new Maze(37, 41);
+        long walls = maze.fingerprint();
+        assertTrue(maze.claimCell(0));
+        long claimed = maze.fingerprint();
+        assertNotEquals(walls, claimed);
+        assertTrue(maze.openWall(0, 2));
+        assertNotEquals(claimed, maze.fingerprint());
+
+        // Запись в обход лабиринта видна в отпечатке только после publish()
+        long opened = maze.fingerprint();
+        maze.grid().set(2, Cell.Type.PASSAGE.code());
+        assertEquals(opened, maze.fingerprint());
+        maze.publish();
+        assertEquals(maze.getCopy().fingerprint(), maze.fingerprint());
+        assertNotEquals(opened, maze.fingerprint());
+    }
+
+    @Test
+    void testGeneratorResetsRememberedFingerprint() {
+        for (Generator generator : new Generator[] {
+            new BacktrackerGenerator(), new GrowingTreeGenerator(), new PrimGenerator(),
+            new RecursiveDivisionGenerator(), new CellularAutomatonGenerator()
+        }) {
+            Maze maze = new Maze(37, 41);
+            maze.fingerprint();
+            generator.generate(maze, generator.randomSource().create(0));
+            assertEquals(generator.generate(37, 41, 0).fingerprint(), maze.fingerprint(),
+                generator.getClass().getSimpleName() + " should reset the remembered fingerprint.");
+        }
+    }
+
+    @Test
+    void testTiledGridRejectsOverflowingSizes() {
+        assertThrows(ArithmeticException.class, () -> new TiledGrid(1 << 16, 1 << 16));
+        assertThrows(IllegalArgumentException.class, () -> new TiledGrid(-1, 10));
+        assertEquals(1000 * 1000, Maze.tiled(1000, 1000).grid().size());
+    }
+
+    @Test
+    void testGeneratorWritesIntoTiledMaze() {
+        KruskalGenerator generator = new KruskalGenerator();
+        Maze tiled = generator.generate(Maze.tiled(37, 41), generator.randomSource().create(0));
+        assertEquals(generator.generate(37, 41, 0).fingerprint(), tiled.fingerprint());
+    }
+}
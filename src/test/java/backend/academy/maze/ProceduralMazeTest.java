@@ -0,0 +1,77 @@
+package backend.academy.maze;
+
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.generators.KruskalGenerator;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProceduralMazeTest {
+    private static final long SEED = 42;
+    private static final int TILE_SIZE = 8;
+    private static final int TILES = 5;
+    private static final long CACHE_SIZE = 4;
+
+    @Test
+    void testSameSeedGivesSameCellsEvenAfterEviction() {
+        ProceduralMaze first = new ProceduralMaze(SEED, new KruskalGenerator(), TILE_SIZE, CACHE_SIZE);
+        ProceduralMaze second = new ProceduralMaze(SEED, new KruskalGenerator(), TILE_SIZE, CACHE_SIZE);
+        int far = 1_000_000_000;
+        for (int row = far; row < far + TILES * TILE_SIZE; row++) {
+            for (int col = far; col < far + TILES * TILE_SIZE; col++) {
+                assertEquals(first.getCellType(row, col), second.getCellType(row, col));
+            }
+        }
+        // Тайлы вытеснены из кэша и будут построены заново
+        assertEquals(second.getCellType(far, far), first.getCellType(far, far));
+    }
+
+    @Test
+    void testTopLeftWindowIsPerfect() {
+        ProceduralMaze maze = new ProceduralMaze(SEED, new KruskalGenerator(), TILE_SIZE, CACHE_SIZE);
+        // Окно без внешних нижней и правой стен, чтобы не учитывать проходы к тайлам за окном
+        int size = TILES * TILE_SIZE - 1;
+        boolean[] visited = new boolean[size * size];
+        long passages = 0;
+        long links = 0;
+        int start = -1;
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (maze.getCellType(row, col) != Cell.Type.PASSAGE) {
+                    continue;
+                }
+                passages++;
+                start = start < 0 ? row * size + col : start;
+                if (row + 1 < size && maze.getCellType(row + 1, col) == Cell.Type.PASSAGE) {
+                    links++;
+                }
+                if (col + 1 < size && maze.getCellType(row, col + 1) == Cell.Type.PASSAGE) {
+                    links++;
+                }
+            }
+        }
+
+        IntArrayList stack = IntArrayList.of(start);
+        visited[start] = true;
+        long reached = 0;
+        while (!stack.isEmpty()) {
+            int c = stack.popInt();
+            reached++;
+            int row = c / size;
+            int col = c % size;
+            int[][] neighbors = {{row - 1, col}, {row + 1, col}, {row, col - 1}, {row, col + 1}};
+            for (int[] n : neighbors) {
+                if (n[0] >= 0 && n[0] < size && n[1] >= 0 && n[1] < size && !visited[n[0] * size + n[1]]
+                    && maze.getCellType(n[0], n[1]) == Cell.Type.PASSAGE) {
+                    visited[n[0] * size + n[1]] = true;
+                    stack.push(n[0] * size + n[1]);
+                }
+            }
+        }
+
+        assertEquals(passages, reached, "All tiles of the window should be connected.");
+        assertEquals(passages - 1, links, "Tiles should be connected without cycles.");
+        assertTrue(maze.cachedTiles() <= TILES * TILES);
+    }
+}
@@ -0,0 +1,38 @@
+package backend.academy.maze.field;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PackedCoordinateTest {
+    private static final int HEIGHT = 4;
+    private static final int WIDTH = 5;
+
+    @Test
+    void testIndexRoundTrip() {
+        for (int row = 0; row < HEIGHT; row++) {
+            for (int col = 0; col < WIDTH; col++) {
+                int index = PackedCoordinate.index(row, col, WIDTH);
+                assertEquals(new Coordinate(row, col), PackedCoordinate.toCoordinate(index, WIDTH));
+                assertEquals(index, PackedCoordinate.fromCoordinate(new Coordinate(row, col), WIDTH));
+            }
+        }
+    }
+
+    @Test
+    void testPackRoundTrip() {
+        long packed = PackedCoordinate.pack(-7, 123_456);
+        assertEquals(-7, PackedCoordinate.unpackRow(packed));
+        assertEquals(123_456, PackedCoordinate.unpackCol(packed));
+    }
+
+    @Test
+    void testNeighborsRespectBounds() {
+        int corner = PackedCoordinate.index(0, 0, WIDTH);
+        assertEquals(PackedCoordinate.NONE, PackedCoordinate.neighbor(corner, 0, 1, HEIGHT, WIDTH));
+        assertEquals(PackedCoordinate.index(1, 0, WIDTH), PackedCoordinate.neighbor(corner, 1, 1, HEIGHT, WIDTH));
+        assertEquals(PackedCoordinate.NONE, PackedCoordinate.neighbor(corner, 2, 1, HEIGHT, WIDTH));
+        assertEquals(PackedCoordinate.index(0, 2, WIDTH), PackedCoordinate.neighbor(corner, 3, 2, HEIGHT, WIDTH));
+        assertEquals(PackedCoordinate.NONE,
+            PackedCoordinate.neighbor(PackedCoordinate.index(0, 4, WIDTH), 3, 1, HEIGHT, WIDTH));
+    }
+}
@@ -0,0 +1,92 @@
+package backend.academy.maze.generators;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Cell;
+import backend.academy.util.RandomSource;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CellularAutomatonGeneratorTest {
+    private final static int HEIGHT = 37;
+    private final static int WIDTH = 150;
+    private final static int GENERATIONS = 5;
+    private final static long SEED = 42;
+
+    @Test
+    void testRuleParsing() {
+        LifeRule rule = LifeRule.parse("b3/s12345");
+        assertEquals(LifeRule.MAZE, rule);
+        assertEquals("B3/S12345", rule.toString());
+        assertTrue(rule.born(3));
+        assertFalse(rule.born(2));
+        assertTrue(rule.survives(5));
+        assertFalse(rule.survives(0));
+        assertThrows(IllegalArgumentException.class, () -> LifeRule.parse("B9/S1"));
+        assertThrows(IllegalArgumentException.class, () -> LifeRule.parse("23/3"));
+    }
+
+    @Test
+    void testGenerationMatchesNaiveAutomaton() {
+        for (LifeRule rule : new LifeRule[] {LifeRule.MAZE, LifeRule.MAZECTRIC, LifeRule.parse("B36/S23"),
+            LifeRule.parse("B0/S8")}) {
+            Maze previous = generator(rule, GENERATIONS - 1, ForkJoinPool.commonPool()).generate(HEIGHT, WIDTH, SEED);
+            Maze current = generator(rule, GENERATIONS, ForkJoinPool.commonPool()).generate(HEIGHT, WIDTH, SEED);
+            for (int row = 0; row < HEIGHT; row++) {
+                for (int col = 0; col < WIDTH; col++) {
+                    int neighbors = 0;
+                    for (int dr = -1; dr <= 1; dr++) {
+                        for (int dc = -1; dc <= 1; dc++) {
+                            if ((dr != 0 || dc != 0) && isWall(previous, row + dr, col + dc)) {
+                                neighbors++;
+                            }
+                        }
+                    }
+                    boolean alive = isWall(previous, row, col);
+                    boolean expected = alive ? rule.survives(neighbors) : rule.born(neighbors);
+                    assertEquals(expected, isWall(current, row, col),
+                        "Cell (%d, %d) differs for rule %s".formatted(row, col, rule));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testResultDoesNotDependOnThreadCount() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(4);
+        try {
+            Maze first = generator(LifeRule.MAZE, GENERATIONS, single).generate(HEIGHT, WIDTH, SEED);
+            Maze second = generator(LifeRule.MAZE, GENERATIONS, many).generate(Maze.concurrent(HEIGHT, WIDTH),
+                RandomSource.defaultSource().create(SEED));
+            for (int index = 0; index < HEIGHT * WIDTH; index++) {
+                assertEquals(first.getCellType(index), second.getCellType(index));
+            }
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    @Test
+    void testInvalidSettingsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new CellularAutomatonGenerator(
+            RandomSource.defaultSource(), LifeRule.MAZE, -1, CellularAutomatonGenerator.DEFAULT_DENSITY,
+            ForkJoinPool.commonPool()));
+        assertThrows(IllegalArgumentException.class, () -> new CellularAutomatonGenerator(
+            RandomSource.defaultSource(), LifeRule.MAZE, GENERATIONS, 2, ForkJoinPool.commonPool()));
+    }
+
+    private static CellularAutomatonGenerator generator(LifeRule rule, int generations, ForkJoinPool pool) {
+        return new CellularAutomatonGenerator(RandomSource.defaultSource(), rule, generations,
+            CellularAutomatonGenerator.DEFAULT_DENSITY, pool);
+    }
+
+    private static boolean isWall(Maze maze, int row, int col) {
+        return row >= 0 && row < maze.height() && col >= 0 && col < maze.width()
+            && maze.getCellType(row, col) == Cell.Type.WALL;
+    }
+}
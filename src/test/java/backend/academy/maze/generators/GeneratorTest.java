@@ -3,21 +3,48 @@ package backend.academy.maze.generators;
 import backend.academy.maze.Maze;
 import backend.academy.maze.field.Cell;
 import backend.academy.maze.field.Coordinate;
+import backend.academy.maze.grid.MemorySegmentGrid;
+import backend.academy.maze.sinks.CountingCellSink;
+import backend.academy.maze.sinks.MazeCellSink;
+import backend.academy.util.RandomSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class GeneratorTest {
     private final static int HEIGHT = 10;
     private final static int WIDTH = 10;
+    private final static long SEED = 42;
+    private final static int TILE_SIZE = 4;
+    private final static int DIVISION_THRESHOLD = 4;
 
     static List<Generator> generatorProvider() {
-        return List.of(new KruskalGenerator(), new PrimGenerator());
+        return List.of(
+            new KruskalGenerator(),
+            new PrimGenerator(),
+            new EllerGenerator(),
+            new BacktrackerGenerator(),
+            new GrowingTreeGenerator(SelectionPolicy.NEWEST),
+            new GrowingTreeGenerator(SelectionPolicy.OLDEST),
+            new GrowingTreeGenerator(SelectionPolicy.RANDOM),
+            new GrowingTreeGenerator(SelectionPolicy.mix(1, 1, 1)),
+            new BoruvkaGenerator(),
+            new RecursiveDivisionGenerator(RandomSource.defaultSource(), ForkJoinPool.commonPool(), DIVISION_THRESHOLD),
+            new ParallelGenerator(new PrimGenerator(), TILE_SIZE),
+            new ParallelGenerator(new KruskalGenerator(), TILE_SIZE)
+        );
     }
 
     @ParameterizedTest
@@ -90,6 +117,117 @@ class GeneratorTest {
         assertTrue(passageRatio >= 0.3 && passageRatio <= 0.7, "Passage density should be between 30% and 70%");
     }
 
+    @ParameterizedTest
+    @MethodSource("generatorProvider")
+    void testMazeIsPerfect(Generator generator) {
+        Maze maze = generator.generate(HEIGHT, WIDTH);
+        long passages = 0;
+        long links = 0;
+        for (int row = 0; row < maze.height(); row++) {
+            for (int col = 0; col < maze.width(); col++) {
+                if (maze.getCellType(new Coordinate(row, col)) != Cell.Type.PASSAGE) {
+                    continue;
+                }
+                passages++;
+                if (row + 1 < maze.height() && maze.getCellType(new Coordinate(row + 1, col)) == Cell.Type.PASSAGE) {
+                    links++;
+                }
+                if (col + 1 < maze.width() && maze.getCellType(new Coordinate(row, col + 1)) == Cell.Type.PASSAGE) {
+                    links++;
+                }
+            }
+        }
+        Set<Coordinate> visited = new HashSet<>();
+        explorePassages(maze, findAnyPassage(maze), visited);
+
+        assertEquals(passages, visited.size(), "Perfect maze should be connected.");
+        assertEquals(passages - 1, links, "Perfect maze should not contain cycles.");
+    }
+
+    @ParameterizedTest
+    @MethodSource("generatorProvider")
+    void testSameSeedProducesSameMaze(Generator generator) {
+        Maze first = generator.generate(HEIGHT + 1, WIDTH + 1, SEED);
+        Maze second = generator.generate(HEIGHT + 1, WIDTH + 1, SEED);
+        for (int row = 0; row < first.height(); row++) {
+            for (int col = 0; col < first.width(); col++) {
+                Coordinate c = new Coordinate(row, col);
+                assertEquals(first.getCellType(c), second.getCellType(c), "Same seed should give the same maze.");
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("generatorProvider")
+    void testConcurrentGridGivesSameMaze(Generator generator) {
+        Maze plain = generator.generate(new Maze(HEIGHT + 1, WIDTH + 1), generator.randomSource().create(SEED));
+        Maze concurrent = generator.generate(Maze.concurrent(HEIGHT + 1, WIDTH + 1),
+            generator.randomSource().create(SEED));
+        for (int index = 0; index < plain.grid().size(); index++) {
+            assertEquals(plain.getCellType(index), concurrent.getCellType(index),
+                "Concurrent grid should not change the generated maze.");
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("generatorProvider")
+    void testCellSinkReceivesEveryPassage(Generator generator) {
+        Maze expected = generator.generate(HEIGHT + 1, WIDTH + 1, SEED);
+        Maze replayed = new Maze(HEIGHT + 1, WIDTH + 1);
+        CountingCellSink counter = new CountingCellSink();
+        Maze generated = generator.generate(new Maze(HEIGHT + 1, WIDTH + 1), generator.randomSource().create(SEED),
+            new MazeCellSink(replayed) {
+                @Override
+                public void cellsOpened(int[] cells, int count) {
+                    super.cellsOpened(cells, count);
+                    counter.cellsOpened(cells, count);
+                }
+            });
+
+        long passages = 0;
+        for (int index = 0; index < expected.grid().size(); index++) {
+            assertEquals(expected.getCellType(index), generated.getCellType(index),
+                "Sink should not change the generated maze.");
+            assertEquals(expected.getCellType(index), replayed.getCellType(index),
+                "Sink should receive every passage.");
+            if (expected.getCellType(index) == Cell.Type.PASSAGE) {
+                passages++;
+            }
+        }
+        assertEquals(passages, counter.cells(), "Every passage should be reported once.");
+    }
+
+    @ParameterizedTest
+    @MethodSource("generatorProvider")
+    void testGenerateIntoMappedFile(Generator generator, @TempDir Path dir) throws IOException {
+        Path file = dir.resolve("maze.bin");
+        Maze generated;
+        try (Arena arena = Arena.ofConfined()) {
+            generated = generator.generate(new Maze(HEIGHT, WIDTH, MemorySegmentGrid.map(arena, file, HEIGHT * WIDTH)))
+                .getCopy();
+        }
+
+        try (Arena arena = Arena.ofConfined()) {
+            Maze reopened = new Maze(HEIGHT, WIDTH, MemorySegmentGrid.map(arena, file, HEIGHT * WIDTH));
+            for (int row = 0; row < HEIGHT; row++) {
+                for (int col = 0; col < WIDTH; col++) {
+                    Coordinate c = new Coordinate(row, col);
+                    assertEquals(generated.getCellType(c), reopened.getCellType(c),
+                        "Maze read back from the file should match the generated one.");
+                }
+            }
+        }
+    }
+
+    @Test
+    void testKruskalCheckBorders() {
+        KruskalGenerator generator = new KruskalGenerator();
+        assertTrue(generator.checkBorders(new Coordinate(0, 0), 3, 4));
+        assertTrue(generator.checkBorders(new Coordinate(2, 3), 3, 4));
+        assertFalse(generator.checkBorders(new Coordinate(3, 0), 3, 4));
+        assertFalse(generator.checkBorders(new Coordinate(0, 4), 3, 4));
+        assertFalse(generator.checkBorders(new Coordinate(-1, 0), 3, 4));
+    }
 
     private void explorePassages(Maze maze, Coordinate c, Set<Coordinate> visited) {
         if (visited.contains(c) || maze.getCellType(c) != Cell.Type.PASSAGE) {
@@ -0,0 +1,46 @@
+package backend.academy.maze.generators;
+
+import backend.academy.maze.Maze;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParallelGeneratorTest {
+    private final static int SIZE = 101;
+    private final static int TILE_SIZE = 16;
+    private final static long SEED = 42;
+
+    @Test
+    void testOddTileSizeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelGenerator(new PrimGenerator(), TILE_SIZE + 1));
+    }
+
+    @Test
+    void testResultDoesNotDependOnThreadCount() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(4);
+        try {
+            Maze first = new ParallelGenerator(new KruskalGenerator(), TILE_SIZE, single).generate(SIZE, SIZE, SEED);
+            Maze second = new ParallelGenerator(new KruskalGenerator(), TILE_SIZE, many).generate(SIZE, SIZE, SEED);
+            for (int index = 0; index < SIZE * SIZE; index++) {
+                assertEquals(first.getCellType(index), second.getCellType(index));
+            }
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    @Test
+    void testResultDoesNotDependOnStorage() {
+        for (RegionGenerator delegate : new RegionGenerator[] {new PrimGenerator(), new KruskalGenerator()}) {
+            ParallelGenerator generator = new ParallelGenerator(delegate, TILE_SIZE);
+            Maze packed = generator.generate(new Maze(SIZE, SIZE), delegate.randomSource().create(SEED));
+            Maze concurrent = generator.generate(Maze.concurrent(SIZE, SIZE), delegate.randomSource().create(SEED));
+            Maze tiled = generator.generate(Maze.tiled(SIZE, SIZE), delegate.randomSource().create(SEED));
+            assertEquals(concurrent.fingerprint(), packed.fingerprint());
+            assertEquals(concurrent.fingerprint(), tiled.fingerprint());
+        }
+    }
+}
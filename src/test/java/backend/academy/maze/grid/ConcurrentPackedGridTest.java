@@ -0,0 +1,64 @@
+package backend.academy.maze.grid;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Cell;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentPackedGridTest {
+    private static final int SIZE = 1 << 16;
+    private static final int CLAIMS_PER_CELL = 4;
+
+    @Test
+    void testParallelWritesToSharedWordsAreNotLost() {
+        Grid grid = new ConcurrentPackedGrid(SIZE);
+        // Соседние клетки лежат в одном слове, так что потоки постоянно конкурируют за слова
+        IntStream.range(0, SIZE).parallel().forEach(i -> grid.set(i, (byte) (i % CLAIMS_PER_CELL + 1)));
+        grid.publish();
+
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(i % CLAIMS_PER_CELL + 1, grid.get(i), "Write to cell " + i + " was lost.");
+        }
+    }
+
+    @Test
+    void testEachCellIsClaimedOnce() {
+        Maze maze = Maze.concurrent(1, SIZE);
+        AtomicInteger claimed = new AtomicInteger();
+        IntStream.range(0, SIZE * CLAIMS_PER_CELL).parallel().forEach(i -> {
+            if (maze.claimCell(i / CLAIMS_PER_CELL)) {
+                claimed.incrementAndGet();
+            }
+        });
+
+        assertEquals(SIZE, claimed.get(), "Each cell should be claimed by exactly one thread.");
+        assertEquals(Cell.Type.PASSAGE, maze.getCellType(SIZE - 1));
+    }
+
+    @Test
+    void testOpenWallBetweenCells() {
+        Maze maze = Maze.concurrent(1, 3);
+        assertTrue(maze.openWall(0, 2));
+        assertFalse(maze.openWall(2, 0), "Wall should be opened only once.");
+        assertEquals(Cell.Type.PASSAGE, maze.getCellType(1));
+        assertTrue(maze.grid().isConcurrent());
+        assertFalse(new PackedGrid(1).isConcurrent());
+    }
+
+    @Test
+    void testPackedGridCopiesWordsFromConcurrentGrid() {
+        Grid source = new ConcurrentPackedGrid(SIZE - 1);
+        IntStream.range(0, SIZE - 1).parallel().forEach(i -> source.set(i, (byte) (i % CLAIMS_PER_CELL)));
+        source.publish();
+
+        Grid packed = new PackedGrid(SIZE - 1);
+        packed.copyFrom(source);
+        for (int i = 0; i < SIZE - 1; i++) {
+            assertEquals(source.get(i), packed.get(i));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package backend.academy.maze.grid;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.generators.RecursiveDivisionGenerator;
+import org.junit.jupiter.api.Test;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemorySegmentGridTest {
+    private static final int SIZE = (1 << 16) + 3;
+    private static final int CODES = 4;
+    private static final int SIDE = 101;
+
+    @Test
+    void testPacksFourBitsPerCell() {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegmentGrid grid = MemorySegmentGrid.allocate(arena, SIZE);
+            assertEquals(SIZE, grid.size());
+            assertEquals(MemorySegmentGrid.bytesFor(SIZE), grid.footprint());
+            assertTrue(grid.footprint() < SIZE / 2 + Long.BYTES);
+            assertFalse(grid.isConcurrent(), "Grid is single-threaded unless asked otherwise.");
+        }
+    }
+
+    @Test
+    void testSingleThreadedGridMatchesPackedGrid() {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegmentGrid grid = MemorySegmentGrid.allocate(arena, SIZE);
+            PackedGrid packed = new PackedGrid(SIZE);
+            for (int i = 0; i < SIZE; i += 3) {
+                grid.set(i, (byte) (i % CODES));
+                packed.set(i, (byte) (i % CODES));
+            }
+            assertTrue(grid.compareAndSet(1, (byte) 0, (byte) 2));
+            assertFalse(grid.compareAndSet(1, (byte) 0, (byte) 3));
+            packed.set(1, (byte) 2);
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals(packed.get(i), grid.get(i));
+            }
+            assertEquals(packed.fingerprint(), grid.copy().fingerprint());
+        }
+    }
+
+    @Test
+    void testRejectsSegmentsThatDoNotFit() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new MemorySegmentGrid(MemorySegment.ofArray(new long[1]), 2 * Long.SIZE));
+        assertThrows(IllegalArgumentException.class,
+            () -> new MemorySegmentGrid(MemorySegment.ofArray(new byte[Long.BYTES]), 1));
+    }
+
+    @Test
+    void testParallelWritesToSharedSegment() {
+        try (Arena arena = Arena.ofShared()) {
+            Grid grid = MemorySegmentGrid.allocate(arena, SIZE, true);
+            assertTrue(grid.isConcurrent());
+            IntStream.range(0, SIZE).parallel().forEach(i -> grid.set(i, (byte) (i % CODES)));
+            grid.publish();
+
+            PackedGrid packed = new PackedGrid(SIZE);
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals(i % CODES, grid.get(i), "Write to cell " + i + " was lost.");
+                packed.set(i, grid.get(i));
+            }
+            assertEquals(packed.fingerprint(), grid.fingerprint());
+        }
+    }
+
+    @Test
+    void testGeneratorWritesSharedSegmentInPlace() {
+        try (Arena arena = Arena.ofShared()) {
+            Maze maze = new Maze(SIDE, SIDE, MemorySegmentGrid.allocate(arena, SIDE * SIDE, true));
+            Maze expected = new RecursiveDivisionGenerator().generate(SIDE, SIDE, 7);
+            new RecursiveDivisionGenerator().generate(maze, new RecursiveDivisionGenerator().randomSource().create(7));
+            for (int i = 0; i < SIDE * SIDE; i++) {
+                assertEquals(expected.getCellType(i), maze.getCellType(i));
+            }
+        }
+    }
+}
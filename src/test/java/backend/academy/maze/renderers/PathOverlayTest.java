@@ -0,0 +1,36 @@
+package backend.academy.maze.renderers;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.field.Coordinate;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PathOverlayTest {
+    @Test
+    void testOverlayPaintsPathWithoutChangingMaze() {
+        Maze maze = new Maze(3, 3);
+        for (int col = 0; col < 3; col++) {
+            maze.setCellType(new Coordinate(1, col), Cell.Type.PASSAGE);
+        }
+        PathOverlay overlay = new PathOverlay(maze,
+            List.of(new Coordinate(1, 0), new Coordinate(1, 1), new Coordinate(1, 2)));
+
+        assertEquals(Cell.Type.START, overlay.getCellType(1, 0));
+        assertEquals(Cell.Type.PATH, overlay.getCellType(1, 1));
+        assertEquals(Cell.Type.FINISH, overlay.getCellType(1, 2));
+        assertEquals(Cell.Type.WALL, overlay.getCellType(0, 1));
+        for (int col = 0; col < 3; col++) {
+            assertEquals(Cell.Type.PASSAGE, maze.getCellType(1, col), "Original maze should stay untouched.");
+        }
+    }
+
+    @Test
+    void testSingleCellPathIsFinish() {
+        Maze maze = new Maze(2, 2);
+        maze.setCellType(new Coordinate(0, 0), Cell.Type.PASSAGE);
+        PathOverlay overlay = new PathOverlay(maze, List.of(new Coordinate(0, 0)));
+        assertEquals(Cell.Type.FINISH, overlay.getCellType(0, 0));
+    }
+}
@@ -0,0 +1,85 @@
+package backend.academy.maze.sinks;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.generators.EllerGenerator;
+import backend.academy.maze.generators.PrimGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CellSinkTest {
+    private final static int HEIGHT = 101;
+    private final static int WIDTH = 101;
+    private final static long SEED = 42;
+    private final static int CAPACITY = 16;
+
+    @Test
+    void testBufferBatchesCellsAndReportsProgress() {
+        CountingCellSink counter = new CountingCellSink();
+        List<Double> progress = new ArrayList<>();
+        CellSink sink = new CellSink() {
+            @Override
+            public void cellsOpened(int[] cells, int count) {
+                counter.cellsOpened(cells, count);
+            }
+
+            @Override
+            public void progress(double fraction) {
+                progress.add(fraction);
+            }
+        };
+        CellBuffer buffer = new CellBuffer(sink, 2 * CAPACITY + 1, CAPACITY);
+        for (int cell = 0; cell < 2 * CAPACITY + 1; cell++) {
+            buffer.open(cell);
+        }
+        assertEquals(2, counter.batches());
+        buffer.finish();
+
+        assertEquals(3, counter.batches());
+        assertEquals(2 * CAPACITY + 1, counter.cells());
+        assertEquals(1.0, progress.getLast());
+        for (int i = 1; i < progress.size(); i++) {
+            assertTrue(progress.get(i - 1) <= progress.get(i), "Progress should not decrease.");
+        }
+    }
+
+    @Test
+    void testRowGeneratorReportsEveryRow() {
+        CountingCellSink counter = new CountingCellSink();
+        new EllerGenerator().generate(new Maze(HEIGHT, WIDTH), new EllerGenerator().randomSource().create(SEED),
+            counter);
+
+        assertEquals(HEIGHT, counter.rows());
+        assertEquals(CellBuffer.perfectMazePassages(HEIGHT, WIDTH), counter.cells());
+        assertEquals(1.0, counter.progress());
+        assertTrue(counter.finished());
+    }
+
+    @Test
+    void testStreamSinkWritesOpenedCells(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("cells.bin");
+        PrimGenerator generator = new PrimGenerator();
+        Maze maze;
+        try (StreamCellSink sink = StreamCellSink.toFile(file)) {
+            maze = generator.generate(new Maze(HEIGHT, WIDTH), generator.randomSource().create(SEED), sink);
+        }
+
+        Maze replayed = new Maze(HEIGHT, WIDTH);
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            for (long i = Files.size(file) / Integer.BYTES; i > 0; i--) {
+                replayed.setCellType(in.readInt(), Cell.Type.PASSAGE);
+            }
+        }
+        for (int index = 0; index < HEIGHT * WIDTH; index++) {
+            assertEquals(maze.getCellType(index), replayed.getCellType(index));
+        }
+    }
+}
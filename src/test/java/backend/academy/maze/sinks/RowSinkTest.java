@@ -0,0 +1,76 @@
+package backend.academy.maze.sinks;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.generators.EllerGenerator;
+import backend.academy.maze.grid.MemorySegmentGrid;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.foreign.Arena;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RowSinkTest {
+    private final static int HEIGHT = 12;
+    private final static int WIDTH = 9;
+    private final static long SEED = 42;
+
+    @Test
+    void testRowsAreEmittedInOrder() throws IOException {
+        List<Integer> rows = new ArrayList<>();
+        new EllerGenerator().generate(HEIGHT, WIDTH, (row, codes) -> {
+            assertEquals(WIDTH, codes.length);
+            rows.add(row);
+        }, SEED);
+
+        assertEquals(HEIGHT, rows.size());
+        for (int row = 0; row < HEIGHT; row++) {
+            assertEquals(row, rows.get(row));
+        }
+    }
+
+    @Test
+    void testLastRowOfEvenHeightIsWall() {
+        Maze maze = new EllerGenerator().generate(HEIGHT, WIDTH, SEED);
+        for (int col = 0; col < WIDTH; col++) {
+            assertEquals(Cell.Type.WALL, maze.getCellType(HEIGHT - 1, col));
+        }
+    }
+
+    @Test
+    void testStreamSinkMatchesMaze(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("maze.bin");
+        EllerGenerator generator = new EllerGenerator();
+        try (StreamRowSink sink = StreamRowSink.toFile(file)) {
+            generator.generate(HEIGHT, WIDTH, sink, SEED);
+        }
+        Maze expected = generator.generate(HEIGHT, WIDTH, SEED);
+
+        assertEquals(((long) HEIGHT * WIDTH + 1) / 2, Files.size(file));
+        try (Arena arena = Arena.ofConfined()) {
+            Maze streamed = new Maze(HEIGHT, WIDTH, MemorySegmentGrid.map(arena, file, HEIGHT * WIDTH));
+            for (int index = 0; index < HEIGHT * WIDTH; index++) {
+                assertEquals(expected.getCellType(index), streamed.getCellType(index));
+            }
+        }
+    }
+
+    @Test
+    void testTextSinkPrintsEveryRow() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new EllerGenerator().generate(HEIGHT, WIDTH, new TextRowSink(new PrintStream(out, true, StandardCharsets.UTF_8)),
+            SEED);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split(System.lineSeparator());
+        assertEquals(HEIGHT, lines.length);
+        assertTrue(lines[0].startsWith(Cell.Type.PASSAGE.toString()));
+    }
+}
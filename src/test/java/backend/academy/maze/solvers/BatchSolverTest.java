@@ -0,0 +1,104 @@
+package backend.academy.maze.solvers;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Coordinate;
+import backend.academy.maze.generators.KruskalGenerator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchSolverTest {
+    private static final int SIZE = 61;
+    private static final int QUERIES = 200;
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+    private static final Maze MAZE = new KruskalGenerator().generate(SIZE, SIZE, 0);
+
+    static List<Solver> provideSolvers() {
+        return List.of(new BreadthFirstSearchSolver(), new AStarSolver(), new BidirectionalSolver(),
+            new TreeIndexSolver());
+    }
+
+    @AfterAll
+    static void tearDown() {
+        POOL.shutdown();
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideSolvers")
+    void testSolveAllKeepsQueryOrder(Solver solver) {
+        List<PathQuery> queries = randomQueries(QUERIES);
+        List<LinkedList<Coordinate>> paths = new BatchSolver(solver, POOL).solveAll(MAZE, queries);
+        int[][] indices = new BatchSolver(solver, POOL).findPaths(MAZE, queries);
+
+        assertEquals(queries.size(), paths.size());
+        assertEquals(queries.size(), indices.length);
+        for (int i = 0; i < queries.size(); i++) {
+            PathQuery query = queries.get(i);
+            LinkedList<Coordinate> expected = new BreadthFirstSearchSolver().solve(MAZE, query.start(), query.finish());
+            assertEquals(expected, paths.get(i), "Query " + i);
+            assertArrayEquals(expected.stream().mapToInt(MAZE::indexOf).toArray(), indices[i], "Query " + i);
+        }
+    }
+
+    @Test
+    void testSolveEachDeliversEveryQuery() {
+        List<PathQuery> queries = randomQueries(QUERIES);
+        Map<PathQuery, LinkedList<Coordinate>> results = new ConcurrentHashMap<>();
+        new BatchSolver(new BreadthFirstSearchSolver(), POOL).solveEach(MAZE, queries.stream(), results::put);
+
+        assertEquals(Set.copyOf(queries).size(), results.size());
+        for (PathQuery query : queries) {
+            assertEquals(new BreadthFirstSearchSolver().solve(MAZE, query.start(), query.finish()),
+                results.get(query));
+        }
+    }
+
+    @Test
+    void testQueriesRunInGivenPool() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        Solver recording = (maze, start, finish) -> {
+            threads.add(Thread.currentThread());
+            return new LinkedList<>();
+        };
+        BatchSolver batch = new BatchSolver(recording, POOL);
+        batch.solveAll(MAZE, randomQueries(QUERIES));
+        batch.findPaths(MAZE, randomQueries(QUERIES));
+        batch.solveEach(MAZE, randomQueries(QUERIES).stream(), (query, path) -> { });
+
+        assertTrue(threads.stream().allMatch(thread -> thread instanceof ForkJoinWorkerThread worker
+            && worker.getPool() == POOL), "Every query should be solved by a worker of the given pool.");
+    }
+
+    @Test
+    void testEmptyBatch() {
+        BatchSolver batch = new BatchSolver();
+        assertTrue(batch.solveAll(MAZE, List.of()).isEmpty());
+        assertEquals(0, batch.findPaths(MAZE, List.of()).length);
+    }
+
+    private static List<PathQuery> randomQueries(int count) {
+        SplittableRandom random = new SplittableRandom(count);
+        List<PathQuery> queries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            queries.add(new PathQuery(randomCell(random), randomCell(random)));
+        }
+        return queries;
+    }
+
+    private static Coordinate randomCell(SplittableRandom random) {
+        return new Coordinate(2 * random.nextInt((SIZE + 1) / 2), 2 * random.nextInt((SIZE + 1) / 2));
+    }
+}
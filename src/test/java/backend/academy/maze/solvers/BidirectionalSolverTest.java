@@ -0,0 +1,123 @@
+package backend.academy.maze.solvers;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.field.Coordinate;
+import backend.academy.maze.generators.CellularAutomatonGenerator;
+import backend.academy.maze.generators.KruskalGenerator;
+import backend.academy.maze.generators.LifeRule;
+import backend.academy.util.RandomSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BidirectionalSolverTest {
+    private static final int SIZE = 61;
+    private static final int SEEDS = 5;
+    private static final int GENERATIONS = 3;
+    private static final double CAVE_DENSITY = 0.45;
+    private static final Coordinate START = new Coordinate(0, 0);
+    private static final ForkJoinPool POOL = new ForkJoinPool(2);
+
+    static List<Solver> provideSolvers() {
+        return List.of(new BidirectionalSolver(BidirectionalSolver.Mode.BFS),
+            new BidirectionalSolver(BidirectionalSolver.Mode.A_STAR),
+            new BidirectionalSolver(BidirectionalSolver.Mode.PARALLEL_BFS, POOL));
+    }
+
+    static List<Solver> provideShortestPathSolvers() {
+        return List.of(new BidirectionalSolver(BidirectionalSolver.Mode.BFS),
+            new BidirectionalSolver(BidirectionalSolver.Mode.A_STAR));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        POOL.shutdown();
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideSolvers")
+    void testMatchesBreadthFirstSearchOnPerfectMazes(Solver solver) {
+        Coordinate corner = new Coordinate(SIZE - 1, SIZE - 1);
+        Coordinate middle = new Coordinate(SIZE / 2 & ~1, SIZE / 2 & ~1);
+        for (long seed = 0; seed < SEEDS; seed++) {
+            Maze maze = new KruskalGenerator().generate(SIZE, SIZE, seed);
+            assertEquals(new BreadthFirstSearchSolver().solve(maze, START, corner), solver.solve(maze, START, corner));
+            assertEquals(new BreadthFirstSearchSolver().solve(maze, corner, middle),
+                solver.solve(maze, corner, middle));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideShortestPathSolvers")
+    void testShortestPathInMazeWithCycles(Solver solver) {
+        for (long seed = 0; seed < SEEDS; seed++) {
+            Maze cave = new CellularAutomatonGenerator(RandomSource.defaultSource(), LifeRule.parse("B5678/S45678"),
+                GENERATIONS, CAVE_DENSITY, POOL).generate(SIZE, SIZE, seed);
+            Coordinate from = firstPassage(cave, 0);
+            Coordinate to = firstPassage(cave, SIZE - 1);
+            LinkedList<Coordinate> expected = new BreadthFirstSearchSolver().solve(cave, from, to);
+            LinkedList<Coordinate> path = solver.solve(cave, from, to);
+            assertTrue(expected.size() > 1, "Cave should connect its top and bottom rows");
+            assertEquals(expected.size(), path.size(), "Seed " + seed);
+            assertValidPath(cave, path, from, to);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideSolvers")
+    void testUnreachableAndTrivialPaths(Solver solver) {
+        Maze maze = new Maze(SIZE, SIZE);
+        maze.setCellType(START, Cell.Type.PASSAGE);
+        Coordinate corner = new Coordinate(SIZE - 1, SIZE - 1);
+        maze.setCellType(corner, Cell.Type.PASSAGE);
+
+        assertTrue(solver.solve(maze, START, corner).isEmpty());
+        assertEquals(List.of(START), solver.solve(maze, START, START));
+    }
+
+    @Test
+    void testBidirectionalSearchExpandsFewerCells() {
+        Maze field = new Maze(SIZE, SIZE);
+        for (int index = 0; index < SIZE * SIZE; index++) {
+            field.setCellType(index, Cell.Type.PASSAGE);
+        }
+        int finish = SIZE * SIZE - 1;
+        BreadthFirstSearch single = new BreadthFirstSearch(SIZE * SIZE);
+        BidirectionalSearch both = new BidirectionalSearch(SIZE * SIZE);
+        single.findPath(field.grid(), SIZE, SIZE, 0, finish);
+        both.findPathBfs(field.grid(), SIZE, SIZE, 0, finish);
+        assertTrue(both.expanded() < single.expanded(),
+            "Expanded %d cells, single-direction search expanded %d".formatted(both.expanded(), single.expanded()));
+    }
+
+    private static Coordinate firstPassage(Maze maze, int row) {
+        for (int r = row; ; r += row == 0 ? 1 : -1) {
+            for (int col = 0; col < maze.width(); col++) {
+                if (maze.getCellType(r, col) == Cell.Type.PASSAGE) {
+                    return new Coordinate(r, col);
+                }
+            }
+        }
+    }
+
+    private static void assertValidPath(Maze maze, LinkedList<Coordinate> path, Coordinate from, Coordinate to) {
+        if (path.isEmpty()) {
+            return;
+        }
+        assertEquals(from, path.getFirst());
+        assertEquals(to, path.getLast());
+        for (int i = 1; i < path.size(); i++) {
+            Coordinate a = path.get(i - 1);
+            Coordinate b = path.get(i);
+            assertEquals(1, Math.abs(a.row() - b.row()) + Math.abs(a.col() - b.col()));
+            assertEquals(Cell.Type.PASSAGE, maze.getCellType(b));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package backend.academy.maze.solvers;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.field.Coordinate;
+import backend.academy.maze.generators.KruskalGenerator;
+import org.junit.jupiter.api.Test;
+import java.util.LinkedList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachingSolverTest {
+    private static final int SIZE = 61;
+    private static final Coordinate START = new Coordinate(0, 0);
+    private static final Coordinate CORNER = new Coordinate(SIZE - 1, SIZE - 1);
+
+    @Test
+    void testRepeatedQueryHitsCache() {
+        Maze maze = new KruskalGenerator().generate(SIZE, SIZE, 0);
+        CachingSolver solver = new CachingSolver(new BreadthFirstSearchSolver());
+        LinkedList<Coordinate> expected = new BreadthFirstSearchSolver().solve(maze, START, CORNER);
+
+        assertEquals(expected, solver.solve(maze, START, CORNER));
+        assertEquals(expected, solver.solve(maze, START, CORNER));
+        assertEquals(expected, solver.solve(maze.getCopy(), START, CORNER));
+        assertEquals(1, solver.stats().missCount());
+        assertEquals(2, solver.stats().hitCount());
+        assertEquals(1, solver.cachedPaths());
+    }
+
+    @Test
+    void testChangedMazeMissesCache() {
+        Maze maze = new Maze(1, 5);
+        for (int col = 0; col < maze.width(); col++) {
+            maze.setCellType(new Coordinate(0, col), Cell.Type.PASSAGE);
+        }
+        CachingSolver solver = new CachingSolver(new BreadthFirstSearchSolver());
+        Coordinate end = new Coordinate(0, 4);
+        assertEquals(5, solver.solve(maze, START, end).size());
+
+        maze.setCellType(new Coordinate(0, 2), Cell.Type.WALL);
+        assertTrue(solver.solve(maze, START, end).isEmpty());
+        assertTrue(solver.solve(maze, START, end).isEmpty());
+        assertEquals(2, solver.stats().missCount());
+        assertEquals(1, solver.stats().hitCount());
+    }
+
+    @Test
+    void testStaleCachedPathIsRejected() {
+        Maze maze = new Maze(1, 5);
+        for (int col = 0; col < maze.width(); col++) {
+            maze.setCellType(new Coordinate(0, col), Cell.Type.PASSAGE);
+        }
+        CachingSolver solver = new CachingSolver(new BreadthFirstSearchSolver());
+        Coordinate end = new Coordinate(0, 4);
+        assertEquals(5, solver.solve(maze, START, end).size());
+
+        // Запись в обход лабиринта без publish() оставляет старый отпечаток
+        long fingerprint = maze.fingerprint();
+        maze.grid().set(2, Cell.Type.WALL.code());
+        assertEquals(fingerprint, maze.fingerprint());
+        assertTrue(solver.solve(maze, START, end).isEmpty(), "Cached path through a wall should be rejected.");
+        assertTrue(solver.solve(maze, START, end).isEmpty());
+    }
+
+    @Test
+    void testPathsSurviveEncoding() {
+        Maze maze = new KruskalGenerator().generate(SIZE, SIZE, 1);
+        CachingSolver solver = new CachingSolver(new BreadthFirstSearchSolver());
+        for (int row = 0; row < SIZE; row += 2) {
+            Coordinate finish = new Coordinate(row, SIZE - 1 - row);
+            LinkedList<Coordinate> expected = new BreadthFirstSearchSolver().solve(maze, CORNER, finish);
+            solver.solve(maze, CORNER, finish);
+            assertEquals(expected, solver.solve(maze, CORNER, finish));
+        }
+    }
+
+    @Test
+    void testWeightBoundEvictsPaths() {
+        Maze maze = new KruskalGenerator().generate(SIZE, SIZE, 2);
+        CachingSolver solver = new CachingSolver(new BreadthFirstSearchSolver(), 1024);
+        for (int row = 0; row < SIZE; row += 2) {
+            solver.solve(maze, START, new Coordinate(row, SIZE - 1));
+        }
+        assertTrue(solver.stats().evictionCount() > 0);
+        assertTrue(solver.cachedPaths() < (SIZE + 1) / 2);
+
+        solver.invalidateAll();
+        assertEquals(0, solver.cachedPaths());
+    }
+}
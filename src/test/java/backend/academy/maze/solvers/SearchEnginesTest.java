@@ -0,0 +1,57 @@
+package backend.academy.maze.solvers;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Coordinate;
+import backend.academy.maze.generators.KruskalGenerator;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SearchEnginesTest {
+    private static final int SIZE = 31;
+
+    @Test
+    void testReusesEngineUntilReleased() {
+        SearchEngines<BreadthFirstSearch> engines =
+            new SearchEngines<>(BreadthFirstSearch::new, BreadthFirstSearch::capacity);
+        BreadthFirstSearch engine = engines.get(SIZE * SIZE);
+        assertSame(engine, engines.get(SIZE));
+        assertNotSame(engine, engines.get(SIZE * SIZE + 1), "Engine should grow for a larger maze.");
+
+        BreadthFirstSearch grown = engines.get(SIZE);
+        engines.release();
+        assertNotSame(grown, engines.get(SIZE), "Released engine should not be reused.");
+    }
+
+    @Test
+    void testEnginesAreThreadLocal() throws InterruptedException {
+        SearchEngines<AStarSearch> engines = new SearchEngines<>(AStarSearch::new, AStarSearch::capacity);
+        AStarSearch engine = engines.get(SIZE);
+        AStarSearch[] other = new AStarSearch[1];
+        Thread thread = Thread.ofPlatform().start(() -> other[0] = engines.get(SIZE));
+        thread.join();
+        assertNotSame(engine, other[0]);
+        assertSame(engine, engines.get(SIZE));
+    }
+
+    @Test
+    void testSolversWorkAfterRelease() {
+        Maze maze = new KruskalGenerator().generate(SIZE, SIZE, 0);
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate finish = new Coordinate(SIZE - 1, SIZE - 1);
+        AStarSolver aStar = new AStarSolver();
+        BreadthFirstSearchSolver bfs = new BreadthFirstSearchSolver();
+        BidirectionalSolver bidirectional = new BidirectionalSolver();
+
+        int length = bfs.solve(maze, start, finish).size();
+        aStar.solve(maze, start, finish);
+        bidirectional.solve(maze, start, finish);
+        aStar.release();
+        bfs.release();
+        bidirectional.release();
+        assertEquals(length, aStar.solve(maze, start, finish).size());
+        assertEquals(length, bfs.solve(maze, start, finish).size());
+        assertEquals(length, bidirectional.solve(maze, start, finish).size());
+    }
+}
@@ -1,13 +1,22 @@
 package backend.academy.maze.solvers;
 
 import backend.academy.maze.Maze;
+import backend.academy.maze.benchmarks.LegacyAStarSolver;
 import backend.academy.maze.field.Cell;
 import backend.academy.maze.field.Coordinate;
+import backend.academy.maze.generators.CellularAutomatonGenerator;
+import backend.academy.maze.generators.KruskalGenerator;
+import backend.academy.maze.generators.LifeRule;
+import backend.academy.util.RandomSource;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -16,6 +25,12 @@ class SolverTest {
     private Maze maze;
     private static final Coordinate START = new Coordinate(0, 0);
     private static final Coordinate FINISH = new Coordinate(4, 4);
+    private static final int SIZE = 51;
+    private static final int SEEDS = 5;
+    private static final int QUERIES = 40;
+    private static final int GENERATIONS = 3;
+    private static final double CAVE_DENSITY = 0.45;
+    private static final double OBSTACLE_DENSITY = 0.3;
 
     @BeforeEach
     void setUp() {
@@ -24,7 +39,11 @@ class SolverTest {
     }
 
     static List<Solver> provideSolvers() {
-        return List.of(new DepthFirstSearchSolver(), new AStarSolver());
+        return List.of(new DepthFirstSearchSolver(), new AStarSolver(), new BreadthFirstSearchSolver());
+    }
+
+    static List<Solver> provideShortestPathSolvers() {
+        return List.of(new AStarSolver(), new BreadthFirstSearchSolver());
     }
 
     @ParameterizedTest
@@ -53,6 +72,113 @@ class SolverTest {
         }
     }
 
+    @Test
+    void testAStarMatchesLegacySolverOnPerfectMazes() {
+        Coordinate corner = new Coordinate(SIZE - 1, SIZE - 1);
+        for (long seed = 0; seed < SEEDS; seed++) {
+            Maze perfect = new KruskalGenerator().generate(SIZE, SIZE, seed);
+            assertEquals(new LegacyAStarSolver().solve(perfect, START, corner),
+                new AStarSolver().solve(perfect, START, corner), "Seed " + seed);
+        }
+    }
+
+    @Test
+    void testAStarFindsShortestPathsInCaves() {
+        for (long seed = 0; seed < SEEDS; seed++) {
+            Maze cave = new CellularAutomatonGenerator(RandomSource.defaultSource(), LifeRule.parse("B5678/S45678"),
+                GENERATIONS, CAVE_DENSITY, ForkJoinPool.commonPool()).generate(SIZE, SIZE, seed);
+            assertShortestPaths(cave, seed);
+        }
+    }
+
+    @Test
+    void testAStarFindsShortestPathsAroundObstacles() {
+        for (long seed = 0; seed < SEEDS; seed++) {
+            SplittableRandom random = new SplittableRandom(seed);
+            Maze field = new Maze(SIZE, SIZE);
+            for (int index = 0; index < SIZE * SIZE; index++) {
+                if (random.nextDouble() >= OBSTACLE_DENSITY) {
+                    field.setCellType(index, Cell.Type.PASSAGE);
+                }
+            }
+            assertShortestPaths(field, seed);
+        }
+    }
+
+    @Test
+    void testBreadthFirstSearchMatchesAStar() {
+        Coordinate corner = new Coordinate(SIZE - 1, SIZE - 1);
+        for (long seed = 0; seed < SEEDS; seed++) {
+            Maze perfect = new KruskalGenerator().generate(SIZE, SIZE, seed);
+            assertEquals(new AStarSolver().solve(perfect, START, corner),
+                new BreadthFirstSearchSolver().solve(perfect, START, corner), "Seed " + seed);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideSolvers")
+    void testFindPathMatchesSolve(Solver solver) {
+        int[] expected = solver.solve(maze, START, FINISH).stream().mapToInt(maze::indexOf).toArray();
+        assertArrayEquals(expected, solver.findPath(maze, maze.indexOf(START), maze.indexOf(FINISH)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideShortestPathSolvers")
+    void testShortestPathInOpenField(Solver solver) {
+        Maze field = new Maze(SIZE, SIZE);
+        for (int index = 0; index < SIZE * SIZE; index++) {
+            field.setCellType(index, Cell.Type.PASSAGE);
+        }
+        Coordinate corner = new Coordinate(SIZE - 1, SIZE - 1);
+        assertEquals(2 * (SIZE - 1) + 1, solver.solve(field, START, corner).size());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideShortestPathSolvers")
+    void testEmptyPathWhenFinishIsUnreachable(Solver solver) {
+        maze.setCellType(new Coordinate(4, 1), Cell.Type.WALL);
+        assertTrue(solver.solve(maze, START, FINISH).isEmpty());
+    }
+
+    /**
+     * Сравнивает A* с поиском в ширину на случайных запросах в лабиринте с циклами: кратчайших путей
+     * там много, поэтому сравниваются длины, а сам путь проверяется по клеткам. Старый A* здесь не годится
+     * как эталон: он перезаписывает предка уже найденной клетки и на циклах возвращает пути длиннее,
+     * а на открытых участках его очередь разрастается повторами клеток.
+     */
+    private static void assertShortestPaths(Maze maze, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        AStarSolver solver = new AStarSolver();
+        int reachable = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            Coordinate from = randomPassage(maze, random);
+            Coordinate to = randomPassage(maze, random);
+            LinkedList<Coordinate> expected = new BreadthFirstSearchSolver().solve(maze, from, to);
+            LinkedList<Coordinate> path = solver.solve(maze, from, to);
+            assertEquals(expected.size(), path.size(), "Seed " + seed + ", " + from + " -> " + to);
+            if (!path.isEmpty()) {
+                reachable++;
+                assertEquals(from, path.getFirst());
+                assertEquals(to, path.getLast());
+                for (int step = 1; step < path.size(); step++) {
+                    assertEquals(1, Math.abs(path.get(step - 1).row() - path.get(step).row())
+                        + Math.abs(path.get(step - 1).col() - path.get(step).col()));
+                    assertEquals(Cell.Type.PASSAGE, maze.getCellType(path.get(step)));
+                }
+            }
+        }
+        assertTrue(reachable > 0, "Some queries should have a path");
+    }
+
+    private static Coordinate randomPassage(Maze maze, SplittableRandom random) {
+        while (true) {
+            Coordinate c = new Coordinate(random.nextInt(maze.height()), random.nextInt(maze.width()));
+            if (maze.getCellType(c) == Cell.Type.PASSAGE) {
+                return c;
+            }
+        }
+    }
+
     private boolean isNeighbor(Coordinate a, Coordinate b) {
         int rowDiff = Math.abs(a.row() - b.row());
         int colDiff = Math.abs(a.col() - b.col());
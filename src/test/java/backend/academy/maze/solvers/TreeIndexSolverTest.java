@@ -0,0 +1,135 @@
+package backend.academy.maze.solvers;
+
+import backend.academy.maze.Maze;
+import backend.academy.maze.field.Cell;
+import backend.academy.maze.field.Coordinate;
+import backend.academy.maze.generators.Generator;
+import backend.academy.maze.generators.KruskalGenerator;
+import backend.academy.maze.generators.PrimGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TreeIndexSolverTest {
+    private static final int SIZE = 61;
+    private static final int SEEDS = 5;
+    private static final int QUERIES = 50;
+
+    static List<Generator> provideGenerators() {
+        return List.of(new PrimGenerator(), new KruskalGenerator());
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideGenerators")
+    void testMatchesBreadthFirstSearchOnPerfectMazes(Generator generator) {
+        for (long seed = 0; seed < SEEDS; seed++) {
+            Maze maze = generator.generate(SIZE, SIZE, seed);
+            TreeIndexSolver solver = new TreeIndexSolver();
+            assertTrue(solver.index(maze).orElseThrow().acyclic());
+            assertEquals(1, solver.index(maze).orElseThrow().components());
+
+            SplittableRandom random = new SplittableRandom(seed);
+            for (int i = 0; i < QUERIES; i++) {
+                Coordinate start = randomCell(random);
+                Coordinate finish = randomCell(random);
+                LinkedList<Coordinate> expected = new BreadthFirstSearchSolver().solve(maze, start, finish);
+                assertEquals(expected, solver.solve(maze, start, finish), "Seed " + seed);
+                assertEquals(expected.size() - 1, solver.distance(maze, start, finish), "Seed " + seed);
+            }
+        }
+    }
+
+    @Test
+    void testFallsBackOnMazeWithCycles() {
+        Maze field = new Maze(SIZE, SIZE);
+        for (int i = 0; i < SIZE * SIZE; i++) {
+            field.setCellType(i, Cell.Type.PASSAGE);
+        }
+        TreeIndexSolver solver = new TreeIndexSolver();
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate finish = new Coordinate(SIZE - 1, SIZE - 1);
+
+        assertTrue(solver.index(field).isEmpty());
+        assertEquals(new BreadthFirstSearchSolver().solve(field, start, finish), solver.solve(field, start, finish));
+        assertEquals(2 * (SIZE - 1), solver.distance(field, start, finish));
+    }
+
+    @Test
+    void testDisconnectedPartsAndWalls() {
+        Maze maze = new Maze(1, 5);
+        maze.setCellType(new Coordinate(0, 0), Cell.Type.PASSAGE);
+        maze.setCellType(new Coordinate(0, 1), Cell.Type.PASSAGE);
+        maze.setCellType(new Coordinate(0, 3), Cell.Type.PASSAGE);
+        maze.setCellType(new Coordinate(0, 4), Cell.Type.PASSAGE);
+        TreeIndexSolver solver = new TreeIndexSolver();
+
+        assertEquals(2, solver.index(maze).orElseThrow().components());
+        assertEquals(List.of(new Coordinate(0, 1), new Coordinate(0, 0)),
+            solver.solve(maze, new Coordinate(0, 1), new Coordinate(0, 0)));
+        assertTrue(solver.solve(maze, new Coordinate(0, 0), new Coordinate(0, 4)).isEmpty());
+        assertEquals(-1, solver.distance(maze, new Coordinate(0, 0), new Coordinate(0, 4)));
+        assertTrue(solver.solve(maze, new Coordinate(0, 0), new Coordinate(0, 2)).isEmpty());
+        assertEquals(List.of(new Coordinate(0, 3)), solver.solve(maze, new Coordinate(0, 3), new Coordinate(0, 3)));
+    }
+
+    @Test
+    void testInvalidateRebuildsIndex() {
+        Maze maze = new KruskalGenerator().generate(SIZE, SIZE, 0);
+        TreeIndexSolver solver = new TreeIndexSolver();
+        assertTrue(solver.index(maze).isPresent());
+
+        maze.setCellType(new Coordinate(1, 1), Cell.Type.PASSAGE);
+        maze.setCellType(new Coordinate(0, 1), Cell.Type.PASSAGE);
+        maze.setCellType(new Coordinate(1, 0), Cell.Type.PASSAGE);
+        solver.invalidate(maze);
+        assertFalse(solver.index(maze).isPresent());
+    }
+
+    @Test
+    void testChangedMazeRebuildsIndexWithoutInvalidate() {
+        Maze maze = new KruskalGenerator().generate(SIZE, SIZE, 1);
+        TreeIndexSolver solver = new TreeIndexSolver();
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate finish = new Coordinate(SIZE - 1, SIZE - 1);
+        LinkedList<Coordinate> path = solver.solve(maze, start, finish);
+
+        maze.setCellType(path.get(path.size() / 2), Cell.Type.WALL);
+        assertTrue(solver.solve(maze, start, finish).isEmpty(), "Stale index should not lead through a wall.");
+        assertEquals(-1, solver.distance(maze, start, finish));
+    }
+
+    @Test
+    void testIndexLargerThanCacheIsStillUsed() {
+        Maze maze = new PrimGenerator().generate(SIZE, SIZE, 2);
+        TreeIndexSolver solver = new TreeIndexSolver(new BreadthFirstSearchSolver(), 1);
+        Coordinate start = new Coordinate(0, 0);
+        Coordinate finish = new Coordinate(SIZE - 1, 0);
+        assertEquals(new BreadthFirstSearchSolver().solve(maze, start, finish), solver.solve(maze, start, finish));
+        assertTrue(solver.index(maze).isPresent());
+    }
+
+    @Test
+    void testLongPathsUseFewJumps() {
+        Maze corridor = new Maze(1, SIZE * SIZE);
+        for (int i = 0; i < SIZE * SIZE; i++) {
+            corridor.setCellType(i, Cell.Type.PASSAGE);
+        }
+        TreeIndex index = new TreeIndex(corridor.grid(), corridor.height(), corridor.width());
+        for (int cell = 0; cell < SIZE * SIZE; cell++) {
+            assertEquals(cell, index.depth(cell));
+            assertEquals(cell / 2, index.ancestor(cell, cell / 2));
+            assertEquals(cell / 2, index.lowestCommonAncestor(cell, cell / 2));
+        }
+        assertEquals(SIZE * SIZE - 1, index.distance(0, SIZE * SIZE - 1));
+    }
+
+    private static Coordinate randomCell(SplittableRandom random) {
+        return new Coordinate(2 * random.nextInt((SIZE + 1) / 2), 2 * random.nextInt((SIZE + 1) / 2));
+    }
+}
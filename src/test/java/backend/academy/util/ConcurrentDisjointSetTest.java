@@ -0,0 +1,43 @@
+package backend.academy.util;
+
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentDisjointSetTest {
+    private static final int SIZE = 100_000;
+
+    @Test
+    void testUnionMergesSets() {
+        ConcurrentDisjointSet set = new ConcurrentDisjointSet(10);
+        assertTrue(set.union(1, 2));
+        assertTrue(set.union(3, 2));
+        assertFalse(set.union(1, 3), "Union inside one set should fail.");
+        assertTrue(set.connected(1, 3));
+        assertFalse(set.connected(1, 4));
+        assertEquals(8, set.components());
+    }
+
+    @Test
+    void testParallelUnionsMergeEachPairOnce() {
+        ConcurrentDisjointSet set = new ConcurrentDisjointSet(SIZE);
+        AtomicInteger merged = new AtomicInteger();
+        // Каждое ребро цепочки объединяют сразу два потока
+        IntStream.range(1, 2 * SIZE).parallel().forEach(i -> {
+            int element = i / 2;
+            if (element > 0 && set.union(element - 1, element)) {
+                merged.incrementAndGet();
+            }
+        });
+
+        assertEquals(SIZE - 1, merged.get(), "Each pair should be merged by exactly one thread.");
+        assertEquals(1, set.components());
+        int root = set.find(0);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(root, set.find(i));
+        }
+    }
+}
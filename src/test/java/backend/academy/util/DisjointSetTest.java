@@ -0,0 +1,54 @@
+package backend.academy.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DisjointSetTest {
+    private DisjointSet set;
+
+    @BeforeEach
+    void setUp() {
+        set = new DisjointSet(10);
+    }
+
+    @Test
+    void testInitiallyAllElementsAreSeparate() {
+        assertEquals(10, set.components(), "Each element should start in its own set.");
+        for (int i = 0; i < set.size(); i++) {
+            assertEquals(i, set.find(i), "Each element should be its own root.");
+        }
+    }
+
+    @Test
+    void testUnionMergesSets() {
+        assertTrue(set.union(1, 2), "Union of separate elements should succeed.");
+        assertTrue(set.union(3, 2), "Union of separate sets should succeed.");
+        assertFalse(set.union(1, 3), "Union inside one set should fail.");
+        assertTrue(set.connected(1, 3), "Elements should be connected transitively.");
+        assertFalse(set.connected(1, 4), "Unrelated elements should not be connected.");
+        assertEquals(8, set.components());
+    }
+
+    @Test
+    void testChainCollapsesToSingleSet() {
+        for (int i = 1; i < set.size(); i++) {
+            set.union(i - 1, i);
+        }
+        assertEquals(1, set.components());
+        int root = set.find(0);
+        for (int i = 0; i < set.size(); i++) {
+            assertEquals(root, set.find(i), "All elements should share one root.");
+        }
+    }
+
+    @Test
+    void testReset() {
+        set.union(0, 1);
+        set.reset();
+        assertFalse(set.connected(0, 1), "Reset should split elements again.");
+        assertEquals(10, set.components());
+    }
+}
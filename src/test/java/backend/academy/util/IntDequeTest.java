@@ -0,0 +1,78 @@
+package backend.academy.util;
+
+import org.junit.jupiter.api.Test;
+import java.util.NoSuchElementException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntDequeTest {
+    private static final int COUNT = 100;
+
+    @Test
+    void testBothEndsAcrossGrowth() {
+        IntDeque deque = new IntDeque();
+        for (int i = 0; i < COUNT; i++) {
+            deque.addLast(i);
+            deque.addFirst(-i - 1);
+        }
+        assertEquals(2 * COUNT, deque.size());
+        for (int i = 0; i < COUNT; i++) {
+            assertEquals(-COUNT + i, deque.get(i));
+            assertEquals(i, deque.get(COUNT + i));
+        }
+        assertEquals(-COUNT, deque.removeFirst());
+        assertEquals(COUNT - 1, deque.removeLast());
+    }
+
+    @Test
+    void testRemoveAtKeepsOtherElements() {
+        IntDeque deque = new IntDeque();
+        for (int i = 0; i < COUNT; i++) {
+            deque.addLast(i);
+        }
+        assertEquals(1, deque.removeAt(1));
+        assertEquals(COUNT - 2, deque.removeAt(deque.size() - 2));
+        assertEquals(COUNT - 2, deque.size());
+
+        long sum = 0;
+        for (int i = 0; i < deque.size(); i++) {
+            sum += deque.get(i);
+        }
+        assertEquals((long) COUNT * (COUNT - 1) / 2 - 1 - (COUNT - 2), sum);
+        assertEquals(0, deque.get(0), "Removal from the middle should not move the ends past it.");
+        assertEquals(COUNT - 1, deque.get(deque.size() - 1));
+    }
+
+    @Test
+    void testRemoveAtKeepsInsertionOrder() {
+        IntDeque deque = new IntDeque();
+        // Начало очереди сдвинуто, чтобы элементы переходили через границу кольцевого буфера
+        for (int i = 0; i < COUNT; i++) {
+            deque.addLast(i);
+            deque.removeFirst();
+        }
+        for (int i = 0; i < COUNT; i++) {
+            deque.addLast(i);
+        }
+        deque.removeAt(COUNT / 4);
+        deque.removeAt(deque.size() / 2);
+        deque.removeAt(deque.size() * 3 / 4);
+
+        assertEquals(COUNT - 1, deque.get(deque.size() - 1), "The newest element should stay last.");
+        assertEquals(0, deque.get(0), "The oldest element should stay first.");
+        for (int i = 1; i < deque.size(); i++) {
+            assertTrue(deque.get(i - 1) < deque.get(i), "Elements should stay in insertion order.");
+        }
+        deque.addLast(COUNT);
+        assertEquals(COUNT, deque.get(deque.size() - 1));
+    }
+
+    @Test
+    void testEmptyDequeThrows() {
+        IntDeque deque = new IntDeque();
+        assertTrue(deque.isEmpty());
+        assertThrows(NoSuchElementException.class, deque::removeFirst);
+        assertThrows(IndexOutOfBoundsException.class, () -> deque.get(0));
+    }
+}
@@ -0,0 +1,56 @@
+package backend.academy.util;
+
+import org.junit.jupiter.api.Test;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntIndexedHeapTest {
+    private static final int UNIVERSE = 1000;
+    private static final long SEED = 42;
+
+    @Test
+    void testPollReturnsElementsInKeyOrder() {
+        IntIndexedHeap heap = new IntIndexedHeap(UNIVERSE);
+        Random random = new Random(SEED);
+        for (int e = 0; e < UNIVERSE; e++) {
+            heap.offer(e, random.nextInt(UNIVERSE));
+        }
+        long previous = Long.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            long key = heap.peekKey();
+            int e = heap.poll();
+            assertTrue(previous <= key, "Keys should come out in non-decreasing order.");
+            assertFalse(heap.contains(e));
+            previous = key;
+        }
+    }
+
+    @Test
+    void testDecreaseKeyMovesElementWithoutDuplicates() {
+        IntIndexedHeap heap = new IntIndexedHeap(UNIVERSE);
+        heap.offer(1, 10);
+        heap.offer(2, 20);
+        heap.offer(3, 30);
+        assertFalse(heap.offer(3, 40), "Larger key should not replace a smaller one.");
+        assertTrue(heap.offer(3, 5));
+        assertEquals(3, heap.size());
+        assertEquals(5, heap.key(3));
+        assertEquals(3, heap.poll());
+        assertEquals(1, heap.poll());
+    }
+
+    @Test
+    void testClearForgetsElements() {
+        IntIndexedHeap heap = new IntIndexedHeap(UNIVERSE);
+        heap.offer(7, 1);
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(7));
+        assertThrows(NoSuchElementException.class, heap::poll);
+        assertThrows(NoSuchElementException.class, () -> heap.key(7));
+    }
+}
@@ -0,0 +1,70 @@
+package backend.academy.util;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntRandomizedSetTest {
+    static List<Supplier<IntRandomizedSet>> setProvider() {
+        return List.of(
+            () -> new IntRandomizedSet(new SplittableRandom(1)),
+            () -> new IntRandomizedSet(100, new SplittableRandom(1))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("setProvider")
+    void testAddAndRemove(Supplier<IntRandomizedSet> supplier) {
+        IntRandomizedSet set = supplier.get();
+        assertTrue(set.add(1), "Should return true on adding a new element.");
+        assertFalse(set.add(1), "Should return false when adding an existing element.");
+        assertTrue(set.contains(1), "Set should contain the added element.");
+        assertTrue(set.remove(1), "Should return true on removing an existing element.");
+        assertFalse(set.remove(1), "Should return false when trying to remove a non-existing element.");
+        assertTrue(set.isEmpty(), "Set should be empty.");
+    }
+
+    @ParameterizedTest
+    @MethodSource("setProvider")
+    void testGetRandomAfterRemoval(Supplier<IntRandomizedSet> supplier) {
+        IntRandomizedSet set = supplier.get();
+        for (int i = 0; i < 50; i++) {
+            set.add(i);
+        }
+        set.remove(7);
+        assertEquals(49, set.size());
+
+        Set<Integer> possibleValues = new HashSet<>();
+        for (int i = 0; i < 2000; i++) {
+            possibleValues.add(set.getRandom());
+        }
+        assertEquals(49, possibleValues.size(), "Every remaining element should be drawn.");
+        assertFalse(possibleValues.contains(7), "Random values should not contain removed element.");
+    }
+
+    @ParameterizedTest
+    @MethodSource("setProvider")
+    void testRemoveRandomDrainsSet(Supplier<IntRandomizedSet> supplier) {
+        IntRandomizedSet set = supplier.get();
+        for (int i = 0; i < 40; i++) {
+            set.add(i);
+        }
+        Set<Integer> drained = new HashSet<>();
+        while (!set.isEmpty()) {
+            int e = set.removeRandom();
+            assertFalse(set.contains(e), "Removed element should leave the set.");
+            drained.add(e);
+        }
+        assertEquals(40, drained.size(), "Each element should be drawn exactly once.");
+        assertThrows(NoSuchElementException.class, set::getRandom);
+    }
+}
@@ -0,0 +1,74 @@
+package backend.academy.util;
+
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntRecencyListTest {
+    private static final int OPERATIONS = 100_000;
+    private static final int LARGE = 1 << 20;
+
+    @Test
+    void testEndsFollowInsertionOrder() {
+        IntRecencyList list = new IntRecencyList();
+        List<Integer> expected = new ArrayList<>();
+        SplittableRandom random = new SplittableRandom(0);
+        int added = 0;
+        for (int i = 0; i < OPERATIONS; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                list.addLast(added);
+                expected.add(added++);
+            } else {
+                int index = random.nextInt(list.size());
+                int removed = list.removeAt(index);
+                assertTrue(expected.remove(Integer.valueOf(removed)));
+            }
+            assertEquals(expected.size(), list.size());
+            if (!expected.isEmpty()) {
+                assertEquals(expected.getFirst(), list.get(0), "Position 0 should hold the oldest element.");
+                assertEquals(expected.getLast(), list.get(list.size() - 1), "Last position should hold the newest.");
+            }
+        }
+        List<Integer> rest = new ArrayList<>();
+        for (int i = 0; i < list.size(); i++) {
+            rest.add(list.get(i));
+        }
+        rest.sort(null);
+        assertEquals(expected, rest);
+    }
+
+    @Test
+    void testRemovalFromEnds() {
+        IntRecencyList list = new IntRecencyList();
+        for (int i = 0; i < OPERATIONS; i++) {
+            list.addLast(i);
+        }
+        for (int i = 0; i < OPERATIONS / 2; i++) {
+            assertEquals(i, list.removeAt(0));
+            assertEquals(OPERATIONS - 1 - i, list.removeAt(list.size() - 1));
+        }
+        assertTrue(list.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+    @Test
+    void testRandomRemovalIsConstantTime() {
+        // Удаление со сдвигом элементов заняло бы здесь порядка 10^11 операций
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            IntRecencyList list = new IntRecencyList();
+            for (int i = 0; i < LARGE; i++) {
+                list.addLast(i);
+            }
+            SplittableRandom random = new SplittableRandom(1);
+            while (!list.isEmpty()) {
+                list.removeAt(random.nextInt(list.size()));
+            }
+        });
+    }
+}
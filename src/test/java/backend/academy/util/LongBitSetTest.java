@@ -0,0 +1,36 @@
+package backend.academy.util;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongBitSetTest {
+    private static final int SIZE = 130;
+
+    @Test
+    void testSetAndClearAcrossWords() {
+        LongBitSet set = new LongBitSet(SIZE);
+        for (int i = 0; i < SIZE; i += 3) {
+            set.set(i);
+        }
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(i % 3 == 0, set.get(i), "Bit " + i + " has wrong value.");
+        }
+        set.clear(63);
+        set.clear(129);
+        assertFalse(set.get(63));
+        assertFalse(set.get(129));
+        assertEquals((SIZE + 2) / 3 - 2, set.cardinality());
+    }
+
+    @Test
+    void testAddReportsNewElements() {
+        LongBitSet set = new LongBitSet(SIZE);
+        assertTrue(set.add(64));
+        assertFalse(set.add(64), "Second add of the same element should fail.");
+        set.clear();
+        assertEquals(0, set.cardinality());
+        assertEquals(SIZE, set.size());
+    }
+}
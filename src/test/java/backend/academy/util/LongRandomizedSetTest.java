@@ -0,0 +1,46 @@
+package backend.academy.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongRandomizedSetTest {
+    private LongRandomizedSet set;
+
+    @BeforeEach
+    void setUp() {
+        set = new LongRandomizedSet(new SplittableRandom(1));
+    }
+
+    @Test
+    void testAddAndRemove() {
+        assertTrue(set.add(Long.MAX_VALUE), "Should return true on adding a new element.");
+        assertFalse(set.add(Long.MAX_VALUE), "Should return false when adding an existing element.");
+        assertTrue(set.contains(Long.MAX_VALUE), "Set should contain the added element.");
+        assertTrue(set.remove(Long.MAX_VALUE), "Should return true on removing an existing element.");
+        assertFalse(set.remove(Long.MAX_VALUE), "Should return false when trying to remove a non-existing element.");
+        assertTrue(set.isEmpty(), "Set should be empty.");
+    }
+
+    @Test
+    void testRemoveRandomDrainsSet() {
+        for (long i = 0; i < 40; i++) {
+            set.add(i << 32);
+        }
+        set.remove(3L << 32);
+        Set<Long> drained = new HashSet<>();
+        while (!set.isEmpty()) {
+            drained.add(set.removeRandom());
+        }
+        assertEquals(39, drained.size(), "Each element should be drawn exactly once.");
+        assertFalse(drained.contains(3L << 32), "Removed element should not be drawn.");
+        assertThrows(NoSuchElementException.class, set::removeRandom);
+    }
+}
@@ -0,0 +1,54 @@
+package backend.academy.util;
+
+import org.junit.jupiter.api.Test;
+import java.util.random.RandomGenerator;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RandomSourceTest {
+    @Test
+    void testSameSeedGivesSameSequence() {
+        RandomSource source = RandomSource.of("Xoroshiro128PlusPlus");
+        assertArrayEquals(draw(source.create(7)), draw(source.create(7)),
+            "Generators with the same seed should produce the same numbers.");
+    }
+
+    @Test
+    void testFixedSeedAppliesToCreate() {
+        RandomSource source = RandomSource.defaultSource().withSeed(7);
+        assertArrayEquals(draw(source.create()), draw(source.create()),
+            "Source with a fixed seed should always produce the same numbers.");
+        assertEquals(RandomSource.DEFAULT_ALGORITHM, source.algorithm());
+    }
+
+    @Test
+    void testSecureModeIsOptIn() {
+        assertTrue(RandomSource.secure().isSecure());
+        assertFalse(RandomSource.defaultSource().isSecure(), "Default source should not be secure.");
+    }
+
+    @Test
+    void testUnknownAlgorithmIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> RandomSource.of("NoSuchRandom"));
+    }
+
+    @Test
+    void testSplitIsReproducible() {
+        RandomSource source = RandomSource.defaultSource();
+        RandomGenerator first = source.create(7);
+        RandomGenerator second = source.create(7);
+        assertArrayEquals(draw(source.split(first)), draw(source.split(second)),
+            "Generators split from equal parents should produce the same numbers.");
+    }
+
+    private int[] draw(RandomGenerator random) {
+        int[] numbers = new int[10];
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = random.nextInt();
+        }
+        return numbers;
+    }
+}